@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+# Compares /api/contact throughput and latency of the servlet and reactive profiles.
+#
+# Requires: a built jar (mvn package), a reachable Postgres (DB_URL, R2DBC_URL, DB_USERNAME,
+# DB_PASSWORD) and the 'hey' load generator (https://github.com/rakyll/hey).
+#
+# All requests come from one IP with one sender email, so the IP and email rate limits are off or
+# relaxed for the run, and the servlet profile's admission control is pinned at the concurrency with
+# no per-client cap; otherwise the run would measure the 429 and 503 fast paths instead of the submit
+# path. The history query in the IP limiter grows with the number of rows, so truncate
+# contact_form_submissions_ip between runs.
+#
+# Usage: scripts/bench-profiles.sh [requests] [concurrency]
+set -euo pipefail
+
+REQUESTS=${1:-20000}
+CONCURRENCY=${2:-200}
+PORT=${PORT:-8080}
+JAR=$(ls target/contact-me-app-*.jar | head -n 1)
+BODY='{"fullName":"Bench User","email":"bench@example.com","subject":"bench","messageText":"benchmark message"}'
+
+run_profile() {
+  local profile=$1
+  echo "=== profile: ${profile}"
+  java -jar "$JAR" \
+    --spring.profiles.active="${profile}" \
+    --server.port="${PORT}" \
+    --rate-limit.max-overall-requests=100000000 \
+    --rate-limit.cooldown-minutes=0 \
+    --rate-limit.email.enabled=false \
+    --admission.per-client-max-in-flight="${CONCURRENCY}" \
+    --admission.initial-limit="${CONCURRENCY}" \
+    --admission.min-limit="${CONCURRENCY}" \
+    --admission.max-limit="${CONCURRENCY}" \
+    > "target/bench-${profile}.log" 2>&1 &
+  local pid=$!
+  trap "kill ${pid} 2>/dev/null || true" EXIT
+
+  until curl -sf "http://localhost:${PORT}/actuator/health" > /dev/null; do sleep 1; done
+
+  # Warm up, then measure
+  hey -n 2000 -c 20 -m POST -T application/json -d "$BODY" "http://localhost:${PORT}/api/contact" > /dev/null
+  hey -n "$REQUESTS" -c "$CONCURRENCY" -m POST -T application/json -d "$BODY" "http://localhost:${PORT}/api/contact"
+  echo "Live threads: $(jcmd "$pid" Thread.print | grep -c '^"')"
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run_profile default
+run_profile reactive
@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+# Measures startup time and time-to-first-request of the plain jar and of the startup-optimized
+# launch (Spring AOT + AppCDS archive).
+#
+# Requires: a reachable Postgres (DB_URL, DB_USERNAME, DB_PASSWORD) and broker configuration,
+# and both builds:
+#   mvn -DskipTests package                        -> target/contact-me-app-*.jar   (baseline)
+#   mvn -Paot -DskipTests package, then extract and train as in the Dockerfile (optimized:
+#   app.jar, lib/ and app.jsa in target/optimized; it is started from that directory because
+#   the CDS archive is only valid for the classpath it was recorded with)
+#
+# Spring AOT fixes profiles and @Conditional decisions (e.g. digest.sink) at build time, so the optimized
+# launch always runs the default (servlet) profile with the properties the build saw. Both launches are
+# therefore measured without a profile; the reactive profile can only be measured with the plain jar.
+#
+# "Started in" is Spring's own startup time. "First request" is the wall time from process launch
+# to the first successful POST /api/contact; readiness is only reported after the JIT warm-up.
+#
+# Every run sends the same probe, so the IP and sender email limits are relaxed for the launches.
+# A run that gets no successful response within STARTUP_TIMEOUT_S seconds fails the script.
+#
+# Usage: scripts/measure-startup.sh [runs]
+set -euo pipefail
+
+if [[ -n "${SPRING_PROFILES_ACTIVE:-}" ]]; then
+  echo "SPRING_PROFILES_ACTIVE=${SPRING_PROFILES_ACTIVE} is set, but the AOT build only supports the default profile." >&2
+  exit 1
+fi
+
+RUNS=${1:-5}
+PORT=${PORT:-8080}
+STARTUP_TIMEOUT_S=${STARTUP_TIMEOUT_S:-120}
+BASELINE_JAR=$(ls target/contact-me-app-*.jar | head -n 1)
+OPTIMIZED_DIR=${OPTIMIZED_DIR:-target/optimized}
+BODY='{"fullName":"Startup Probe","email":"probe@example.com","subject":"startup","messageText":"first request"}'
+
+now_ms() { date +%s%3N; }
+
+measure() {
+  local label=$1; shift
+  echo "=== ${label}"
+  for run in $(seq 1 "$RUNS"); do
+    local log="${PWD}/target/startup-${label}-${run}.log"
+    local start
+    start=$(now_ms)
+    "$@" --server.port="${PORT}" --rate-limit.cooldown-minutes=0 --rate-limit.max-overall-requests=100000000 \
+        --rate-limit.email.enabled=false > "$log" 2>&1 &
+    local pid=$!
+    trap "kill ${pid} 2>/dev/null || true" EXIT
+
+    until curl -sf --max-time 5 -o /dev/null -X POST -H 'Content-Type: application/json' -d "$BODY" \
+        "http://localhost:${PORT}/api/contact"; do
+      if (( $(now_ms) - start > STARTUP_TIMEOUT_S * 1000 )); then
+        echo "run ${run}: no successful request after ${STARTUP_TIMEOUT_S}s, see ${log}" >&2
+        exit 1
+      fi
+      sleep 0.05
+    done
+    local first_request=$(( $(now_ms) - start ))
+    local started
+    started=$(grep -o 'Started ContactMeAppApplication in [0-9.]* seconds' "$log" | grep -o '[0-9.]*' | head -n 1)
+    echo "run ${run}: started in ${started}s, first request after ${first_request} ms"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+  done
+}
+
+measure baseline java -jar "$BASELINE_JAR"
+measure optimized bash -c 'cd "$0" && exec java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -jar app.jar "$@"' "$OPTIMIZED_DIR"
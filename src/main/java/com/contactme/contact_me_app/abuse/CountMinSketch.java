@@ -0,0 +1,70 @@
+package com.contactme.contact_me_app.abuse;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch with conservative update: a fixed-size frequency estimator that never
+ * underestimates. With width w and depth d the overestimate is at most 2N/w (N = total count)
+ * with probability 1 - 2^-d. Not thread-safe; callers synchronize.
+ */
+final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long[] counts;
+    private final int[] columns;
+
+    CountMinSketch(int width, int depth) {
+        this.width = width;
+        this.depth = depth;
+        this.counts = new long[width * depth];
+        this.columns = new int[depth];
+    }
+
+    /**
+     * Increments the count of a key and returns its new estimate.
+     * Only the rows holding the current minimum are incremented (conservative update).
+     */
+    long add(String key) {
+        long min = locate(key);
+        for (int row = 0; row < depth; row++) {
+            int cell = row * width + columns[row];
+            if (counts[cell] == min) {
+                counts[cell] = min + 1;
+            }
+        }
+        return min + 1;
+    }
+
+    long estimate(String key) {
+        return locate(key);
+    }
+
+    void clear() {
+        Arrays.fill(counts, 0);
+    }
+
+    // Fills columns with the cell of the key in every row and returns the minimum of those cells
+    private long locate(String key) {
+        long hash = mix(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            // Kirsch-Mitzenmacher: d hash functions from two halves of one 64-bit hash
+            columns[row] = Math.floorMod(h1 + row * h2, width);
+            min = Math.min(min, counts[row * width + columns[row]]);
+        }
+        return min;
+    }
+
+    // MurmurHash3 fmix64 finalizer; spreads the weak String hash over 64 bits
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,22 @@
+package com.contactme.contact_me_app.abuse;
+
+/**
+ * One entry of a top-K list: the key, its estimated count (an upper bound) and the maximum
+ * overestimation of that count.
+ */
+public class HeavyHitter {
+
+    private final String key;
+    private final long count;
+    private final long error;
+
+    public HeavyHitter(String key, long count, long error) {
+        this.key = key;
+        this.count = count;
+        this.error = error;
+    }
+
+    public String getKey() { return key; }
+    public long getCount() { return count; }
+    public long getError() { return error; }
+}
@@ -0,0 +1,99 @@
+package com.contactme.contact_me_app.abuse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fixed-memory heavy-hitter statistics of the rate-limit path: requesting IPs, rejected IPs and
+ * rejection reasons over a sliding window, so the top offenders of a flood can be found without
+ * querying the database. Fed by the rate-limit interceptor, web filter and email advice;
+ * read through the heavyhitters actuator endpoint.
+ */
+@Component
+public class HeavyHitterTracker {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(HeavyHitterTracker.class);
+
+    private final boolean enabled;
+    private final long sliceMillis;
+    private final SlidingHeavyHitters requestsByIp;
+    private final SlidingHeavyHitters rejectionsByIp;
+    private final SlidingHeavyHitters rejectionsByReason;
+
+    /**
+     * Constructor for HeavyHitterTracker.
+     * @param enabled Whether requests are recorded at all.
+     * @param slices Number of slices in the sliding window.
+     * @param sliceSeconds Length of one slice.
+     * @param topK Number of entries returned per list.
+     * @param counters Space-Saving counters per slice; more counters than K improve accuracy.
+     * @param sketchWidth Count-Min Sketch width (columns).
+     * @param sketchDepth Count-Min Sketch depth (rows).
+     */
+    public HeavyHitterTracker(@Value("${abuse.heavy-hitters.enabled:true}") boolean enabled,
+                              @Value("${abuse.heavy-hitters.slices:10}") int slices,
+                              @Value("${abuse.heavy-hitters.slice-seconds:60}") int sliceSeconds,
+                              @Value("${abuse.heavy-hitters.top-k:20}") int topK,
+                              @Value("${abuse.heavy-hitters.counters:100}") int counters,
+                              @Value("${abuse.heavy-hitters.sketch-width:1024}") int sketchWidth,
+                              @Value("${abuse.heavy-hitters.sketch-depth:4}") int sketchDepth) {
+        this.enabled = enabled;
+        this.sliceMillis = sliceSeconds * 1000L;
+        this.requestsByIp = new SlidingHeavyHitters(slices, sliceMillis, topK, counters, sketchWidth, sketchDepth);
+        this.rejectionsByIp = new SlidingHeavyHitters(slices, sliceMillis, topK, counters, sketchWidth, sketchDepth);
+        this.rejectionsByReason = new SlidingHeavyHitters(slices, sliceMillis, topK, counters, sketchWidth, sketchDepth);
+        logger.info("HeavyHitterTracker initialized. Enabled: {}, Window: {} x {}s, Top-K: {}", enabled, slices, sliceSeconds, topK);
+    }
+
+    /**
+     * Records one rate-limit check of an IP.
+     */
+    public void recordRequest(String ipAddress) {
+        if (enabled) {
+            requestsByIp.record(ipAddress, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Records a rejection.
+     *
+     * @param ipAddress The rejected IP, or null if it is not known at this point.
+     * @param reason The rejection reason.
+     */
+    public void recordRejection(String ipAddress, String reason) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (ipAddress != null) {
+            rejectionsByIp.record(ipAddress, now);
+        }
+        rejectionsByReason.record(reason, now);
+    }
+
+    /**
+     * Returns the top-K lists over the newest slices.
+     *
+     * @param minutes Length of the window in minutes; null for the full window.
+     * @return The window length and the three top-K lists.
+     */
+    public Map<String, Object> snapshot(Integer minutes) {
+        int slices = minutes == null
+                ? requestsByIp.getSliceCount()
+                : (int) Math.ceil(minutes * 60_000.0 / sliceMillis);
+        slices = Math.max(1, Math.min(slices, requestsByIp.getSliceCount()));
+        long now = System.currentTimeMillis();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("windowSeconds", slices * sliceMillis / 1000);
+        result.put("requestsByIp", requestsByIp.top(slices, now));
+        result.put("rejectionsByIp", rejectionsByIp.top(slices, now));
+        result.put("rejectionsByReason", rejectionsByReason.top(slices, now));
+        return result;
+    }
+}
@@ -0,0 +1,61 @@
+package com.contactme.contact_me_app.abuse;
+
+import com.contactme.contact_me_app.logging.LogRedactor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint listing the heaviest requesting IPs, rejected IPs and rejection reasons.
+ * GET /actuator/heavyhitters?minutes=5 narrows the window; the lists are computed from the
+ * in-memory sketches only, never from the database.
+ * <p>
+ * Client IPs are reported as {@link LogRedactor} tokens unless abuse.heavy-hitters.expose-raw-ips is set,
+ * so an entry can be matched against the rate_limit_rejected log events without exposing the address.
+ */
+@Component
+@Endpoint(id = "heavyhitters")
+public class HeavyHittersEndpoint {
+
+    private static final List<String> IP_STREAMS = List.of("requestsByIp", "rejectionsByIp");
+
+    private final HeavyHitterTracker tracker;
+    private final LogRedactor logRedactor;
+    private final boolean exposeRawIps;
+
+    /**
+     * Constructor for HeavyHittersEndpoint.
+     * @param tracker Tracker holding the sketches.
+     * @param logRedactor Redactor used to replace the client IPs with tokens.
+     * @param exposeRawIps Whether to report the client IPs as they are.
+     */
+    public HeavyHittersEndpoint(HeavyHitterTracker tracker, LogRedactor logRedactor,
+                                @Value("${abuse.heavy-hitters.expose-raw-ips:false}") boolean exposeRawIps) {
+        this.tracker = tracker;
+        this.logRedactor = logRedactor;
+        this.exposeRawIps = exposeRawIps;
+    }
+
+    @ReadOperation
+    public Map<String, Object> heavyHitters(@Nullable Integer minutes) {
+        Map<String, Object> snapshot = tracker.snapshot(minutes);
+        if (!exposeRawIps) {
+            for (String stream : IP_STREAMS) {
+                snapshot.computeIfPresent(stream, (name, entries) -> redact((List<?>) entries));
+            }
+        }
+        return snapshot;
+    }
+
+    private List<HeavyHitter> redact(List<?> entries) {
+        return entries.stream()
+                .map(HeavyHitter.class::cast)
+                .map(e -> new HeavyHitter(logRedactor.token(e.getKey()), e.getCount(), e.getError()))
+                .toList();
+    }
+}
@@ -0,0 +1,200 @@
+package com.contactme.contact_me_app.abuse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Proof-of-work challenge mode for clients that trip the rate limiter.
+ * <p>
+ * Rate-limit rejections are counted per IP and per subnet (/24 for IPv4, /64 for IPv6) over a sliding
+ * window in fixed memory. Once either count reaches its threshold, requests of that client must carry
+ * the answer to a {@link ProofOfWorkTokens} challenge; requests without a valid answer are refused before
+ * any database work and receive a fresh challenge. The difficulty grows by one bit each time the
+ * rejection count doubles past the threshold, and every refused request counts as a rejection, so a
+ * client that keeps flooding without solving keeps raising its own price.
+ */
+@Component
+public class ProofOfWorkChallenger {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(ProofOfWorkChallenger.class);
+
+    // Request header carrying the answer, challenge:counter
+    public static final String SOLUTION_HEADER = "X-PoW-Solution";
+
+    private final boolean enabled;
+    private final int ipThreshold;
+    private final int subnetThreshold;
+    private final int baseDifficulty;
+    private final int maxDifficulty;
+    private final ProofOfWorkTokens tokens;
+    private final SlidingHeavyHitters rejectionsByIp;
+    private final SlidingHeavyHitters rejectionsBySubnet;
+    private final Counter issued;
+    private final Counter solved;
+    private final Map<ProofOfWorkTokens.Outcome, Counter> failed = new EnumMap<>(ProofOfWorkTokens.Outcome.class);
+
+    /**
+     * Constructor for ProofOfWorkChallenger.
+     * @param enabled Whether suspicious clients are challenged at all.
+     * @param ipThreshold Rejections of one IP within the window after which it is challenged.
+     * @param subnetThreshold Rejections of one subnet within the window after which all its IPs are challenged.
+     * @param slices Number of slices in the sliding window.
+     * @param sliceSeconds Length of one slice.
+     * @param baseDifficulty Leading zero bits required at the threshold.
+     * @param maxDifficulty Upper bound of the adaptive difficulty.
+     * @param ttlSeconds How long a challenge can be answered.
+     * @param maxSpent Accepted answers remembered per TTL to refuse replays; answers beyond it are refused.
+     * @param key HMAC key signing the challenges. Share it across replicas, so an answer is accepted by any
+     *            of them; when empty a random per-process key is used.
+     * @param meterRegistry Registry for the issued, solved and failed challenge counters.
+     */
+    public ProofOfWorkChallenger(@Value("${abuse.challenge.enabled:false}") boolean enabled,
+                                 @Value("${abuse.challenge.ip-threshold:5}") int ipThreshold,
+                                 @Value("${abuse.challenge.subnet-threshold:20}") int subnetThreshold,
+                                 @Value("${abuse.challenge.slices:10}") int slices,
+                                 @Value("${abuse.challenge.slice-seconds:60}") int sliceSeconds,
+                                 @Value("${abuse.challenge.base-difficulty:16}") int baseDifficulty,
+                                 @Value("${abuse.challenge.max-difficulty:22}") int maxDifficulty,
+                                 @Value("${abuse.challenge.ttl-seconds:120}") long ttlSeconds,
+                                 @Value("${abuse.challenge.max-spent:100000}") int maxSpent,
+                                 @Value("${abuse.challenge.key:}") String key,
+                                 MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.ipThreshold = ipThreshold;
+        this.subnetThreshold = subnetThreshold;
+        this.baseDifficulty = baseDifficulty;
+        this.maxDifficulty = maxDifficulty;
+        byte[] keyBytes;
+        if (key == null || key.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        }
+        this.tokens = new ProofOfWorkTokens(keyBytes, ttlSeconds, maxSpent);
+        // Only the per-key estimates are used, so the summaries are kept minimal
+        this.rejectionsByIp = new SlidingHeavyHitters(slices, sliceSeconds * 1000L, 1, 1, 2048, 4);
+        this.rejectionsBySubnet = new SlidingHeavyHitters(slices, sliceSeconds * 1000L, 1, 1, 1024, 4);
+        this.issued = Counter.builder("contact.challenge.issued").register(meterRegistry);
+        this.solved = Counter.builder("contact.challenge.solved").register(meterRegistry);
+        for (ProofOfWorkTokens.Outcome outcome : ProofOfWorkTokens.Outcome.values()) {
+            if (outcome != ProofOfWorkTokens.Outcome.VALID) {
+                failed.put(outcome, Counter.builder("contact.challenge.failed")
+                        .tag("reason", outcome.name().toLowerCase(Locale.ROOT)).register(meterRegistry));
+            }
+        }
+        logger.info("ProofOfWorkChallenger initialized. Enabled: {}, Thresholds: ip {} / subnet {}, Difficulty: {}-{} bits",
+                enabled, ipThreshold, subnetThreshold, baseDifficulty, maxDifficulty);
+    }
+
+    /**
+     * Counts a rate-limit rejection of a client towards its suspicion.
+     */
+    public void recordRejection(String ipAddress) {
+        if (enabled) {
+            record(ipAddress, subnetOf(ipAddress), System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Decides whether a request may proceed to the rate limit check.
+     * Costs two sketch lookups for an unsuspicious client, plus one SHA-256 and one HMAC for an answer.
+     * An answer is accepted once; a replayed answer gets a new challenge.
+     *
+     * @param ipAddress The client IP address.
+     * @param solution The value of the {@link #SOLUTION_HEADER} header, or null.
+     * @return null if the request may proceed, otherwise the challenge the client has to answer.
+     */
+    public Challenge check(String ipAddress, String solution) {
+        if (!enabled) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        String subnet = subnetOf(ipAddress);
+        long ipRejections = rejectionsByIp.estimate(ipAddress, now);
+        long subnetRejections = rejectionsBySubnet.estimate(subnet, now);
+        if (ipRejections < ipThreshold && subnetRejections < subnetThreshold) {
+            return null;
+        }
+        if (solution != null) {
+            ProofOfWorkTokens.Outcome outcome = tokens.verify(ipAddress, solution, now / 1000);
+            if (outcome == ProofOfWorkTokens.Outcome.VALID) {
+                solved.increment();
+                return null;
+            }
+            failed.get(outcome).increment();
+        }
+        // A refused request counts as a rejection, so flooding without solving raises the difficulty
+        record(ipAddress, subnet, now);
+        int difficulty = difficultyFor(ipRejections, subnetRejections);
+        issued.increment();
+        return new Challenge(tokens.issue(ipAddress, difficulty, now / 1000), difficulty);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private void record(String ipAddress, String subnet, long now) {
+        rejectionsByIp.record(ipAddress, now);
+        rejectionsBySubnet.record(subnet, now);
+    }
+
+    // One extra bit, doubling the expected work, per doubling of the rejections past the threshold
+    private int difficultyFor(long ipRejections, long subnetRejections) {
+        double excess = Math.max((double) ipRejections / ipThreshold, (double) subnetRejections / subnetThreshold);
+        int extraBits = excess < 2 ? 0 : 63 - Long.numberOfLeadingZeros((long) excess);
+        return Math.min(maxDifficulty, baseDifficulty + extraBits);
+    }
+
+    /**
+     * Returns the /24 (IPv4) or /64 (IPv6) network of an IP address literal.
+     */
+    static String subnetOf(String ipAddress) {
+        if (ipAddress.indexOf(':') < 0) {
+            int lastDot = ipAddress.lastIndexOf('.');
+            return lastDot > 0 ? ipAddress.substring(0, lastDot) + ".0/24" : ipAddress;
+        }
+        try {
+            // An address containing ':' is parsed as an IPv6 literal, never resolved
+            byte[] address = InetAddress.getByName(ipAddress).getAddress();
+            if (address.length == 16) {
+                return HexFormat.of().formatHex(address, 0, 8) + "/64";
+            }
+            return (address[0] & 0xff) + "." + (address[1] & 0xff) + "." + (address[2] & 0xff) + ".0/24";
+        } catch (UnknownHostException e) {
+            return ipAddress;
+        }
+    }
+
+    /**
+     * A challenge issued to a client.
+     */
+    public static class Challenge {
+
+        private final String token;
+        private final int difficulty;
+
+        Challenge(String token, int difficulty) {
+            this.token = token;
+            this.difficulty = difficulty;
+        }
+
+        public String getToken() { return token; }
+        public int getDifficulty() { return difficulty; }
+    }
+}
@@ -0,0 +1,177 @@
+package com.contactme.contact_me_app.abuse;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stateless hashcash-style challenges, signed with HMAC-SHA256 and bound to one client.
+ * <p>
+ * A challenge is {@code issuedAt.difficulty.nonce.signature}; the signature covers the client key and the
+ * first three fields, so neither the difficulty nor the expiry can be changed and a challenge is only valid
+ * for the client it was issued to. The client answers with {@code challenge:counter}, choosing a counter
+ * for which SHA-256 of the whole answer starts with {@code difficulty} zero bits. Verifying an answer takes
+ * one SHA-256 and one HMAC. Each answer is accepted once: the nonces of accepted answers are remembered
+ * in memory until their challenge has expired, in at most {@code maxSpent} entries per TTL.
+ */
+final class ProofOfWorkTokens {
+
+    // Upper bound of an answer; anything longer is rejected before hashing
+    static final int MAX_SOLUTION_LENGTH = 128;
+
+    private static final int NONCE_BYTES = 8;
+    private static final int SIGNATURE_BYTES = 16;
+
+    private final long ttlSeconds;
+    private final SpentNonces spentNonces;
+    private final ThreadLocal<Mac> macs;
+    private final ThreadLocal<MessageDigest> digests;
+
+    ProofOfWorkTokens(byte[] key, long ttlSeconds, int maxSpent) {
+        this.ttlSeconds = ttlSeconds;
+        this.spentNonces = new SpentNonces(ttlSeconds, maxSpent);
+        SecretKeySpec keySpec = new SecretKeySpec(key, "HmacSHA256");
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        });
+        this.digests = ThreadLocal.withInitial(() -> {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        });
+    }
+
+    /**
+     * Issues a challenge for a client.
+     *
+     * @param clientKey The client the challenge is bound to, the IP address.
+     * @param difficulty Required number of leading zero bits.
+     * @param nowSeconds Current epoch second.
+     */
+    String issue(String clientKey, int difficulty, long nowSeconds) {
+        byte[] nonce = new byte[NONCE_BYTES];
+        ThreadLocalRandom.current().nextBytes(nonce);
+        String payload = nowSeconds + "." + difficulty + "." + HexFormat.of().formatHex(nonce);
+        return payload + "." + sign(clientKey, payload);
+    }
+
+    /**
+     * Verifies an answer of a client.
+     *
+     * @param clientKey The client presenting the answer.
+     * @param solution The answer, {@code challenge:counter}.
+     * @param nowSeconds Current epoch second.
+     */
+    Outcome verify(String clientKey, String solution, long nowSeconds) {
+        if (solution.length() > MAX_SOLUTION_LENGTH) {
+            return Outcome.MALFORMED;
+        }
+        int counterStart = solution.lastIndexOf(':');
+        if (counterStart <= 0 || counterStart == solution.length() - 1) {
+            return Outcome.MALFORMED;
+        }
+        String[] parts = solution.substring(0, counterStart).split("\\.", -1);
+        if (parts.length != 4) {
+            return Outcome.MALFORMED;
+        }
+        long issuedAt;
+        int difficulty;
+        try {
+            issuedAt = Long.parseLong(parts[0]);
+            difficulty = Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            return Outcome.MALFORMED;
+        }
+        if (nowSeconds >= issuedAt + ttlSeconds) {
+            return Outcome.EXPIRED;
+        }
+        byte[] work = digests.get().digest(solution.getBytes(StandardCharsets.UTF_8));
+        if (leadingZeroBits(work) < difficulty) {
+            return Outcome.INSUFFICIENT_WORK;
+        }
+        String expected = sign(clientKey, parts[0] + "." + parts[1] + "." + parts[2]);
+        if (!MessageDigest.isEqual(expected.getBytes(StandardCharsets.US_ASCII), parts[3].getBytes(StandardCharsets.US_ASCII))) {
+            return Outcome.BAD_SIGNATURE;
+        }
+        // Only signed, solved answers reach this point, so garbage cannot fill the spent set
+        if (!spentNonces.spend(parts[2], nowSeconds)) {
+            return Outcome.REPLAYED;
+        }
+        return Outcome.VALID;
+    }
+
+    private String sign(String clientKey, String payload) {
+        byte[] mac = macs.get().doFinal((clientKey + "|" + payload).getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(mac, 0, SIGNATURE_BYTES);
+    }
+
+    static int leadingZeroBits(byte[] digest) {
+        int bits = 0;
+        for (byte b : digest) {
+            if (b != 0) {
+                return bits + Integer.numberOfLeadingZeros(b & 0xff) - 24;
+            }
+            bits += 8;
+        }
+        return bits;
+    }
+
+    /**
+     * Result of verifying an answer.
+     */
+    enum Outcome {
+        VALID,
+        MALFORMED,
+        EXPIRED,
+        INSUFFICIENT_WORK,
+        BAD_SIGNATURE,
+        // Already accepted once (or the spent set of this TTL is full)
+        REPLAYED
+    }
+
+    /**
+     * Nonces of accepted answers, in two generations of one TTL each: a nonce spent in the current
+     * generation is still known during the next one, which outlives the challenge it belongs to.
+     */
+    private static final class SpentNonces {
+
+        private final long generationSeconds;
+        private final int maxPerGeneration;
+        private Set<String> current = new HashSet<>();
+        private Set<String> previous = new HashSet<>();
+        private long currentGeneration;
+
+        private SpentNonces(long generationSeconds, int maxPerGeneration) {
+            this.generationSeconds = Math.max(1, generationSeconds);
+            this.maxPerGeneration = maxPerGeneration;
+        }
+
+        synchronized boolean spend(String nonce, long nowSeconds) {
+            long generation = nowSeconds / generationSeconds;
+            if (generation != currentGeneration) {
+                previous = generation == currentGeneration + 1 ? current : new HashSet<>();
+                current = new HashSet<>();
+                currentGeneration = generation;
+            }
+            if (current.contains(nonce) || previous.contains(nonce) || current.size() >= maxPerGeneration) {
+                return false;
+            }
+            current.add(nonce);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.contactme.contact_me_app.abuse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Heavy hitters of one key stream over a sliding window, in fixed memory.
+ * <p>
+ * Time is cut into slices; a ring of slices each holds a {@link CountMinSketch} and a {@link SpaceSaving}
+ * summary of the keys seen during that slice. Recording touches only the current slice, in O(1)
+ * (plus clearing a slice once per slice period when it is reused). A query over the newest n slices
+ * takes the union of their top-K candidates and ranks them by the sum of their Count-Min estimates,
+ * so a key that is spread evenly across slices is still found.
+ */
+final class SlidingHeavyHitters {
+
+    private final Slice[] slices;
+    private final long sliceMillis;
+    private final int topK;
+
+    SlidingHeavyHitters(int sliceCount, long sliceMillis, int topK, int counters, int sketchWidth, int sketchDepth) {
+        this.slices = new Slice[sliceCount];
+        for (int i = 0; i < sliceCount; i++) {
+            slices[i] = new Slice(new CountMinSketch(sketchWidth, sketchDepth), new SpaceSaving(counters));
+        }
+        this.sliceMillis = sliceMillis;
+        this.topK = topK;
+    }
+
+    void record(String key, long nowMillis) {
+        long epoch = nowMillis / sliceMillis;
+        Slice slice = slices[(int) (epoch % slices.length)];
+        synchronized (slice) {
+            if (slice.epoch != epoch) {
+                slice.sketch.clear();
+                slice.summary.clear();
+                slice.epoch = epoch;
+            }
+            slice.sketch.add(key);
+            slice.summary.add(key);
+        }
+    }
+
+    /**
+     * Returns the top-K keys of the newest {@code sliceCount} slices (including the current, partial one).
+     */
+    List<HeavyHitter> top(int sliceCount, long nowMillis) {
+        long currentEpoch = nowMillis / sliceMillis;
+        int n = Math.max(1, Math.min(sliceCount, slices.length));
+        List<Slice> window = new ArrayList<>(n);
+        Set<String> candidates = new HashSet<>();
+        for (Slice slice : slices) {
+            synchronized (slice) {
+                if (slice.epoch > currentEpoch - n && slice.epoch <= currentEpoch) {
+                    window.add(slice);
+                    candidates.addAll(slice.summary.keys());
+                }
+            }
+        }
+        List<HeavyHitter> ranked = new ArrayList<>(candidates.size());
+        for (String key : candidates) {
+            long count = 0;
+            long guaranteed = 0;
+            for (Slice slice : window) {
+                synchronized (slice) {
+                    count += slice.sketch.estimate(key);
+                    guaranteed += slice.summary.lowerBound(key);
+                }
+            }
+            ranked.add(new HeavyHitter(key, count, count - Math.min(count, guaranteed)));
+        }
+        ranked.sort(Comparator.comparingLong(HeavyHitter::getCount).reversed());
+        return ranked.size() > topK ? new ArrayList<>(ranked.subList(0, topK)) : ranked;
+    }
+
+    /**
+     * Returns the Count-Min estimate of one key over the whole window; it never underestimates.
+     */
+    long estimate(String key, long nowMillis) {
+        long currentEpoch = nowMillis / sliceMillis;
+        long count = 0;
+        for (Slice slice : slices) {
+            synchronized (slice) {
+                if (slice.epoch > currentEpoch - slices.length && slice.epoch <= currentEpoch) {
+                    count += slice.sketch.estimate(key);
+                }
+            }
+        }
+        return count;
+    }
+
+    int getSliceCount() {
+        return slices.length;
+    }
+
+    private static final class Slice {
+        private final CountMinSketch sketch;
+        private final SpaceSaving summary;
+        private long epoch = Long.MIN_VALUE;
+
+        private Slice(CountMinSketch sketch, SpaceSaving summary) {
+            this.sketch = sketch;
+            this.summary = summary;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.contactme.contact_me_app.abuse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving top-K over a stream of keys, using the Stream-Summary structure so that every
+ * increment is O(1): counters are grouped in buckets of equal count, and the buckets form a list
+ * sorted by count. When all counters are in use, a new key takes over a counter with the minimum
+ * count and inherits that count as its maximum overestimation (error).
+ * Memory is fixed at {@code capacity} counters. Not thread-safe; callers synchronize.
+ */
+final class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    private Bucket minBucket;
+
+    SpaceSaving(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    void add(String key) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            increment(counter);
+            return;
+        }
+        if (counters.size() < capacity) {
+            counter = new Counter(key);
+            counters.put(key, counter);
+            if (minBucket == null || minBucket.count != 1) {
+                Bucket bucket = new Bucket(1);
+                bucket.next = minBucket;
+                if (minBucket != null) {
+                    minBucket.prev = bucket;
+                }
+                minBucket = bucket;
+            }
+            minBucket.attach(counter);
+            return;
+        }
+        // Evict a counter with the minimum count and reuse it for the new key
+        counter = minBucket.head;
+        counters.remove(counter.key);
+        counter.key = key;
+        counter.error = minBucket.count;
+        counters.put(key, counter);
+        increment(counter);
+    }
+
+    /**
+     * Returns the monitored keys with their counts (upper bounds) and errors, highest count first.
+     */
+    List<HeavyHitter> top(int k) {
+        List<HeavyHitter> result = new ArrayList<>(Math.min(k, counters.size()));
+        Bucket last = minBucket;
+        while (last != null && last.next != null) {
+            last = last.next;
+        }
+        for (Bucket bucket = last; bucket != null && result.size() < k; bucket = bucket.prev) {
+            for (Counter counter = bucket.head; counter != null && result.size() < k; counter = counter.next) {
+                result.add(new HeavyHitter(counter.key, bucket.count, counter.error));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the guaranteed minimum count of a key (0 if it is not monitored).
+     */
+    long lowerBound(String key) {
+        Counter counter = counters.get(key);
+        return counter == null ? 0 : counter.bucket.count - counter.error;
+    }
+
+    List<String> keys() {
+        return new ArrayList<>(counters.keySet());
+    }
+
+    void clear() {
+        counters.clear();
+        minBucket = null;
+    }
+
+    private void increment(Counter counter) {
+        Bucket bucket = counter.bucket;
+        long newCount = bucket.count + 1;
+        Bucket target = bucket.next;
+        if (target == null || target.count != newCount) {
+            target = new Bucket(newCount);
+            target.prev = bucket;
+            target.next = bucket.next;
+            if (bucket.next != null) {
+                bucket.next.prev = target;
+            }
+            bucket.next = target;
+        }
+        bucket.detach(counter);
+        target.attach(counter);
+        if (bucket.head == null) {
+            unlink(bucket);
+        }
+    }
+
+    private void unlink(Bucket bucket) {
+        if (bucket.prev != null) {
+            bucket.prev.next = bucket.next;
+        } else {
+            minBucket = bucket.next;
+        }
+        if (bucket.next != null) {
+            bucket.next.prev = bucket.prev;
+        }
+    }
+
+    private static final class Counter {
+        private String key;
+        private long error;
+        private Bucket bucket;
+        private Counter prev;
+        private Counter next;
+
+        private Counter(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Bucket {
+        private final long count;
+        private Bucket prev;
+        private Bucket next;
+        private Counter head;
+
+        private Bucket(long count) {
+            this.count = count;
+        }
+
+        private void attach(Counter counter) {
+            counter.bucket = this;
+            counter.prev = null;
+            counter.next = head;
+            if (head != null) {
+                head.prev = counter;
+            }
+            head = counter;
+        }
+
+        private void detach(Counter counter) {
+            if (counter.prev != null) {
+                counter.prev.next = counter.next;
+            } else {
+                head = counter.next;
+            }
+            if (counter.next != null) {
+                counter.next.prev = counter.prev;
+            }
+            counter.prev = null;
+            counter.next = null;
+        }
+    }
+}
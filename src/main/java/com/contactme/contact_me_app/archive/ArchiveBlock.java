@@ -0,0 +1,220 @@
+package com.contactme.contact_me_app.archive;
+
+import com.contactme.contact_me_app.dto.ArchivedSubmission;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encoding of one archive block: a batch of submissions, deflate-compressed, behind a fixed-size header.
+ * <p>
+ * Header layout (big-endian, {@value #HEADER_BYTES} bytes):
+ * {@code [int magic][int rowCount][long minId][long maxId][long minSentMillis][long maxSentMillis]
+ * [int uncompressedLength][int compressedLength][int crc32 of the compressed payload]}.
+ * The header doubles as the sparse index entry of the block: id and date bounds, offset and length.
+ * A row without a sent time is stored with {@link #NO_SENT_AT} and left out of the date bounds.
+ */
+final class ArchiveBlock {
+
+    static final int MAGIC = 0x41524331; // "ARC1"
+    static final int HEADER_BYTES = 52;
+    // Stored sent time of a row without one; decoded back to null and never inside a date range
+    static final long NO_SENT_AT = Long.MIN_VALUE;
+
+    final long offset;
+    final int rowCount;
+    final long minId;
+    final long maxId;
+    final long minSentMillis;
+    final long maxSentMillis;
+    final int uncompressedLength;
+    final int compressedLength;
+    final int crc;
+
+    ArchiveBlock(long offset, int rowCount, long minId, long maxId, long minSentMillis, long maxSentMillis,
+                 int uncompressedLength, int compressedLength, int crc) {
+        this.offset = offset;
+        this.rowCount = rowCount;
+        this.minId = minId;
+        this.maxId = maxId;
+        this.minSentMillis = minSentMillis;
+        this.maxSentMillis = maxSentMillis;
+        this.uncompressedLength = uncompressedLength;
+        this.compressedLength = compressedLength;
+        this.crc = crc;
+    }
+
+    int totalLength() {
+        return HEADER_BYTES + compressedLength;
+    }
+
+    boolean overlaps(long fromMillis, long toMillis) {
+        return maxSentMillis >= fromMillis && minSentMillis <= toMillis;
+    }
+
+    /**
+     * Encodes a batch of submissions into a header plus compressed payload.
+     *
+     * @param rows The submissions, in id order.
+     * @param compressionLevel Deflate level, 0-9.
+     * @return The complete block, ready to be appended.
+     */
+    static ByteBuffer encode(List<ArchivedSubmission> rows, int compressionLevel) throws IOException {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream(rows.size() * 512);
+        long minId = Long.MAX_VALUE;
+        long maxId = Long.MIN_VALUE;
+        long minSent = Long.MAX_VALUE;
+        long maxSent = Long.MIN_VALUE;
+        try (DataOutputStream out = new DataOutputStream(raw)) {
+            for (ArchivedSubmission row : rows) {
+                long sentMillis = sentMillis(row.getSentAt());
+                out.writeLong(row.getId());
+                out.writeLong(sentMillis);
+                writeString(out, row.getFullName());
+                writeString(out, row.getEmail());
+                writeString(out, row.getSubject());
+                writeString(out, row.getMessageText());
+                minId = Math.min(minId, row.getId());
+                maxId = Math.max(maxId, row.getId());
+                if (sentMillis != NO_SENT_AT) {
+                    minSent = Math.min(minSent, sentMillis);
+                    maxSent = Math.max(maxSent, sentMillis);
+                }
+            }
+        }
+        byte[] uncompressed = raw.toByteArray();
+
+        Deflater deflater = new Deflater(compressionLevel);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(uncompressed.length / 2 + 64);
+        try {
+            deflater.setInput(uncompressed);
+            deflater.finish();
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                compressed.write(chunk, 0, deflater.deflate(chunk));
+            }
+        } finally {
+            deflater.end();
+        }
+        byte[] payload = compressed.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ArchiveBlock header = new ArchiveBlock(0, rows.size(), minId, maxId, minSent, maxSent,
+                uncompressed.length, payload.length, (int) crc.getValue());
+        ByteBuffer block = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        block.put(encodeHeader(header)).put(payload).flip();
+        return block;
+    }
+
+    /**
+     * Encodes the header of a block.
+     *
+     * @param block The block.
+     * @return A buffer of {@value #HEADER_BYTES} bytes, ready to be read.
+     */
+    static ByteBuffer encodeHeader(ArchiveBlock block) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(block.rowCount)
+                .putLong(block.minId).putLong(block.maxId).putLong(block.minSentMillis).putLong(block.maxSentMillis)
+                .putInt(block.uncompressedLength).putInt(block.compressedLength).putInt(block.crc)
+                .flip();
+        return header;
+    }
+
+    /**
+     * Parses a block header.
+     *
+     * @param offset Position of the header in its segment file.
+     * @param header Buffer positioned at the header, with at least {@value #HEADER_BYTES} bytes remaining.
+     * @return The block, or null if the bytes are not a block header.
+     */
+    static ArchiveBlock readHeader(long offset, ByteBuffer header) {
+        if (header.getInt() != MAGIC) {
+            return null;
+        }
+        ArchiveBlock block = new ArchiveBlock(offset, header.getInt(), header.getLong(), header.getLong(), header.getLong(),
+                header.getLong(), header.getInt(), header.getInt(), header.getInt());
+        return block.rowCount > 0 && block.compressedLength > 0 && block.uncompressedLength > 0 ? block : null;
+    }
+
+    /**
+     * Verifies and decodes the compressed payload of this block.
+     *
+     * @param payload The compressed payload.
+     * @return The submissions of the block, in id order.
+     * @throws IOException if the checksum does not match or the payload cannot be decoded.
+     */
+    List<ArchivedSubmission> decode(byte[] payload) throws IOException {
+        if (!verify(payload)) {
+            throw new IOException("Checksum mismatch in archive block at offset " + offset);
+        }
+        byte[] uncompressed = new byte[uncompressedLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(payload);
+            int n = 0;
+            while (n < uncompressed.length && !inflater.finished()) {
+                n += inflater.inflate(uncompressed, n, uncompressed.length - n);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt archive block at offset " + offset, e);
+        } finally {
+            inflater.end();
+        }
+        List<ArchivedSubmission> rows = new ArrayList<>(rowCount);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(uncompressed))) {
+            for (int i = 0; i < rowCount; i++) {
+                long id = in.readLong();
+                long sentMillis = in.readLong();
+                rows.add(new ArchivedSubmission(id, readString(in), readString(in), readString(in), readString(in),
+                        sentMillis == NO_SENT_AT ? null : OffsetDateTime.ofInstant(Instant.ofEpochMilli(sentMillis), ZoneOffset.UTC)));
+            }
+        }
+        return rows;
+    }
+
+    boolean verify(byte[] payload) {
+        CRC32 check = new CRC32();
+        check.update(payload);
+        return (int) check.getValue() == crc;
+    }
+
+    static long sentMillis(OffsetDateTime sentAt) {
+        return sentAt != null ? sentAt.toInstant().toEpochMilli() : NO_SENT_AT;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
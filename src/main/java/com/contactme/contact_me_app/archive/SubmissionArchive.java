@@ -0,0 +1,347 @@
+package com.contactme.contact_me_app.archive;
+
+import com.contactme.contact_me_app.dto.ArchivedSubmission;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, compressed archive of contact form submissions removed from the hot table.
+ * <p>
+ * Submissions are appended in id order as blocks (see {@link ArchiveBlock}) to segment files
+ * ({@code <id>.arc}); a segment is sealed once it reaches archive.segment-max-bytes. Every block
+ * header carries the id and sent-at bounds of its rows, and a copy of each header is kept in a
+ * small sidecar index ({@code <id>.idx}) and in memory, so a date-range lookup only decompresses
+ * the blocks that can contain matching rows.
+ * <p>
+ * {@link #append} returns only after the block is fsynced, so callers may delete the archived rows
+ * from the database afterwards. A torn block at the end of the active segment (crash mid-write)
+ * is detected by its checksum and truncated away on startup.
+ */
+@Component
+public class SubmissionArchive {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionArchive.class);
+
+    private static final String SEGMENT_SUFFIX = ".arc";
+    private static final String INDEX_SUFFIX = ".idx";
+    // An index entry is the block offset followed by a copy of the block header
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES + ArchiveBlock.HEADER_BYTES;
+
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+
+    @Value("${archive.directory:./archive}")
+    private String directory;
+
+    @Value("${archive.segment-max-bytes:67108864}")
+    private long segmentMaxBytes;
+
+    @Value("${archive.compression-level:6}")
+    private int compressionLevel;
+
+    private Path archiveDirectory;
+    private FileChannel activeChannel;
+    private FileChannel activeIndexChannel;
+
+    /**
+     * Opens the existing segments, recovering the active (last) one.
+     */
+    @PostConstruct
+    synchronized void open() throws IOException {
+        archiveDirectory = Paths.get(directory).toAbsolutePath();
+        Files.createDirectories(archiveDirectory);
+        long[] ids;
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            ids = files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .mapToLong(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toArray();
+        }
+        for (int i = 0; i < ids.length; i++) {
+            boolean active = i == ids.length - 1;
+            segments.add(active ? recoverActive(ids[i]) : loadSealed(ids[i]));
+        }
+        if (segments.isEmpty()) {
+            openNewSegment(0);
+        } else {
+            Segment last = segments.get(segments.size() - 1);
+            activeChannel = FileChannel.open(last.path, StandardOpenOption.WRITE);
+            activeIndexChannel = FileChannel.open(indexPath(last.id), StandardOpenOption.WRITE);
+        }
+        logger.info("SubmissionArchive opened at {}. Segments: {}, Blocks: {}", archiveDirectory, segments.size(),
+                segments.stream().mapToInt(s -> s.blocks.size()).sum());
+    }
+
+    /**
+     * Appends a batch of submissions as one block and fsyncs it.
+     *
+     * @param rows The submissions, in id order.
+     * @throws IOException if the block could not be written durably; nothing may be deleted in that case.
+     */
+    public synchronized void append(List<ArchivedSubmission> rows) throws IOException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        ByteBuffer encoded = ArchiveBlock.encode(rows, compressionLevel);
+        Segment active = segments.get(segments.size() - 1);
+        long offset = activeChannel.size();
+        if (offset > 0 && offset + encoded.remaining() > segmentMaxBytes) {
+            openNewSegment(active.id + 1);
+            active = segments.get(segments.size() - 1);
+            offset = 0;
+        }
+        ArchiveBlock block = ArchiveBlock.readHeader(offset, encoded.duplicate());
+        while (encoded.hasRemaining()) {
+            activeChannel.write(encoded, offset + encoded.position());
+        }
+        activeChannel.force(true);
+
+        // The index is rebuilt from the segment when it is incomplete, so it does not need its own fsync
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_BYTES);
+        entry.putLong(offset).put(ArchiveBlock.encodeHeader(block)).flip();
+        activeIndexChannel.write(entry, activeIndexChannel.size());
+        active.blocks.add(block);
+    }
+
+    /**
+     * Returns the archived submissions sent within the inclusive time range, ordered by sent time.
+     * A submission that was archived twice (crash between archiving and deleting it) is returned once.
+     * Overlapping blocks are read in order of their earliest sent time, and the scan stops as soon as
+     * {@code limit} matches are collected and no remaining block can contain an earlier one.
+     *
+     * @param from Start of the range (inclusive).
+     * @param to End of the range (inclusive).
+     * @param limit Maximum number of submissions to return.
+     * @return The matching submissions.
+     * @throws IOException if a block could not be read or fails its checksum.
+     */
+    public List<ArchivedSubmission> find(OffsetDateTime from, OffsetDateTime to, int limit) throws IOException {
+        long fromMillis = ArchiveBlock.sentMillis(from);
+        long toMillis = ArchiveBlock.sentMillis(to);
+        List<Candidate> candidates = new ArrayList<>();
+        for (Segment segment : segments) {
+            for (ArchiveBlock block : segment.blocks) {
+                if (block.overlaps(fromMillis, toMillis)) {
+                    candidates.add(new Candidate(segment, block));
+                }
+            }
+        }
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.block.minSentMillis));
+
+        // Ordered by sent time then id; the same id always has the same sent time, so duplicates collapse
+        TreeSet<ArchivedSubmission> matches = new TreeSet<>(
+                Comparator.comparing(ArchivedSubmission::getSentAt).thenComparingLong(ArchivedSubmission::getId));
+        Map<Segment, FileChannel> channels = new HashMap<>();
+        try {
+            for (Candidate candidate : candidates) {
+                if (limit <= 0 || matches.size() >= limit
+                        && candidate.block.minSentMillis > ArchiveBlock.sentMillis(matches.last().getSentAt())) {
+                    break;
+                }
+                FileChannel channel = channels.get(candidate.segment);
+                if (channel == null) {
+                    channel = FileChannel.open(candidate.segment.path, StandardOpenOption.READ);
+                    channels.put(candidate.segment, channel);
+                }
+                for (ArchivedSubmission row : candidate.block.decode(readPayload(channel, candidate.block))) {
+                    long sent = ArchiveBlock.sentMillis(row.getSentAt());
+                    if (sent >= fromMillis && sent <= toMillis) {
+                        matches.add(row);
+                        if (matches.size() > limit) {
+                            matches.pollLast();
+                        }
+                    }
+                }
+            }
+        } finally {
+            for (FileChannel channel : channels.values()) {
+                channel.close();
+            }
+        }
+        return new ArrayList<>(matches);
+    }
+
+    @PreDestroy
+    synchronized void close() throws IOException {
+        if (activeChannel != null) {
+            activeChannel.close();
+            activeIndexChannel.close();
+        }
+    }
+
+    private void openNewSegment(long id) throws IOException {
+        if (activeChannel != null) {
+            activeIndexChannel.force(true);
+            activeChannel.close();
+            activeIndexChannel.close();
+        }
+        Path path = segmentPath(id);
+        activeChannel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        activeIndexChannel = FileChannel.open(indexPath(id), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        forceDirectory();
+        segments.add(new Segment(id, path));
+    }
+
+    /**
+     * Scans the active segment block by block, verifying every checksum, truncates a torn tail
+     * and rewrites the index from the valid blocks.
+     */
+    private Segment recoverActive(long id) throws IOException {
+        Segment segment = new Segment(id, segmentPath(id));
+        try (FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            long offset = 0;
+            while (offset + ArchiveBlock.HEADER_BYTES <= size) {
+                ArchiveBlock block = readHeader(channel, offset);
+                if (block == null || offset + block.totalLength() > size || !block.verify(readPayload(channel, block))) {
+                    break;
+                }
+                segment.blocks.add(block);
+                offset += block.totalLength();
+            }
+            if (offset < size) {
+                logger.warn("Truncating {} bytes of incomplete data at the end of archive segment {}.", size - offset, segment.path);
+                channel.truncate(offset);
+                channel.force(true);
+            }
+        }
+        writeIndex(segment);
+        return segment;
+    }
+
+    /**
+     * Loads a sealed segment from its index, rebuilding the index from the block headers if it is
+     * missing or does not cover the whole segment.
+     */
+    private Segment loadSealed(long id) throws IOException {
+        Segment segment = new Segment(id, segmentPath(id));
+        Path index = indexPath(id);
+        long segmentSize = Files.size(segment.path);
+        if (Files.exists(index) && Files.size(index) % INDEX_ENTRY_BYTES == 0) {
+            ByteBuffer entries = ByteBuffer.wrap(Files.readAllBytes(index));
+            while (entries.hasRemaining()) {
+                long offset = entries.getLong();
+                ArchiveBlock block = ArchiveBlock.readHeader(offset, entries);
+                if (block == null) {
+                    break;
+                }
+                segment.blocks.add(block);
+            }
+            ArchiveBlock last = segment.blocks.isEmpty() ? null : segment.blocks.get(segment.blocks.size() - 1);
+            if (last != null && last.offset + last.totalLength() == segmentSize) {
+                return segment;
+            }
+            segment.blocks.clear();
+        }
+        logger.warn("Rebuilding index of archive segment {}.", segment.path);
+        try (FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.READ)) {
+            long offset = 0;
+            while (offset + ArchiveBlock.HEADER_BYTES <= segmentSize) {
+                ArchiveBlock block = readHeader(channel, offset);
+                if (block == null) {
+                    break;
+                }
+                segment.blocks.add(block);
+                offset += block.totalLength();
+            }
+        }
+        writeIndex(segment);
+        return segment;
+    }
+
+    private void writeIndex(Segment segment) throws IOException {
+        ByteBuffer entries = ByteBuffer.allocate(segment.blocks.size() * INDEX_ENTRY_BYTES);
+        for (ArchiveBlock block : segment.blocks) {
+            entries.putLong(block.offset).put(ArchiveBlock.encodeHeader(block));
+        }
+        Files.write(indexPath(segment.id), entries.array());
+    }
+
+    private static ArchiveBlock readHeader(FileChannel channel, long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(ArchiveBlock.HEADER_BYTES);
+        readFully(channel, header, offset);
+        header.flip();
+        return ArchiveBlock.readHeader(offset, header);
+    }
+
+    private static byte[] readPayload(FileChannel channel, ArchiveBlock block) throws IOException {
+        ByteBuffer payload = ByteBuffer.allocate(block.compressedLength);
+        readFully(channel, payload, block.offset + ArchiveBlock.HEADER_BYTES);
+        return payload.array();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of archive segment at position " + (position + buffer.position()));
+            }
+        }
+    }
+
+    // Makes the creation of a new segment file durable (supported on Linux; a no-op elsewhere)
+    private void forceDirectory() {
+        try (FileChannel dir = FileChannel.open(archiveDirectory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            logger.debug("Could not fsync archive directory: {}", e.getMessage());
+        }
+    }
+
+    private Path segmentPath(long id) {
+        return archiveDirectory.resolve(String.format("%020d%s", id, SEGMENT_SUFFIX));
+    }
+
+    private Path indexPath(long id) {
+        return archiveDirectory.resolve(String.format("%020d%s", id, INDEX_SUFFIX));
+    }
+
+    /**
+     * A block overlapping a lookup range, with the segment it is stored in.
+     */
+    private static final class Candidate {
+        private final Segment segment;
+        private final ArchiveBlock block;
+
+        private Candidate(Segment segment, ArchiveBlock block) {
+            this.segment = segment;
+            this.block = block;
+        }
+    }
+
+    /**
+     * A segment file with the in-memory copy of its block index.
+     */
+    private static final class Segment {
+        private final long id;
+        private final Path path;
+        private final List<ArchiveBlock> blocks = new CopyOnWriteArrayList<>();
+
+        private Segment(long id, Path path) {
+            this.id = id;
+            this.path = path;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.contactme.contact_me_app.config;
+
+import com.contactme.contact_me_app.service.AdaptiveConcurrencyLimiter;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * First stage of the /api/contact pipeline, registered ahead of the {@link RateLimitInterceptor}.
+ * Admits a request only if both the adaptive global concurrency limit and the per-client
+ * in-flight cap allow it. Excess load gets an immediate 503 with Retry-After, before any
+ * database work, instead of queueing behind the connection pool.
+ */
+@Component
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlInterceptor.class);
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+    // Fast rejections by later stages (invalid or oversized body, challenge, rate limit) say nothing about the
+    // latency of the pipeline; every other outcome, timeouts and errors included, is a latency sample
+    private static final Set<Integer> UNSAMPLED_STATUSES = Set.of(
+            HttpStatus.BAD_REQUEST.value(), HttpStatus.PAYLOAD_TOO_LARGE.value(),
+            HttpStatus.PRECONDITION_REQUIRED.value(), HttpStatus.TOO_MANY_REQUESTS.value());
+
+    private static final String REJECTION_BODY = "{\"message\":\"The service is busy. Please try again shortly.\"}";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    @Value("${admission.retry-after-seconds:1}")
+    private int retryAfterSeconds;
+
+    /**
+     * Constructor for AdmissionControlInterceptor.
+     * @param limiter The adaptive concurrency limiter deciding admission.
+     */
+    public AdmissionControlInterceptor(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+        logger.info("AdmissionControlInterceptor initialized.");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The permit taken on the initial dispatch stays held across the ASYNC dispatch
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(request.getRemoteAddr());
+        if (permit == null) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+            response.setContentType("application/json");
+            try {
+                response.getWriter().write(REJECTION_BODY);
+            } catch (IOException e) {
+                logger.error("IOException while writing admission rejection: {}", e.getMessage(), e);
+            }
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    /**
+     * Releases the permit once the request has fully completed: after the initial dispatch for
+     * synchronous handling, or after the ASYNC dispatch when the controller completed asynchronously.
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit instanceof AdaptiveConcurrencyLimiter.Permit admitted) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            // A 503 after the request deadline is sampled at the deadline, so a database stall shrinks the limit
+            admitted.release(!UNSAMPLED_STATUSES.contains(response.getStatus()));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.contactme.contact_me_app.config;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * Stops an AOT-processed build from starting with the reactive profile.
+ * <p>
+ * Spring AOT evaluates profiles and {@code @Conditional} annotations when the bean definitions are
+ * generated at build time ({@code mvn -Paot package}, without a profile). Started with
+ * {@code -Dspring.aot.enabled=true}, the application always gets the servlet beans, whatever profile
+ * is active at runtime. Registered in META-INF/spring.factories, so it runs before the context is created
+ * and fails the startup instead of serving the wrong stack.
+ */
+public class AotProfileGuard implements EnvironmentPostProcessor {
+
+    static final String REACTIVE_PROFILE = "reactive";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (AotDetector.useGeneratedArtifacts() && environment.matchesProfiles(REACTIVE_PROFILE)) {
+            throw new IllegalStateException("The '" + REACTIVE_PROFILE + "' profile cannot be used with spring.aot.enabled=true: "
+                    + "the AOT build generated the bean definitions of the default (servlet) profile. "
+                    + "Start the reactive profile without spring.aot.enabled.");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.contactme.contact_me_app.config;
+
+import com.contactme.contact_me_app.deadline.DeadlineTaskDecorator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Spring configuration class defining the dedicated thread pools used by the application.
+ * Each pool is bounded so that a slow downstream system cannot grow the heap without limit.
+ */
+@Configuration
+public class AsyncExecutorConfig {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(AsyncExecutorConfig.class);
+
+    @Value("${publisher.executor.core-size:2}")
+    private int publisherCoreSize;
+
+    @Value("${publisher.executor.max-size:4}")
+    private int publisherMaxSize;
+
+    @Value("${publisher.executor.queue-capacity:1000}")
+    private int publisherQueueCapacity;
+
+    @Value("${publisher.dispatch.max-size:8}")
+    private int dispatchMaxSize;
+
+    // Sized to the JDBC pool: more persistence threads would only queue inside Hikari
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int dbPoolSize;
+
+    @Value("${persistence.executor.queue-capacity:200}")
+    private int persistenceQueueCapacity;
+
+    /**
+     * Executor used for the asynchronous hand-off from the request thread to the publisher.
+     * This is the executor behind {@code @Async("publisherExecutor")}.
+     *
+     * @return The configured publisher executor.
+     */
+    @Bean(name = "publisherExecutor")
+    public ThreadPoolTaskExecutor publisherExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(publisherCoreSize);
+        executor.setMaxPoolSize(publisherMaxSize);
+        executor.setQueueCapacity(publisherQueueCapacity);
+        executor.setThreadNamePrefix("publisher-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        logger.info("Publisher executor initialized. Core: {}, Max: {}, Queue: {}",
+                publisherCoreSize, publisherMaxSize, publisherQueueCapacity);
+        return executor;
+    }
+
+    /**
+     * Executor used by the composite publisher to run the per-broker legs of a fan-out in parallel.
+     * It is kept separate from the publisher executor so that a fan-out waiting on its legs
+     * can never starve the pool its own legs need. Legs inherit the deadline of the publish.
+     *
+     * @return The configured broker dispatch executor.
+     */
+    @Bean(name = "brokerDispatchExecutor")
+    public ThreadPoolTaskExecutor brokerDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dispatchMaxSize);
+        executor.setMaxPoolSize(dispatchMaxSize);
+        // No queue: if every dispatch thread is busy the caller runs the leg itself.
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("broker-dispatch-");
+        executor.setTaskDecorator(new DeadlineTaskDecorator());
+        logger.info("Broker dispatch executor initialized with {} threads.", dispatchMaxSize);
+        return executor;
+    }
+
+    /**
+     * Executor running the database work of contact form submissions off the servlet threads.
+     * It has exactly as many threads as the JDBC pool has connections, and a bounded queue;
+     * when the queue is full new submissions are rejected instead of piling up.
+     * Tasks inherit the deadline of the request that submitted them.
+     *
+     * @return The configured persistence executor.
+     */
+    @Bean(name = "persistenceExecutor")
+    public ThreadPoolTaskExecutor persistenceExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dbPoolSize);
+        executor.setMaxPoolSize(dbPoolSize);
+        executor.setQueueCapacity(persistenceQueueCapacity);
+        executor.setThreadNamePrefix("persistence-");
+        executor.setTaskDecorator(new DeadlineTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        logger.info("Persistence executor initialized. Threads: {}, Queue: {}", dbPoolSize, persistenceQueueCapacity);
+        return executor;
+    }
+}
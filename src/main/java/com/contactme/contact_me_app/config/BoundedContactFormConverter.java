@@ -0,0 +1,174 @@
+package com.contactme.contact_me_app.config;
+
+import com.contactme.contact_me_app.dto.ContactFormRequest;
+import com.contactme.contact_me_app.exception.PayloadTooLargeException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Streaming, size-bounded reader for {@link ContactFormRequest} bodies.
+ * <p>
+ * The body is read token by token with a Jackson {@link JsonParser} instead of being bound by the
+ * general-purpose ObjectMapper. The total number of bytes read is capped, string values are capped
+ * by the parser's read constraints while they are being read, and each field is checked against its
+ * own limit before it is turned into a String. Unknown fields are skipped without being materialized.
+ * Oversized input fails with a {@link PayloadTooLargeException} (413), malformed input with an
+ * HttpMessageNotReadableException (400), as soon as the offending byte has been read.
+ * Declarative validation of the resulting object runs afterwards through {@code @Valid}.
+ * <p>
+ * Field limits count characters, the body limit counts bytes, and whichever is reached first wins.
+ * The body limit should therefore be at least {@link #MIN_BODY_BYTES}, which fits every field at its
+ * maximum length in unescaped UTF-8.
+ */
+public class BoundedContactFormConverter extends AbstractHttpMessageConverter<ContactFormRequest> {
+
+    // A char takes at most 3 bytes in UTF-8 (a surrogate pair takes 4 bytes for 2 chars)
+    private static final int MAX_UTF8_BYTES_PER_CHAR = 3;
+    // Braces, field names, quotes, separators and some whitespace
+    private static final int JSON_OVERHEAD_BYTES = 256;
+
+    /**
+     * Smallest body limit that admits every field at its maximum length.
+     */
+    public static final long MIN_BODY_BYTES = (long) MAX_UTF8_BYTES_PER_CHAR
+            * (ContactFormRequest.MAX_FULL_NAME_LENGTH + ContactFormRequest.MAX_EMAIL_LENGTH
+            + ContactFormRequest.MAX_SUBJECT_LENGTH + ContactFormRequest.MAX_MESSAGE_TEXT_LENGTH)
+            + JSON_OVERHEAD_BYTES;
+
+    private final JsonFactory jsonFactory;
+    private final long maxBodyBytes;
+
+    /**
+     * Constructor for BoundedContactFormConverter.
+     * @param maxBodyBytes Maximum number of bytes read from a request body.
+     */
+    public BoundedContactFormConverter(long maxBodyBytes) {
+        super(MediaType.APPLICATION_JSON);
+        this.maxBodyBytes = maxBodyBytes;
+        this.jsonFactory = JsonFactory.builder()
+                .streamReadConstraints(StreamReadConstraints.builder()
+                        // No string value can be longer than the longest field
+                        .maxStringLength(ContactFormRequest.MAX_MESSAGE_TEXT_LENGTH)
+                        .maxNameLength(64)
+                        .maxNestingDepth(4)
+                        .maxNumberLength(32)
+                        .build())
+                .build();
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ContactFormRequest.class == clazz;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ContactFormRequest readInternal(Class<? extends ContactFormRequest> clazz, HttpInputMessage inputMessage) throws IOException {
+        long declaredLength = inputMessage.getHeaders().getContentLength();
+        if (declaredLength > maxBodyBytes) {
+            throw new PayloadTooLargeException("Request body must not exceed " + maxBodyBytes + " bytes.");
+        }
+        try (JsonParser parser = jsonFactory.createParser(new LimitedInputStream(inputMessage.getBody(), maxBodyBytes))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new HttpMessageNotReadableException("Request body must be a JSON object.", inputMessage);
+            }
+            ContactFormRequest request = new ContactFormRequest();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "fullName" -> request.setFullName(readString(parser, field, ContactFormRequest.MAX_FULL_NAME_LENGTH, inputMessage));
+                    case "email" -> request.setEmail(readString(parser, field, ContactFormRequest.MAX_EMAIL_LENGTH, inputMessage));
+                    case "subject" -> request.setSubject(readString(parser, field, ContactFormRequest.MAX_SUBJECT_LENGTH, inputMessage));
+                    case "messageText" -> request.setMessageText(readString(parser, field, ContactFormRequest.MAX_MESSAGE_TEXT_LENGTH, inputMessage));
+                    default -> parser.skipChildren();
+                }
+            }
+            if (parser.nextToken() != null) {
+                throw new HttpMessageNotReadableException("Unexpected content after the JSON object.", inputMessage);
+            }
+            return request;
+        } catch (StreamConstraintsException e) {
+            throw new PayloadTooLargeException("Request body exceeds the allowed field sizes.", e);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("Malformed JSON request body: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    private static String readString(JsonParser parser, String field, int maxLength, HttpInputMessage inputMessage) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            throw new HttpMessageNotReadableException("Field '" + field + "' must be a string.", inputMessage);
+        }
+        // getTextLength() reads the value into the parser's bounded buffer without creating a String
+        if (parser.getTextLength() > maxLength) {
+            throw new PayloadTooLargeException("Field '" + field + "' must not exceed " + maxLength + " characters.");
+        }
+        return parser.getText();
+    }
+
+    @Override
+    protected void writeInternal(ContactFormRequest request, HttpOutputMessage outputMessage) throws HttpMessageNotWritableException {
+        throw new HttpMessageNotWritableException("ContactFormRequest is a request-only type.");
+    }
+
+    /**
+     * Input stream failing as soon as more than the allowed number of bytes has been read,
+     * so bodies without (or with a wrong) Content-Length are bounded too.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        private LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) {
+            count += n;
+            if (count > limit) {
+                throw new PayloadTooLargeException("Request body must not exceed " + limit + " bytes.");
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.contactme.contact_me_app.config;
+
+import com.contactme.contact_me_app.dto.ContactFormRequest;
+import com.contactme.contact_me_app.dto.RateLimitResponse;
+import com.contactme.contact_me_app.exception.RateLimitExceededException;
+import com.contactme.contact_me_app.service.EmailRateLimitService;
+import com.contactme.contact_me_app.service.IngestMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * Applies the per-sender-email rate limit to contact form requests.
+ * <p>
+ * The {@link RateLimitInterceptor} checks the IP limit before the body is read; the sender email is
+ * only known once the body has been parsed, so this dimension is checked right after the streaming
+ * parse and before validation and any submission work. A rejection produces the same 429 response
+ * as the IP limit, through the {@link RateLimitExceededException} handler.
+ * In ATOMIC ingest mode the advice stays out of the way: the ingest statement checks the email limit,
+ * or the controller for screened-out content, which is not ingested.
+ */
+@ControllerAdvice
+@Profile("!reactive")
+public class EmailRateLimitAdvice extends RequestBodyAdviceAdapter {
+
+    private final EmailRateLimitService emailRateLimitService;
+    private final RateLimitRejections rejections;
+
+    // In ATOMIC mode the email limit is checked by the ingest statement instead
+    @Value("${contact.ingest.mode:STANDARD}")
+    private IngestMode ingestMode;
+
+    /**
+     * Constructor for EmailRateLimitAdvice.
+     * @param emailRateLimitService Service checking the per-sender-email limit.
+     * @param rejections Counts, logs and reports rejections; the client IP is not known to a body advice.
+     */
+    public EmailRateLimitAdvice(EmailRateLimitService emailRateLimitService, RateLimitRejections rejections) {
+        this.emailRateLimitService = emailRateLimitService;
+        this.rejections = rejections;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return targetType == ContactFormRequest.class && ingestMode != IngestMode.ATOMIC;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        String email = ((ContactFormRequest) body).getEmail();
+        // A missing email is reported by validation, which runs after this advice
+        if (email == null || email.isBlank()) {
+            return body;
+        }
+        RateLimitResponse rateLimitCheck = emailRateLimitService.checkRateLimit(EmailRateLimitService.keyOf(email));
+        if (rateLimitCheck.isRateLimited()) {
+            rejections.email(null, email, rateLimitCheck);
+            throw new RateLimitExceededException(rateLimitCheck);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,62 @@
+package com.contactme.contact_me_app.config;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Marks the auto-configured Kafka and Google Cloud Pub/Sub client beans as lazy.
+ * Only one broker is normally in use; with this post-processor the client infrastructure
+ * of an unused broker (credentials lookup, channel providers, producer factories) is never
+ * created, which shortens startup. Beans of a broker that is used are created on first reference,
+ * i.e. when the CompositePublisher resolves its configured brokers.
+ */
+@Component
+public class LazyBrokerBeansPostProcessor implements BeanFactoryPostProcessor {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(LazyBrokerBeansPostProcessor.class);
+
+    private static final List<String> LAZY_PACKAGES = List.of(
+            "com.google.cloud.spring.autoconfigure.",
+            "org.springframework.boot.autoconfigure.kafka.");
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        int count = 0;
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            if (!definition.isLazyInit() && isBrokerBean(name, definition)) {
+                definition.setLazyInit(true);
+                count++;
+            }
+        }
+        logger.debug("Marked {} broker infrastructure beans as lazy.", count);
+    }
+
+    private static boolean isBrokerBean(String name, BeanDefinition definition) {
+        // Auto-configuration classes are registered under their class name, and their @Bean
+        // methods point back to them through the factory bean name.
+        return inLazyPackage(name)
+                || inLazyPackage(definition.getBeanClassName())
+                || inLazyPackage(definition.getFactoryBeanName());
+    }
+
+    private static boolean inLazyPackage(String className) {
+        if (className == null) {
+            return false;
+        }
+        for (String prefix : LAZY_PACKAGES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,46 +1,77 @@
 package com.contactme.contact_me_app.config;// src/main/java/com/example/contactform/config/RateLimitInterceptor.java
 
 
+import com.contactme.contact_me_app.abuse.HeavyHitterTracker;
+import com.contactme.contact_me_app.abuse.ProofOfWorkChallenger;
+import com.contactme.contact_me_app.deadline.Deadline;
 import com.contactme.contact_me_app.dto.RateLimitResponse;
+import com.contactme.contact_me_app.logging.SubmissionLogEvent;
+import com.contactme.contact_me_app.service.IngestMode;
 import com.contactme.contact_me_app.service.RateLimitService;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 import com.fasterxml.jackson.databind.ObjectMapper; // For converting response to JSON
 import org.slf4j.Logger; // Import SLF4J Logger
 import org.slf4j.LoggerFactory; // Import SLF4J LoggerFactory
 
 import java.io.IOException;
+import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.Map;
-import java.time.Duration; // Import Duration
 
 @Component
-public class RateLimitInterceptor implements HandlerInterceptor {
+public class RateLimitInterceptor implements AsyncHandlerInterceptor {
 
     // Initialize a logger for this class
     private static final Logger logger = LoggerFactory.getLogger(RateLimitInterceptor.class);
 
     private final RateLimitService rateLimitService;
     private final ObjectMapper objectMapper;
+    private final RateLimitRejections rejections;
+    private final HeavyHitterTracker heavyHitters;
+    private final ProofOfWorkChallenger challenger;
+
+    // Time budget of a request, from the rate limit check to the response
+    @Value("${contact.request-timeout-ms:5000}")
+    private long requestTimeoutMillis;
+
+    // In ATOMIC mode the limits are enforced by the ingest statement; only cached rejections are answered here
+    @Value("${contact.ingest.mode:STANDARD}")
+    private IngestMode ingestMode;
 
     /**
      * Constructor for RateLimitInterceptor.
      * @param rateLimitService Service for checking and managing rate limits.
      * @param objectMapper ObjectMapper for converting Java objects to JSON.
+     * @param rejections Counts, logs and reports rejections to the abuse signals.
+     * @param heavyHitters Sketch of the heaviest requesting and rejected IPs.
+     * @param challenger Proof-of-work challenges for clients that keep tripping the limiter.
      */
-    public RateLimitInterceptor(RateLimitService rateLimitService, ObjectMapper objectMapper) {
+    public RateLimitInterceptor(RateLimitService rateLimitService, ObjectMapper objectMapper, RateLimitRejections rejections,
+                                HeavyHitterTracker heavyHitters, ProofOfWorkChallenger challenger) {
         this.rateLimitService = rateLimitService;
         this.objectMapper = objectMapper;
+        this.rejections = rejections;
+        this.heavyHitters = heavyHitters;
+        this.challenger = challenger;
         logger.info("RateLimitInterceptor initialized.");
     }
 
     /**
      * Intercepts incoming requests before they are handled by the controller.
      * Checks if the client's IP address is rate-limited.
+     * The per-sender-email limit needs the parsed body and is checked by the EmailRateLimitAdvice.
+     * Clients that tripped the limiter too often are first asked for a proof of work (428), see ProofOfWorkChallenger.
+     * In ATOMIC ingest mode only the cached history is consulted, without a query; the ingest statement
+     * checks both limits authoritatively (for screened-out content, which skips it, the controller does).
      * If rate-limited, sets an appropriate HTTP status and response body.
+     * The deadline of the request starts here and is attached to the servlet thread, from where it
+     * is carried to the persistence executor; it is detached again when the thread leaves the request.
      *
      * @param request The current HttpServletRequest.
      * @param response The current HttpServletResponse.
@@ -50,57 +81,45 @@ public class RateLimitInterceptor implements HandlerInterceptor {
      */
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The controller completes asynchronously; the interceptor chain runs again on the ASYNC
+        // dispatch that writes the result. The request was already checked on the initial dispatch.
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
         String ipAddress = request.getRemoteAddr();
-        logger.debug("Pre-handling request from IP: {}", ipAddress);
-
-        RateLimitResponse rateLimitCheck = rateLimitService.checkRateLimit(ipAddress);
+        // Suspicious clients must present a solved challenge before the limiter spends a query on them
+        ProofOfWorkChallenger.Challenge challenge = challenger.check(ipAddress, request.getHeader(ProofOfWorkChallenger.SOLUTION_HEADER));
+        if (challenge != null) {
+            heavyHitters.recordRejection(ipAddress, "challenge");
+            writeChallenge(response, challenge);
+            return false;
+        }
+        SubmissionLogEvent event = SubmissionLogEvent.begin();
+        // Detached again in afterConcurrentHandlingStarted or afterCompletion
+        Deadline.afterMillis(requestTimeoutMillis).attach();
+
+        RateLimitResponse rateLimitCheck;
+        try {
+            rateLimitCheck = ingestMode == IngestMode.ATOMIC
+                    ? checkCachedOnly(ipAddress)
+                    : rateLimitService.checkRateLimit(ipAddress);
+        } catch (RuntimeException e) {
+            // afterCompletion is not called for an interceptor whose preHandle did not return true
+            Deadline.clear();
+            throw e;
+        }
+        request.setAttribute(SubmissionLogEvent.REQUEST_ATTRIBUTE, event.lap("rate_limit"));
+        heavyHitters.recordRequest(ipAddress);
 
         if (rateLimitCheck.isRateLimited()) {
             Long retryAfterSeconds = rateLimitCheck.getRetryAfterSeconds();
-            logger.warn("Rate limit exceeded for IP: {}. Message: {}. Retry-After: {} seconds.",
-                    ipAddress, rateLimitCheck.getMessage(), retryAfterSeconds);
+            rejections.ip(ipAddress, rateLimitCheck);
 
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
             response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
 
-            // --- Construct the combined message here ---
-            String baseMessage = rateLimitCheck.getMessage();
-
-            String fullResponseMessage;
-
-            // Only append specific retry time if it's a positive value
-            if (retryAfterSeconds != null && retryAfterSeconds > 0) {
-                Duration duration = Duration.ofSeconds(retryAfterSeconds);
-                long minutes = duration.toMinutes();
-                long seconds = duration.toSecondsPart(); // Remaining seconds after extracting minutes
-
-                StringBuilder retryMessageBuilder = new StringBuilder("Please try again in ");
-
-                if (minutes > 0 && seconds > 0) {
-                    retryMessageBuilder.append(minutes).append(" minute");
-                    if (minutes > 1) retryMessageBuilder.append("s");
-                    retryMessageBuilder.append(" and ").append(seconds).append(" second");
-                    if (seconds > 1) retryMessageBuilder.append("s");
-                } else if (minutes > 0) {
-                    retryMessageBuilder.append(minutes).append(" minute");
-                    if (minutes > 1) retryMessageBuilder.append("s");
-                } else if (seconds > 0) {
-                    retryMessageBuilder.append(seconds).append(" second");
-                    if (seconds > 1) retryMessageBuilder.append("s");
-                } else {
-                    // This covers cases where retryAfterSeconds is positive but very small (e.g., < 1s)
-                    // or due to precision issues it becomes 0 minutes and 0 seconds
-                    retryMessageBuilder.append("a moment.");
-                }
-                retryMessageBuilder.append("."); // Add period at the end
-
-                fullResponseMessage = baseMessage + " " + retryMessageBuilder.toString();
-                logger.debug("Generated full retry message: {}", fullResponseMessage);
-            } else {
-                // If retryAfterSeconds is 0, null, or negative, just provide the base message
-                fullResponseMessage = baseMessage + " Please try again later.";
-                logger.debug("Generated full retry message (no specific retry time): {}", fullResponseMessage);
-            }
+            // Combine the base message with a human-readable retry time
+            String fullResponseMessage = rateLimitCheck.toClientMessage();
 
             // Prepare a JSON response body
             Map<String, Object> errorResponse = new HashMap<>();
@@ -109,14 +128,48 @@ public class RateLimitInterceptor implements HandlerInterceptor {
             response.setContentType("application/json");
             try {
                 response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
-                logger.trace("Wrote rate limit error response for IP: {}", ipAddress);
             } catch (IOException e) {
-                logger.error("IOException while writing rate limit response for IP {}: {}", ipAddress, e.getMessage(), e);
+                logger.error("IOException while writing rate limit response: {}", e.getMessage(), e);
             }
 
+            Deadline.clear();
             return false; // Block the request
         }
-        logger.debug("IP {} is not rate-limited. Proceeding with request.", ipAddress);
         return true; // Allow the request to proceed
     }
+
+    /**
+     * Refuses a request with 428 and the challenge to answer in the X-PoW-Solution header of the retry.
+     */
+    private void writeChallenge(HttpServletResponse response, ProofOfWorkChallenger.Challenge challenge) {
+        response.setStatus(HttpStatus.PRECONDITION_REQUIRED.value());
+        Map<String, Object> body = new HashMap<>();
+        body.put("message", "Too many rejected requests. Solve the challenge and retry with the " + ProofOfWorkChallenger.SOLUTION_HEADER + " header.");
+        body.put("challenge", challenge.getToken());
+        body.put("difficulty", challenge.getDifficulty());
+        response.setContentType("application/json");
+        try {
+            response.getWriter().write(objectMapper.writeValueAsString(body));
+        } catch (IOException e) {
+            logger.error("IOException while writing challenge response: {}", e.getMessage(), e);
+        }
+    }
+
+    private RateLimitResponse checkCachedOnly(String ipAddress) {
+        RateLimitResponse cached = rateLimitService.checkCached(ipAddress, OffsetDateTime.now());
+        return cached != null ? cached : new RateLimitResponse(false, "Allowed", null);
+    }
+
+    /**
+     * Detaches the deadline once the controller went asynchronous; the servlet thread returns to the pool.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Deadline.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Deadline.clear();
+    }
 }
\ No newline at end of file
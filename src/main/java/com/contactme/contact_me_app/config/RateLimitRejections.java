@@ -0,0 +1,98 @@
+package com.contactme.contact_me_app.config;
+
+import com.contactme.contact_me_app.abuse.HeavyHitterTracker;
+import com.contactme.contact_me_app.abuse.ProofOfWorkChallenger;
+import com.contactme.contact_me_app.dto.RateLimitResponse;
+import com.contactme.contact_me_app.logging.LogRedactor;
+import com.contactme.contact_me_app.logging.LogSampler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bookkeeping of a rate-limit rejection, shared by every place that rejects a submission:
+ * the contact.rate_limit.rejected counter of the dimension, the heavy hitter sketch, the
+ * proof-of-work suspicion of the client and a sampled log event.
+ * <p>
+ * In STANDARD ingest mode the IP limit rejects in the {@link RateLimitInterceptor} and the email limit
+ * in the {@link EmailRateLimitAdvice}; in ATOMIC mode both are rejected by the ingest statement.
+ * The reactive profile rejects in the {@link RateLimitWebFilter} and the reactive controller.
+ * Routing all of them through here keeps the metrics and the abuse signals the same in every mode and stack.
+ */
+@Component
+public class RateLimitRejections {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitRejections.class);
+
+    private final LogRedactor logRedactor;
+    private final LogSampler rejectionLogSampler;
+    private final HeavyHitterTracker heavyHitters;
+    private final ProofOfWorkChallenger challenger;
+    private final Counter ipRejections;
+    private final Counter emailRejections;
+
+    /**
+     * Constructor for RateLimitRejections.
+     * @param logRedactor Redactor used to keep client IP addresses and sender emails out of the logs.
+     * @param rejectionLogEveryN Only one rejection out of every N is logged, to bound log volume during floods.
+     * @param meterRegistry Registry for the rejection counters.
+     * @param heavyHitters Sketch of the heaviest requesting and rejected IPs.
+     * @param challenger Proof-of-work challenges for clients that keep tripping the limiter.
+     */
+    public RateLimitRejections(LogRedactor logRedactor,
+                               @Value("${logging.sampling.rate-limit-rejections.every-n:20}") long rejectionLogEveryN,
+                               MeterRegistry meterRegistry, HeavyHitterTracker heavyHitters, ProofOfWorkChallenger challenger) {
+        this.logRedactor = logRedactor;
+        this.rejectionLogSampler = new LogSampler(rejectionLogEveryN);
+        this.heavyHitters = heavyHitters;
+        this.challenger = challenger;
+        this.ipRejections = Counter.builder("contact.rate_limit.rejected").tag("dimension", "ip").register(meterRegistry);
+        this.emailRejections = Counter.builder("contact.rate_limit.rejected").tag("dimension", "email").register(meterRegistry);
+    }
+
+    /**
+     * Records a rejection by the per-IP limit. The rejection also counts towards a proof-of-work challenge.
+     *
+     * @param ipAddress The client IP address.
+     * @param rejection The rate limit decision.
+     */
+    public void ip(String ipAddress, RateLimitResponse rejection) {
+        ipRejections.increment();
+        heavyHitters.recordRejection(ipAddress, "ip: " + rejection.getMessage());
+        challenger.recordRejection(ipAddress);
+        if (rejectionLogSampler.sample()) {
+            logger.atWarn().setMessage("rate_limit_rejected")
+                    .addKeyValue("dimension", "ip")
+                    .addKeyValue("ip", logRedactor.token(ipAddress))
+                    .addKeyValue("reason", rejection.getMessage())
+                    .addKeyValue("retry_after_s", rejection.getRetryAfterSeconds())
+                    .addKeyValue("suppressed", rejectionLogSampler.drainSuppressed())
+                    .log();
+        }
+    }
+
+    /**
+     * Records a rejection by the per-sender-email limit.
+     *
+     * @param ipAddress The client IP address, or null where it is not known (the body advice).
+     * @param email The sender email as submitted.
+     * @param rejection The rate limit decision.
+     */
+    public void email(String ipAddress, String email, RateLimitResponse rejection) {
+        emailRejections.increment();
+        heavyHitters.recordRejection(ipAddress, "email: " + rejection.getMessage());
+        if (rejectionLogSampler.sample()) {
+            logger.atWarn().setMessage("rate_limit_rejected")
+                    .addKeyValue("dimension", "email")
+                    .addKeyValue("email", logRedactor.token(email))
+                    .addKeyValue("reason", rejection.getMessage())
+                    .addKeyValue("retry_after_s", rejection.getRetryAfterSeconds())
+                    .addKeyValue("suppressed", rejectionLogSampler.drainSuppressed())
+                    .log();
+        }
+    }
+}
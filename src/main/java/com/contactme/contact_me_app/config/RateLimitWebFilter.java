@@ -0,0 +1,106 @@
+package com.contactme.contact_me_app.config;
+
+import com.contactme.contact_me_app.abuse.HeavyHitterTracker;
+import com.contactme.contact_me_app.dto.RateLimitResponse;
+import com.contactme.contact_me_app.service.ReactiveRateLimitService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+
+/**
+ * WebFlux equivalent of {@link RateLimitInterceptor} for the reactive profile.
+ * Rejects rate-limited POST requests to /api/contact with HTTP 429 and a Retry-After header,
+ * using the same rules and response body as the servlet stack.
+ */
+@Component
+@Profile("reactive")
+public class RateLimitWebFilter implements WebFilter {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitWebFilter.class);
+
+    private static final String CONTACT_PATH = "/api/contact";
+
+    private final ReactiveRateLimitService rateLimitService;
+    private final ObjectMapper objectMapper;
+    private final RateLimitRejections rejections;
+    private final HeavyHitterTracker heavyHitters;
+
+    /**
+     * Constructor for RateLimitWebFilter.
+     * @param rateLimitService Reactive service for checking rate limits.
+     * @param objectMapper ObjectMapper for converting Java objects to JSON.
+     * @param rejections Shared bookkeeping (counter, heavy hitters, sampled log) of rate-limit rejections.
+     * @param heavyHitters Sketch of the heaviest requesting IPs.
+     */
+    public RateLimitWebFilter(ReactiveRateLimitService rateLimitService, ObjectMapper objectMapper,
+                              RateLimitRejections rejections, HeavyHitterTracker heavyHitters) {
+        this.rateLimitService = rateLimitService;
+        this.objectMapper = objectMapper;
+        this.rejections = rejections;
+        this.heavyHitters = heavyHitters;
+        logger.info("RateLimitWebFilter initialized.");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (exchange.getRequest().getMethod() != HttpMethod.POST
+                || !CONTACT_PATH.equals(exchange.getRequest().getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+        String ipAddress = clientIp(exchange.getRequest());
+        heavyHitters.recordRequest(ipAddress);
+        return rateLimitService.checkRateLimit(ipAddress)
+                .flatMap(rateLimitCheck -> {
+                    if (!rateLimitCheck.isRateLimited()) {
+                        return chain.filter(exchange);
+                    }
+                    rejections.ip(ipAddress, rateLimitCheck);
+                    return writeRejection(exchange.getResponse(), rateLimitCheck);
+                });
+    }
+
+    private Mono<Void> writeRejection(ServerHttpResponse response, RateLimitResponse rateLimitCheck) {
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set("Retry-After", String.valueOf(rateLimitCheck.getRetryAfterSeconds()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(Map.of("message", rateLimitCheck.toClientMessage()));
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize rate limit response: {}", e.getMessage(), e);
+            return response.setComplete();
+        }
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    /**
+     * Resolves the client IP address of a reactive request, the equivalent of {@code getRemoteAddr()}.
+     */
+    public static String clientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : remoteAddress.getHostString();
+    }
+}
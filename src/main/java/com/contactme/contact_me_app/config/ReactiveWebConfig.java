@@ -0,0 +1,58 @@
+package com.contactme.contact_me_app.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Spring configuration for the reactive profile.
+ * Pins the embedded server to Reactor Netty (Tomcat is still on the classpath for the servlet profile)
+ * and runs it on a small, fixed number of event-loop threads.
+ * With R2DBC enabled there are two transaction managers; the JPA one is made primary, so blocking
+ * code and {@code @Transactional} without a qualifier keep using JPA.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveWebConfig {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveWebConfig.class);
+
+    @Value("${reactive.event-loop-threads:2}")
+    private int eventLoopThreads;
+
+    /**
+     * Creates the Netty server factory running on a dedicated event loop group.
+     *
+     * @return The reactive web server factory.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        LoopResources loopResources = LoopResources.create("contact-http", eventLoopThreads, true);
+        factory.addServerCustomizers(server -> server.runOn(loopResources));
+        logger.info("Reactive web server configured with {} event-loop threads.", eventLoopThreads);
+        return factory;
+    }
+
+    /**
+     * The JPA transaction manager of the scheduled jobs and services, primary next to the R2DBC one.
+     * Declaring it here also keeps the JPA auto-configuration from backing off when the R2DBC manager exists.
+     *
+     * @param entityManagerFactory The JPA entity manager factory.
+     * @return The primary transaction manager.
+     */
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
@@ -0,0 +1,46 @@
+package com.contactme.contact_me_app.config;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * Rejects requests whose declared Content-Length exceeds the body limit with 413,
+ * before admission control, rate limiting or any database work.
+ * Bodies without a Content-Length are bounded while they are read by the {@link BoundedContactFormConverter}.
+ */
+@Component
+public class RequestSizeInterceptor implements HandlerInterceptor {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(RequestSizeInterceptor.class);
+
+    private static final String REJECTION_BODY = "{\"message\":\"Request body is too large.\"}";
+
+    @Value("${contact.request.max-body-bytes:20480}")
+    private long maxBodyBytes;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC || request.getContentLengthLong() <= maxBodyBytes) {
+            return true;
+        }
+        logger.debug("Rejecting request with Content-Length {} (limit {}).", request.getContentLengthLong(), maxBodyBytes);
+        response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        response.setContentType("application/json");
+        try {
+            response.getWriter().write(REJECTION_BODY);
+        } catch (IOException e) {
+            logger.error("IOException while writing size rejection: {}", e.getMessage(), e);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,129 @@
+package com.contactme.contact_me_app.config;
+
+import com.contactme.contact_me_app.dto.ContactFormRequest;
+import com.contactme.contact_me_app.dto.RateLimitResponse;
+import com.contactme.contact_me_app.logging.LogRedactor;
+import com.contactme.contact_me_app.logging.SubmissionLogEvent;
+import com.contactme.contact_me_app.service.AdaptiveConcurrencyLimiter;
+import com.contactme.contact_me_app.service.ContactFormService;
+import com.contactme.contact_me_app.service.RateLimitService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.NOPLogger;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * JIT warm-up run once at startup, before the application reports ready.
+ * <p>
+ * Application runners complete before the ApplicationReadyEvent, so the readiness probe only
+ * turns green after the rate-limit and submission paths have been executed a number of times:
+ * request parsing, the rate-limit query and evaluation, log redaction, admission control and
+ * the JPA insert path. The database writes run in a transaction that is always rolled back.
+ * Failures are logged and never prevent startup.
+ */
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmup.class);
+
+    // Documentation address (RFC 5737), never a real client
+    private static final String WARMUP_IP = "192.0.2.1";
+    private static final String WARMUP_BODY = "{\"fullName\":\"Warm Up\",\"email\":\"warmup@example.com\","
+            + "\"subject\":\"warm-up\",\"messageText\":\"JIT warm-up request\"}";
+
+    private final RateLimitService rateLimitService;
+    private final ContactFormService contactFormService;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final LogRedactor redactor;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate rollbackOnlyTransaction;
+
+    @Value("${warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${warmup.iterations:200}")
+    private int iterations;
+
+    @Value("${warmup.database-iterations:20}")
+    private int databaseIterations;
+
+    /**
+     * Constructor for StartupWarmup.
+     * @param rateLimitService Service whose rate-limit path is exercised.
+     * @param contactFormService Service whose submission path is exercised.
+     * @param limiter Admission limiter exercised with a synthetic client.
+     * @param redactor Redactor used for log tokens.
+     * @param objectMapper ObjectMapper used to parse the synthetic request body.
+     * @param transactionManager Transaction manager for the rolled-back database writes.
+     */
+    public StartupWarmup(RateLimitService rateLimitService, ContactFormService contactFormService,
+                         AdaptiveConcurrencyLimiter limiter, LogRedactor redactor, ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager) {
+        this.rateLimitService = rateLimitService;
+        this.contactFormService = contactFormService;
+        this.limiter = limiter;
+        this.redactor = redactor;
+        this.objectMapper = objectMapper;
+        this.rollbackOnlyTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        int completed = 0;
+        try {
+            for (int i = 0; i < iterations; i++) {
+                exerciseRequestPath(i < databaseIterations);
+                completed++;
+            }
+        } catch (Exception e) {
+            logger.warn("JIT warm-up stopped after {} iterations: {}", completed, e.getMessage());
+        }
+        logger.info("JIT warm-up finished. Iterations: {}, Duration: {} ms", completed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void exerciseRequestPath(boolean withDatabase) throws Exception {
+        // Admission control is exercised without recording latency, so the warm-up does not skew the limit.
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(WARMUP_IP);
+        try {
+            ContactFormRequest request = objectMapper.readValue(WARMUP_BODY, ContactFormRequest.class);
+            SubmissionLogEvent event = SubmissionLogEvent.begin()
+                    .lap("rate_limit")
+                    .ipToken(redactor.token(WARMUP_IP))
+                    .emailToken(redactor.token(request.getEmail()))
+                    .messageLength(request.getMessageText().length());
+            if (withDatabase) {
+                rollbackOnlyTransaction.executeWithoutResult(status -> {
+                    status.setRollbackOnly();
+                    RateLimitResponse response = rateLimitService.checkRateLimit(WARMUP_IP);
+                    response.toClientMessage();
+                    event.submissionId(contactFormService.saveSubmission(request).getId()).lap("save");
+                    rateLimitService.recordSubmission(WARMUP_IP);
+                });
+                // The records were rolled back; forget them in the rate limit cache too
+                rateLimitService.cacheSubmissionTimes(WARMUP_IP, List.of());
+            } else {
+                OffsetDateTime now = OffsetDateTime.now();
+                rateLimitService.evaluate(WARMUP_IP, List.of(now.minusMinutes(1)), now).toClientMessage();
+            }
+            event.lap("record").emit(NOPLogger.NOP_LOGGER, "warmup", 200);
+        } finally {
+            if (permit != null) {
+                permit.release(false);
+            }
+        }
+    }
+}
@@ -1,41 +1,75 @@
 package com.contactme.contact_me_app.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 /**
  * Spring configuration class for setting up web-related configurations,
  * such as registering interceptors.
  */
 @Configuration
+@Profile("!reactive")
 public class WebConfig implements WebMvcConfigurer {
 
     // Initialize a logger for this class
     private static final Logger logger = LoggerFactory.getLogger(WebConfig.class);
 
+    private final RequestSizeInterceptor requestSizeInterceptor;
+    private final AdmissionControlInterceptor admissionControlInterceptor;
     private final RateLimitInterceptor rateLimitInterceptor;
 
+    @Value("${contact.request.max-body-bytes:20480}")
+    private long maxBodyBytes;
+
     /**
      * Constructor for WebConfig.
+     * @param requestSizeInterceptor The request size interceptor, applied first.
+     * @param admissionControlInterceptor The admission control interceptor.
      * @param rateLimitInterceptor The custom rate limit interceptor to be registered.
      */
-    public WebConfig(RateLimitInterceptor rateLimitInterceptor) {
+    public WebConfig(RequestSizeInterceptor requestSizeInterceptor, AdmissionControlInterceptor admissionControlInterceptor,
+                     RateLimitInterceptor rateLimitInterceptor) {
+        this.requestSizeInterceptor = requestSizeInterceptor;
+        this.admissionControlInterceptor = admissionControlInterceptor;
         this.rateLimitInterceptor = rateLimitInterceptor;
-        logger.info("WebConfig initialized with RateLimitInterceptor.");
+        logger.info("WebConfig initialized with AdmissionControlInterceptor and RateLimitInterceptor.");
     }
 
     /**
      * Registers interceptors with the InterceptorRegistry.
-     * The RateLimitInterceptor is added to apply rate limiting to the /api/contact endpoint.
+     * The RequestSizeInterceptor runs first and rejects declared oversized bodies; the
+     * AdmissionControlInterceptor then sheds overload before any database work, and
+     * the RateLimitInterceptor applies rate limiting to the /api/contact endpoint.
      *
      * @param registry The InterceptorRegistry to add interceptors to.
      */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestSizeInterceptor).addPathPatterns("/api/contact");
+        registry.addInterceptor(admissionControlInterceptor).addPathPatterns("/api/contact");
         registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/api/contact");
-        logger.info("RateLimitInterceptor registered for path pattern: /api/contact");
+        logger.info("RequestSizeInterceptor, AdmissionControlInterceptor and RateLimitInterceptor registered for path pattern: /api/contact");
+    }
+
+    /**
+     * Registers the streaming, size-bounded reader for ContactFormRequest ahead of the default JSON converter.
+     *
+     * @param converters The configured message converters.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (maxBodyBytes < BoundedContactFormConverter.MIN_BODY_BYTES) {
+            logger.warn("contact.request.max-body-bytes={} is below {}: some submissions within the field limits will be rejected with 413.",
+                    maxBodyBytes, BoundedContactFormConverter.MIN_BODY_BYTES);
+        }
+        converters.add(0, new BoundedContactFormConverter(maxBodyBytes));
     }
 }
\ No newline at end of file
@@ -1,13 +1,32 @@
 package com.contactme.contact_me_app.controller;
 
+import com.contactme.contact_me_app.config.RateLimitRejections;
+import com.contactme.contact_me_app.deadline.Deadline;
+import com.contactme.contact_me_app.deadline.DeadlineGuard;
 import com.contactme.contact_me_app.dto.ContactFormRequest;
 import com.contactme.contact_me_app.dto.NotificationMessage;
+import com.contactme.contact_me_app.dto.RateLimitResponse;
+import com.contactme.contact_me_app.dto.SubmissionEvent;
 import com.contactme.contact_me_app.entity.ContactFormSubmission;
+import com.contactme.contact_me_app.exception.DeadlineExceededException;
+import com.contactme.contact_me_app.exception.RateLimitExceededException;
+import com.contactme.contact_me_app.logging.LogRedactor;
+import com.contactme.contact_me_app.logging.SubmissionLogEvent;
 import com.contactme.contact_me_app.publisher.PublishMessage;
+import com.contactme.contact_me_app.screening.ContentScreener;
+import com.contactme.contact_me_app.screening.ScreeningAction;
+import com.contactme.contact_me_app.screening.ScreeningResult;
+import com.contactme.contact_me_app.service.AtomicIngestService;
 import com.contactme.contact_me_app.service.ContactFormService;
+import com.contactme.contact_me_app.service.EmailRateLimitService;
 import com.contactme.contact_me_app.service.RateLimitService;
+import com.contactme.contact_me_app.stats.SubmissionRollupService;
+import com.contactme.contact_me_app.stream.SubmissionStreamService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -17,12 +36,20 @@ import org.springframework.web.bind.annotation.RestController;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * REST Controller for handling contact form submissions.
  * It manages the endpoint for receiving contact requests,
  * interacting with rate limiting and contact form services.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api")
 public class ContactFormController {
 
@@ -32,71 +59,299 @@ public class ContactFormController {
     private static final Logger logger = LoggerFactory.getLogger(ContactFormController.class);
 
     private final RateLimitService rateLimitService;
+    private final EmailRateLimitService emailRateLimitService;
     private final ContactFormService contactFormService;
     private final PublishMessage publishMessage;
+    private final Executor persistenceExecutor;
+    private final LogRedactor logRedactor;
+    private final ContentScreener contentScreener;
+    private final SubmissionRollupService rollupService;
+    private final SubmissionStreamService streamService;
+    private final DeadlineGuard deadlineGuard;
+    private final AtomicIngestService atomicIngestService;
+    private final RateLimitRejections rejections;
+
+    // Time budget of a request; the deadline itself is started by the RateLimitInterceptor
+    @Value("${contact.request-timeout-ms:5000}")
+    private long requestTimeoutMillis;
 
     /**
      * Constructor for ContactFormController.
      * @param rateLimitService Service to handle rate limiting logic.
+     * @param emailRateLimitService Service recording submissions for the per-sender-email limit.
      * @param contactFormService Service to handle contact form submission persistence.
+     * @param publishMessage Composite publisher routing notifications to the configured brokers.
+     * @param persistenceExecutor Executor, sized to the JDBC pool, running the database work of a submission.
+     * @param logRedactor Redactor used to keep personal data out of the logs.
+     * @param contentScreener Screening stage run before anything is persisted.
+     * @param rollupService Service counting accepted submissions in the statistics rollups.
+     * @param streamService Live feed of accepted submissions.
+     * @param deadlineGuard Counts requests that miss their deadline.
+     * @param atomicIngestService Single-statement check and insert, used in ATOMIC ingest mode.
+     * @param rejections Counts, logs and reports the rejections of the atomic ingest to the abuse signals.
      */
-    public ContactFormController(RateLimitService rateLimitService, ContactFormService contactFormService,
-                                 @Qualifier("pubSubPublisher") PublishMessage publishMessage) {
+    public ContactFormController(RateLimitService rateLimitService, EmailRateLimitService emailRateLimitService,
+                                 ContactFormService contactFormService,
+                                 @Qualifier("compositePublisher") PublishMessage publishMessage,
+                                 @Qualifier("persistenceExecutor") Executor persistenceExecutor,
+                                 LogRedactor logRedactor, ContentScreener contentScreener,
+                                 SubmissionRollupService rollupService, SubmissionStreamService streamService,
+                                 DeadlineGuard deadlineGuard, AtomicIngestService atomicIngestService,
+                                 RateLimitRejections rejections) {
         this.rateLimitService = rateLimitService;
+        this.emailRateLimitService = emailRateLimitService;
         this.contactFormService = contactFormService;
         this.publishMessage = publishMessage;
+        this.persistenceExecutor = persistenceExecutor;
+        this.logRedactor = logRedactor;
+        this.contentScreener = contentScreener;
+        this.rollupService = rollupService;
+        this.streamService = streamService;
+        this.deadlineGuard = deadlineGuard;
+        this.atomicIngestService = atomicIngestService;
+        this.rejections = rejections;
         logger.info("ContactFormController initialized with RateLimitService and ContactFormService.");
     }
 
     /**
      * Handles POST requests for contact form submissions.
      * This endpoint receives contact details, saves them, and records the submission for rate limiting.
+     * The servlet thread only parses the request and dispatches it: the database work and the publish
+     * hand-off run on the persistence executor, and the response is completed from there.
+     * The whole request shares one deadline: the persistence executor inherits it and queries run with the
+     * remaining time as timeout. The response is 503 only for a submission that was not stored: when the
+     * deadline passes before the worker claimed the submission, the worker will not start it; once claimed,
+     * the response waits for the worker, whose transaction is itself bounded by the deadline.
+     * The body has already been read with size limits and validated when this method is called.
+     * Submissions matching a blocked pattern are dropped or quarantined; the client cannot tell them apart
+     * from accepted ones.
      *
      * @param request The ContactFormRequest DTO containing submission details.
      * @param httpRequest The HttpServletRequest to get client IP address.
-     * @return ResponseEntity indicating success or failure of the submission.
+     * @return A future completing with the ResponseEntity indicating success or failure of the submission.
      */
     @PostMapping("/contact")
-    public ResponseEntity<String> submitContactForm(@RequestBody ContactFormRequest request, HttpServletRequest httpRequest) {
-        // Log the initiation of the submission process
-        logger.info("Attempting to submit contact form from IP: {}", httpRequest.getRemoteAddr());
-        logger.debug("Request details: Full Name={}, Email={}, Subject={}, MessageLength={}",
-                request.getFullName(), request.getEmail(), request.getSubject(), request.getMessageText().length());
+    public CompletableFuture<ResponseEntity<String>> submitContactForm(@Valid @RequestBody ContactFormRequest request, HttpServletRequest httpRequest) {
+        // The RateLimitInterceptor has already handled blocking rate-limited requests.
+        // Capture the IP on the servlet thread: the request object must not be used from other threads.
+        String ipAddress = httpRequest.getRemoteAddr();
+
+        // One structured event per request; personal data is only logged as keyed hashes
+        SubmissionLogEvent event = SubmissionLogEvent.from(httpRequest)
+                .lap("parse")
+                .ipToken(logRedactor.token(ipAddress))
+                .emailToken(logRedactor.token(request.getEmail()))
+                .messageLength(request.getMessageText().length());
+
+        // Content screening is CPU-only and runs before any database or broker work
+        ScreeningResult screening = contentScreener.screen(request);
+        event.lap("screen");
+        long emailKey = EmailRateLimitService.keyOf(request.getEmail());
+
+        Deadline current = Deadline.current();
+        Deadline deadline = current != null ? current : Deadline.afterMillis(requestTimeoutMillis);
+        CompletableFuture<ResponseEntity<String>> future;
+        // Attached while submitting, so the persistence executor carries it to the worker
+        try (Deadline.Scope scope = deadline.attach()) {
+            future = CompletableFuture.supplyAsync(() -> screening.isBlocked()
+                    ? screenedSubmission(request, ipAddress, emailKey, screening, event)
+                    : processSubmission(request, ipAddress, emailKey, event), persistenceExecutor);
+        } catch (RejectedExecutionException e) {
+            // The persistence queue is full: shed the request cheaply instead of queueing on the JDBC pool
+            event.emit(logger, "rejected_busy", HttpStatus.SERVICE_UNAVAILABLE.value());
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "1")
+                    .body("Service is busy. Please try again shortly."));
+        }
+
+        CompletableFuture<ResponseEntity<String>> response = new CompletableFuture<>();
+        future.whenComplete((result, e) -> {
+            if (e == null) {
+                response.complete(result);
+            } else {
+                response.completeExceptionally(e);
+            }
+        });
+        // Unlike orTimeout, a submission the worker already claimed is never answered with a timeout.
+        // If the worker abandoned it first, its DeadlineExceededException completes the response instead.
+        CompletableFuture.delayedExecutor(deadline.remainingMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+            if (deadline.abandon()) {
+                response.completeExceptionally(new TimeoutException());
+            }
+        });
+        return response
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof RateLimitExceededException rateLimited) {
+                        // Rejected by the atomic ingest; answered with 429 by the exception handler
+                        throw rateLimited;
+                    }
+                    if (cause instanceof TimeoutException || cause instanceof DeadlineExceededException) {
+                        if (cause instanceof TimeoutException) {
+                            deadlineGuard.exceeded("response", null);
+                        }
+                        // Either way the submission was not stored, so the client can safely retry.
+                        // On a response timeout the worker may still be recording its queue stage.
+                        event.snapshot().emit(logger, "timeout", HttpStatus.SERVICE_UNAVAILABLE.value());
+                        return new ResponseEntity<>("Contact form submission timed out and was not stored. Please try again.",
+                                HttpStatus.SERVICE_UNAVAILABLE);
+                    }
+                    // Log any unexpected errors during the submission process
+                    event.emit(logger, "error", HttpStatus.INTERNAL_SERVER_ERROR.value());
+                    logger.error("Error submitting contact form.", cause);
+                    // Return an internal server error response
+                    return new ResponseEntity<>("Failed to submit contact form.", HttpStatus.INTERNAL_SERVER_ERROR);
+                });
+    }
+
+    /**
+     * Persists the submission, records it for rate limiting and hands the notification off to the publisher and the live feed.
+     * Runs on the persistence executor. In ATOMIC ingest mode the limits are checked here, by the ingest statement,
+     * and a rejection completes the request with 429.
+     *
+     * @param request The ContactFormRequest DTO containing submission details.
+     * @param ipAddress The client IP address.
+     * @param emailKey The limiter key of the sender email.
+     * @param event The structured log event collecting the stage timings of this request.
+     * @return ResponseEntity indicating success of the submission.
+     */
+    private ResponseEntity<String> processSubmission(ContactFormRequest request, String ipAddress, long emailKey, SubmissionLogEvent event) {
+        event.lap("queue");
+        claim();
 
-        try {
-            // The RateLimitInterceptor has already handled blocking rate-limited requests.
-            String ipAddress = httpRequest.getRemoteAddr();
+        SubmissionEvent submissionEvent;
+        if (atomicIngestService.isEnabled()) {
+            // Limit checks, rate limit records and the submission itself in one statement
+            AtomicIngestService.Result result = atomicIngestService.ingest(request, ipAddress, emailKey);
+            event.lap("ingest");
+            if (result.isRateLimited()) {
+                // Same bookkeeping as the interceptor and the body advice in STANDARD mode
+                if ("ip".equals(result.getLimitedBy())) {
+                    rejections.ip(ipAddress, result.getRejection());
+                } else {
+                    rejections.email(ipAddress, request.getEmail(), result.getRejection());
+                }
+                event.emit(logger, "rate_limited_" + result.getLimitedBy(), HttpStatus.TOO_MANY_REQUESTS.value());
+                throw new RateLimitExceededException(result.getRejection());
+            }
+            event.submissionId(result.getSubmissionId());
+            rateLimitService.onSubmissionRecorded(ipAddress, result.getSentAt());
+            submissionEvent = new SubmissionEvent(result.getSubmissionId(), request.getFullName(),
+                    request.getSubject(), result.getSentAt());
+        } else {
+            // Save the submission and record it for rate limiting, per IP and per sender email, in one transaction
+            // bounded by the deadline. Its commit is the point of no return: a missed deadline before it rolls
+            // everything back, and nothing after it checks the deadline again, so a stored submission is
+            // always rate-limited and notified.
+            ContactFormSubmission contactFormSubmission = deadlineGuard.inTransaction("save", () -> {
+                ContactFormSubmission saved = contactFormService.saveSubmission(request);
+                rateLimitService.recordSubmission(ipAddress);
+                emailRateLimitService.recordSubmission(emailKey);
+                return saved;
+            });
+            event.lap("save").submissionId(contactFormSubmission.getId());
+            submissionEvent = new SubmissionEvent(contactFormSubmission.getId(), contactFormSubmission.getFullName(),
+                    contactFormSubmission.getSubject(), contactFormSubmission.getSentAt());
+        }
+        rollupService.recordSubmission(emailKey, ipAddress);
+        event.lap("record");
 
-            // Save the contact form submission details using the service
-            ContactFormSubmission contactFormSubmission = contactFormService.saveSubmission(request);
-            logger.info("Contact form submission saved successfully. Submission ID: {}", contactFormSubmission.getId());
+        NotificationMessage notificationMessage = new NotificationMessage(
+            request.getFullName(),
+            request.getEmail(),
+            request.getSubject(),
+            request.getMessageText()
+        );
+        this.publishMessage.sendMessage(notificationMessage);
+        streamService.publish(submissionEvent);
+        event.lap("publish").emit(logger, "accepted", HttpStatus.OK.value());
+        // Return a success response
+        return submitted();
+    }
+
+    /**
+     * Handles a screened-out submission: a quarantined one is stored for review, a dropped one is discarded.
+     * Both are recorded against the IP and sender email limits like accepted submissions, so a sender whose
+     * messages are screened out is still rate-limited. No notification is sent.
+     * Runs on the persistence executor. In ATOMIC ingest mode the limits are checked here first, as the
+     * ingest statement that enforces them for accepted submissions is not used, and a rejection
+     * completes the request with 429.
+     *
+     * @param request The ContactFormRequest DTO containing submission details.
+     * @param ipAddress The client IP address.
+     * @param emailKey The limiter key of the sender email.
+     * @param screening The screening result that blocked the submission.
+     * @param event The structured log event collecting the stage timings of this request.
+     * @return The regular success response.
+     */
+    private ResponseEntity<String> screenedSubmission(ContactFormRequest request, String ipAddress, long emailKey,
+                                                     ScreeningResult screening, SubmissionLogEvent event) {
+        event.lap("queue");
+        claim();
+        if (atomicIngestService.isEnabled()) {
+            // The interceptor only answered from its cache and the email advice is off in this mode
+            checkLimits(request, ipAddress, emailKey, event);
+        }
 
-            // Record the successful submission for rate limiting purposes in 'contact_form_submissions_ip' table
+        boolean quarantine = screening.getAction() == ScreeningAction.QUARANTINE;
+        deadlineGuard.inTransaction("screened", () -> {
+            if (quarantine) {
+                contactFormService.quarantineSubmission(request, screening.getMatchedPattern());
+            }
             rateLimitService.recordSubmission(ipAddress);
-            logger.debug("Recorded successful submission for IP: {}", ipAddress);
-
-            // Existing System.out.println statements are replaced with logger statements
-            // This ensures all output goes through the configured logging framework (e.g., Logback)
-            logger.info("Received contact form submission from IP: {}", ipAddress);
-            logger.info("Full Name: {}", request.getFullName());
-            logger.info("Email: {}", request.getEmail());
-            logger.info("Subject: {}", request.getSubject());
-            logger.info("Message: {}", request.getMessageText());
-            logger.info("Submission ID: {}", contactFormSubmission.getId());
-            NotificationMessage notificationMessage = new NotificationMessage(
-                request.getFullName(),
-                request.getEmail(),
-                request.getSubject(),
-                request.getMessageText()
-            );
-            this.publishMessage.sendMessage(notificationMessage);
-            // Return a success response
-            return new ResponseEntity<>("Contact form submitted successfully!", HttpStatus.OK);
-        } catch (Exception e) {
-            // Log any unexpected errors during the submission process
-            logger.error("Error submitting contact form for IP {}: {}", httpRequest.getRemoteAddr(), e.getMessage(), e);
-            // Return an internal server error response
-            return new ResponseEntity<>("Failed to submit contact form.", HttpStatus.INTERNAL_SERVER_ERROR);
+            emailRateLimitService.recordSubmission(emailKey);
+            return null;
+        });
+        event.lap(quarantine ? "quarantine" : "record")
+                .emit(logger, quarantine ? "quarantined" : "screened_drop", HttpStatus.OK.value());
+        return submitted();
+    }
+
+    /**
+     * Checks the IP and sender email limits the way the interceptor and the body advice do in STANDARD mode,
+     * for a submission that does not go through the ingest statement.
+     *
+     * @throws RateLimitExceededException if either limit rejects the submission.
+     */
+    private void checkLimits(ContactFormRequest request, String ipAddress, long emailKey, SubmissionLogEvent event) {
+        RateLimitResponse ipCheck = rateLimitService.checkRateLimit(ipAddress);
+        if (ipCheck.isRateLimited()) {
+            rejections.ip(ipAddress, ipCheck);
+            event.lap("rate_limit").emit(logger, "rate_limited_ip", HttpStatus.TOO_MANY_REQUESTS.value());
+            throw new RateLimitExceededException(ipCheck);
+        }
+        RateLimitResponse emailCheck = emailRateLimitService.checkRateLimit(emailKey);
+        if (emailCheck.isRateLimited()) {
+            rejections.email(ipAddress, request.getEmail(), emailCheck);
+            event.lap("rate_limit").emit(logger, "rate_limited_email", HttpStatus.TOO_MANY_REQUESTS.value());
+            throw new RateLimitExceededException(emailCheck);
         }
+        event.lap("rate_limit");
+    }
+
+    /**
+     * Abandons a submission that waited in the queue past its deadline, or that the response already
+     * gave up on; otherwise claims it, so that the response waits for its outcome.
+     * The transaction that follows is the only other point where the submission can be abandoned.
+     * A missed deadline is counted once, by whichever side abandons the submission.
+     */
+    private void claim() {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            deadlineGuard.check("queue");
+            return;
+        }
+        if (deadline.isExpired() && deadline.abandon()) {
+            // Abandoned here first: the response is completed by this exception and does not count it
+            throw deadlineGuard.exceeded("queue", null);
+        }
+        if (!deadline.claim()) {
+            // Already answered with 503 and counted by the response side
+            throw new DeadlineExceededException("queue");
+        }
+    }
+
+    private static ResponseEntity<String> submitted() {
+        return new ResponseEntity<>("Contact form submitted successfully!", HttpStatus.OK);
     }
-}
\ No newline at end of file
+}
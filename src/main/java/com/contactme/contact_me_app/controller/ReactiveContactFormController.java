@@ -0,0 +1,148 @@
+package com.contactme.contact_me_app.controller;
+
+import com.contactme.contact_me_app.config.RateLimitRejections;
+import com.contactme.contact_me_app.config.RateLimitWebFilter;
+import com.contactme.contact_me_app.dto.ContactFormRequest;
+import com.contactme.contact_me_app.dto.NotificationMessage;
+import com.contactme.contact_me_app.exception.RateLimitExceededException;
+import com.contactme.contact_me_app.publisher.PublishMessage;
+import com.contactme.contact_me_app.screening.ContentScreener;
+import com.contactme.contact_me_app.screening.ScreeningAction;
+import com.contactme.contact_me_app.screening.ScreeningResult;
+import com.contactme.contact_me_app.service.ContactFormService;
+import com.contactme.contact_me_app.service.EmailRateLimitService;
+import com.contactme.contact_me_app.service.ReactiveContactFormService;
+import com.contactme.contact_me_app.service.ReactiveRateLimitService;
+import com.contactme.contact_me_app.stats.SubmissionRollupService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive REST Controller serving the same /api/contact contract as {@link ContactFormController}
+ * on WebFlux and R2DBC. Rate limiting is applied beforehand by the RateLimitWebFilter.
+ */
+@RestController
+@RequestMapping("/api")
+@Profile("reactive")
+public class ReactiveContactFormController {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveContactFormController.class);
+
+    private final ReactiveRateLimitService rateLimitService;
+    private final ReactiveContactFormService contactFormService;
+    private final PublishMessage publishMessage;
+    private final ContentScreener contentScreener;
+    private final ContactFormService quarantineService;
+    private final EmailRateLimitService emailRateLimitService;
+    private final SubmissionRollupService rollupService;
+    private final RateLimitRejections rejections;
+
+    /**
+     * Constructor for ReactiveContactFormController.
+     * @param rateLimitService Reactive service to handle rate limiting logic.
+     * @param contactFormService Reactive service to handle contact form submission persistence.
+     * @param publishMessage Composite publisher; its sendMessage only enqueues onto the publisher executor,
+     *                       so it never blocks the event loop.
+     * @param contentScreener Screening stage run before anything is persisted.
+     * @param quarantineService JPA service storing screened-out submissions; called off the event loop.
+     * @param emailRateLimitService JPA service for the per-sender-email limit; called off the event loop.
+     * @param rollupService Service counting accepted submissions in the statistics rollups; in-memory only.
+     * @param rejections Counts, logs and reports sender email rejections to the abuse signals.
+     */
+    public ReactiveContactFormController(ReactiveRateLimitService rateLimitService,
+                                         ReactiveContactFormService contactFormService,
+                                         @Qualifier("compositePublisher") PublishMessage publishMessage,
+                                         ContentScreener contentScreener,
+                                         ContactFormService quarantineService,
+                                         EmailRateLimitService emailRateLimitService,
+                                         SubmissionRollupService rollupService,
+                                         RateLimitRejections rejections) {
+        this.rateLimitService = rateLimitService;
+        this.contactFormService = contactFormService;
+        this.publishMessage = publishMessage;
+        this.contentScreener = contentScreener;
+        this.quarantineService = quarantineService;
+        this.emailRateLimitService = emailRateLimitService;
+        this.rollupService = rollupService;
+        this.rejections = rejections;
+        logger.info("ReactiveContactFormController initialized.");
+    }
+
+    /**
+     * Handles POST requests for contact form submissions.
+     *
+     * @param request The ContactFormRequest DTO containing submission details.
+     * @param httpRequest The reactive request, used to get the client IP address.
+     * @return A Mono emitting the response indicating success or failure of the submission.
+     */
+    @PostMapping("/contact")
+    public Mono<ResponseEntity<String>> submitContactForm(@Valid @RequestBody ContactFormRequest request, ServerHttpRequest httpRequest) {
+        String ipAddress = RateLimitWebFilter.clientIp(httpRequest);
+        long emailKey = EmailRateLimitService.keyOf(request.getEmail());
+
+        // The IP limit was applied by the RateLimitWebFilter; the sender email limit needs the parsed body
+        return Mono.fromCallable(() -> emailRateLimitService.checkRateLimit(emailKey))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(check -> {
+                    if (check.isRateLimited()) {
+                        rejections.email(ipAddress, request.getEmail(), check);
+                        return Mono.error(new RateLimitExceededException(check));
+                    }
+                    return screenAndSubmit(request, ipAddress, emailKey);
+                });
+    }
+
+    private Mono<ResponseEntity<String>> screenAndSubmit(ContactFormRequest request, String ipAddress, long emailKey) {
+        ScreeningResult screening = contentScreener.screen(request);
+        if (screening.isBlocked()) {
+            // Screened submissions count against the limits like accepted ones; quarantine is rare, so it
+            // reuses the blocking JPA path on the bounded elastic scheduler
+            Mono<Void> quarantine = screening.getAction() == ScreeningAction.QUARANTINE
+                    ? Mono.fromRunnable(() -> quarantineService.quarantineSubmission(request, screening.getMatchedPattern()))
+                            .subscribeOn(Schedulers.boundedElastic()).then()
+                    : Mono.empty();
+            return quarantine
+                    .then(rateLimitService.recordSubmission(ipAddress))
+                    .then(Mono.fromRunnable(() -> emailRateLimitService.recordSubmission(emailKey))
+                            .subscribeOn(Schedulers.boundedElastic()))
+                    .thenReturn(new ResponseEntity<>("Contact form submitted successfully!", HttpStatus.OK))
+                    .onErrorResume(e -> {
+                        logger.error("Error handling screened contact form: {}", e.getMessage(), e);
+                        return Mono.just(new ResponseEntity<>("Failed to submit contact form.", HttpStatus.INTERNAL_SERVER_ERROR));
+                    });
+        }
+
+        return contactFormService.saveSubmission(request)
+                .flatMap(saved -> rateLimitService.recordSubmission(ipAddress)
+                        .then(Mono.fromRunnable(() -> emailRateLimitService.recordSubmission(emailKey))
+                                .subscribeOn(Schedulers.boundedElastic()))
+                        .thenReturn(saved))
+                .map(saved -> {
+                    logger.debug("Contact form submission saved successfully. Submission ID: {}", saved.getId());
+                    rollupService.recordSubmission(emailKey, ipAddress);
+                    publishMessage.sendMessage(new NotificationMessage(
+                            request.getFullName(),
+                            request.getEmail(),
+                            request.getSubject(),
+                            request.getMessageText()));
+                    return new ResponseEntity<>("Contact form submitted successfully!", HttpStatus.OK);
+                })
+                .onErrorResume(e -> {
+                    logger.error("Error submitting contact form: {}", e.getMessage(), e);
+                    return Mono.just(new ResponseEntity<>("Failed to submit contact form.", HttpStatus.INTERNAL_SERVER_ERROR));
+                });
+    }
+}
@@ -0,0 +1,153 @@
+package com.contactme.contact_me_app.controller;
+
+import com.contactme.contact_me_app.dto.MarkReadRequest;
+import com.contactme.contact_me_app.dto.MarkReadResponse;
+import com.contactme.contact_me_app.service.SubmissionArchiveService;
+import com.contactme.contact_me_app.service.SubmissionReadService;
+import com.contactme.contact_me_app.stats.RollupGranularity;
+import com.contactme.contact_me_app.stats.SubmissionRollupService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * REST Controller for bulk operations on stored contact form submissions.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/submissions")
+public class SubmissionController {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionController.class);
+
+    private final SubmissionReadService submissionReadService;
+    private final SubmissionArchiveService submissionArchiveService;
+    private final SubmissionRollupService submissionRollupService;
+
+    // Upper bound on the number of ids accepted in one request
+    @Value("${submissions.mark-read.max-ids:100000}")
+    private int maxIds;
+
+    // Upper bound on the width of an id range selection (toId - fromId + 1)
+    @Value("${submissions.mark-read.max-id-range:1000000}")
+    private long maxIdRange;
+
+    // Upper bound on the number of archived submissions returned by one lookup
+    @Value("${archive.lookup.max-results:1000}")
+    private int maxArchivedResults;
+
+    // Upper bound on the number of rollup buckets returned by one statistics query
+    @Value("${stats.max-buckets:744}")
+    private long maxStatsBuckets;
+
+    /**
+     * Constructor for SubmissionController.
+     * @param submissionReadService Service applying the bulk updates.
+     * @param submissionArchiveService Service reading archived submissions.
+     * @param submissionRollupService Service reading the statistics rollups.
+     */
+    public SubmissionController(SubmissionReadService submissionReadService, SubmissionArchiveService submissionArchiveService,
+                                SubmissionRollupService submissionRollupService) {
+        this.submissionReadService = submissionReadService;
+        this.submissionArchiveService = submissionArchiveService;
+        this.submissionRollupService = submissionRollupService;
+        logger.info("SubmissionController initialized.");
+    }
+
+    /**
+     * Marks submissions as read, selected by id list, by id range or by sent-at range.
+     * Read submissions are removed by the scheduled retention cleanup.
+     *
+     * @param request The selection; exactly one selector must be set.
+     * @return The number of updated submissions, or 400 if the selection is invalid.
+     */
+    @PostMapping("/mark-read")
+    public ResponseEntity<?> markRead(@RequestBody MarkReadRequest request) {
+        boolean byIds = request.getIds() != null;
+        boolean byIdRange = request.getFromId() != null || request.getToId() != null;
+        boolean bySentAt = request.getSentFrom() != null || request.getSentTo() != null;
+        if ((byIds ? 1 : 0) + (byIdRange ? 1 : 0) + (bySentAt ? 1 : 0) != 1) {
+            return badRequest("Exactly one of ids, fromId/toId or sentFrom/sentTo must be given.");
+        }
+
+        MarkReadResponse response;
+        if (byIds) {
+            if (request.getIds().isEmpty() || request.getIds().size() > maxIds || request.getIds().contains(null)) {
+                return badRequest("ids must contain between 1 and " + maxIds + " ids.");
+            }
+            response = submissionReadService.markReadByIds(request.getIds());
+        } else if (byIdRange) {
+            if (request.getFromId() == null || request.getToId() == null
+                    || request.getFromId() < 1 || request.getFromId() > request.getToId()) {
+                return badRequest("fromId and toId must both be given, with 1 <= fromId <= toId.");
+            }
+            if (request.getToId() - request.getFromId() >= maxIdRange) {
+                return badRequest("An id range may span at most " + maxIdRange + " ids.");
+            }
+            response = submissionReadService.markReadByIdRange(request.getFromId(), request.getToId());
+        } else {
+            if (request.getSentFrom() == null || request.getSentTo() == null || request.getSentFrom().isAfter(request.getSentTo())) {
+                return badRequest("sentFrom and sentTo must both be given, with sentFrom <= sentTo.");
+            }
+            response = submissionReadService.markReadBySentAt(request.getSentFrom(), request.getSentTo());
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Returns archived submissions sent within the inclusive time range, ordered by sent time.
+     *
+     * @param from Start of the range (ISO-8601 date-time, inclusive).
+     * @param to End of the range (ISO-8601 date-time, inclusive).
+     * @param limit Maximum number of submissions to return; capped at archive.lookup.max-results.
+     * @return The archived submissions, or 400 if the range is invalid.
+     */
+    @GetMapping("/archived")
+    public ResponseEntity<?> findArchived(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+                                          @RequestParam(required = false) Integer limit) {
+        if (from.isAfter(to)) {
+            return badRequest("from must not be after to.");
+        }
+        int effectiveLimit = limit == null ? maxArchivedResults : Math.max(1, Math.min(limit, maxArchivedResults));
+        return ResponseEntity.ok(submissionArchiveService.findArchived(from, to, effectiveLimit));
+    }
+
+    /**
+     * Returns submission statistics per hour or day, read from the rollups only.
+     *
+     * @param granularity HOUR or DAY.
+     * @param from Start of the range (ISO-8601 date-time); its bucket is included.
+     * @param to End of the range (ISO-8601 date-time); its bucket is included.
+     * @return The statistics of the range, or 400 if the range is invalid or spans more than stats.max-buckets buckets.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<?> findStats(@RequestParam(defaultValue = "HOUR") RollupGranularity granularity,
+                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to) {
+        if (from.isAfter(to)) {
+            return badRequest("from must not be after to.");
+        }
+        if (granularity.bucketsBetween(from.toInstant(), to.toInstant()) > maxStatsBuckets) {
+            return badRequest("The range must not span more than " + maxStatsBuckets + " buckets.");
+        }
+        return ResponseEntity.ok(submissionRollupService.findStats(granularity, from, to));
+    }
+
+    private static ResponseEntity<Map<String, String>> badRequest(String message) {
+        return ResponseEntity.badRequest().body(Map.of("message", message));
+    }
+}
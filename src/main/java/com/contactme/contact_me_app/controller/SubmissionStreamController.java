@@ -0,0 +1,50 @@
+package com.contactme.contact_me_app.controller;
+
+import com.contactme.contact_me_app.stream.SubmissionStreamService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * REST Controller serving the live feed of new contact form submissions as Server-Sent Events.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/contact")
+public class SubmissionStreamController {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionStreamController.class);
+
+    private final SubmissionStreamService submissionStreamService;
+
+    /**
+     * Constructor for SubmissionStreamController.
+     * @param submissionStreamService Service fanning submission events out to the connections.
+     */
+    public SubmissionStreamController(SubmissionStreamService submissionStreamService) {
+        this.submissionStreamService = submissionStreamService;
+        logger.info("SubmissionStreamController initialized.");
+    }
+
+    /**
+     * Opens a Server-Sent Events stream with one "submission" event per accepted submission.
+     *
+     * @param lastEventId Sent by reconnecting EventSource clients; the submissions after it are replayed first.
+     * @return The event stream, or 503 if the maximum number of connections is open.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return submissionStreamService.subscribe(lastEventId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "5").build());
+    }
+}
@@ -0,0 +1,131 @@
+package com.contactme.contact_me_app.deadline;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A point in time by which a unit of work (one request, one publish) must be done.
+ * <p>
+ * The deadline of the work running on a thread is held in a thread-local; it is attached with
+ * {@link #attach()} and carried to executor threads by the {@link DeadlineTaskDecorator}.
+ * Blocking calls derive their timeouts from the remaining time, so the timeouts of all stages
+ * together never exceed the budget the work started with.
+ * <p>
+ * When one thread waits for work running on another, the two settle a missed deadline with
+ * {@link #claim()} and {@link #abandon()}: whichever comes first decides whether the work runs
+ * to its end or is abandoned, so the waiting side never gives up on work that may still complete.
+ * Either side may abandon; only the call that actually abandons returns true, so a missed deadline
+ * is reported once.
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private static final int OPEN = 0;
+    private static final int CLAIMED = 1;
+    private static final int ABANDONED = 2;
+
+    private final long expiresAtNanos;
+    private final AtomicInteger outcome = new AtomicInteger(OPEN);
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline afterMillis(long budgetMillis) {
+        return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+    }
+
+    /**
+     * @return The deadline of the work on the current thread, or null if it has none.
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return true if the work on the current thread has a deadline and missed it.
+     */
+    public static boolean isCurrentExpired() {
+        Deadline deadline = CURRENT.get();
+        return deadline != null && deadline.isExpired();
+    }
+
+    /**
+     * Returns the time left for a blocking call on the current thread.
+     *
+     * @param fallbackMillis Upper bound, and the timeout used when the thread has no deadline.
+     * @return The remaining time of the current deadline, at most the fallback.
+     */
+    public static long remainingMillisOr(long fallbackMillis) {
+        Deadline deadline = CURRENT.get();
+        return deadline == null ? fallbackMillis : Math.min(fallbackMillis, deadline.remainingMillis());
+    }
+
+    /**
+     * Makes this the deadline of the current thread until the returned scope is closed,
+     * which restores the previous one.
+     */
+    public Scope attach() {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public long remainingNanos() {
+        return Math.max(0, expiresAtNanos - System.nanoTime());
+    }
+
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(remainingNanos());
+    }
+
+    /**
+     * @return The remaining time rounded up to whole seconds, at least 1, the unit of transaction timeouts.
+     */
+    public int remainingSeconds() {
+        return (int) Math.max(1, (remainingNanos() + 999_999_999L) / 1_000_000_000L);
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Called by the worker before it starts work that must not be reported as abandoned.
+     * Once claimed, the waiting side takes the result of the work, whenever it completes.
+     *
+     * @return false if the waiting side already abandoned the work; it must not start.
+     */
+    public boolean claim() {
+        return outcome.compareAndExchange(OPEN, CLAIMED) != ABANDONED;
+    }
+
+    /**
+     * Called by the waiting side when the deadline passed, or by the worker when it finds the deadline
+     * passed before claiming the work.
+     *
+     * @return true if this call abandoned the work; false if the work was already claimed or abandoned.
+     */
+    public boolean abandon() {
+        return outcome.compareAndSet(OPEN, ABANDONED);
+    }
+
+    /**
+     * An attached deadline; closing it restores the previous deadline of the thread.
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,96 @@
+package com.contactme.contact_me_app.deadline;
+
+import com.contactme.contact_me_app.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Applies the deadline of the current thread to a stage of work: a stage that starts after the
+ * deadline is abandoned, and database work runs in a transaction whose timeout is the remaining
+ * time, which becomes the JDBC query timeout of its statements. Every missed deadline is counted
+ * in contact.deadline.exceeded, tagged with the stage.
+ * <p>
+ * Threads without a deadline (startup warm-up, scheduled jobs, the reactive profile) run the
+ * work unchanged.
+ */
+@Component
+public class DeadlineGuard {
+
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructor for DeadlineGuard.
+     * @param transactionManager Transaction manager for the deadline-bounded transactions.
+     * @param meterRegistry Registry for the deadline-exceeded counter.
+     */
+    public DeadlineGuard(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.transactionManager = transactionManager;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Abandons the stage if the current deadline has passed.
+     *
+     * @param stage Name of the stage about to start.
+     * @throws DeadlineExceededException if the deadline has passed.
+     */
+    public void check(String stage) {
+        if (Deadline.isCurrentExpired()) {
+            throw exceeded(stage, null);
+        }
+    }
+
+    /**
+     * Runs database work within the remaining time of the current deadline.
+     * Joining an existing transaction keeps the timeout of that transaction; a nested stage that misses
+     * the deadline rolls the whole transaction back. The deadline is not checked after the commit,
+     * so work that committed is never reported as abandoned.
+     *
+     * @param stage Name of the stage, used for the metric.
+     * @param work The database work.
+     * @return The result of the work.
+     * @throws DeadlineExceededException if the deadline passed before or during the work.
+     */
+    public <T> T inTransaction(String stage, Supplier<T> work) {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return work.get();
+        }
+        if (deadline.isExpired()) {
+            throw exceeded(stage, null);
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setTimeout(deadline.remainingSeconds());
+        try {
+            return transactionTemplate.execute(status -> work.get());
+        } catch (DeadlineExceededException e) {
+            // Missed by a nested stage, which already counted it
+            throw e;
+        } catch (RuntimeException e) {
+            if (e instanceof TransactionTimedOutException || e instanceof QueryTimeoutException || deadline.isExpired()) {
+                throw exceeded(stage, e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Counts a missed deadline.
+     *
+     * @param stage Name of the stage that missed it.
+     * @param cause The timeout that surfaced it, may be null.
+     * @return The exception to throw.
+     */
+    public DeadlineExceededException exceeded(String stage, Throwable cause) {
+        Counter.builder("contact.deadline.exceeded").tag("stage", stage).register(meterRegistry).increment();
+        return cause == null ? new DeadlineExceededException(stage) : new DeadlineExceededException(stage, cause);
+    }
+}
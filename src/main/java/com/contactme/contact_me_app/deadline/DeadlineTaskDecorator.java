@@ -0,0 +1,22 @@
+package com.contactme.contact_me_app.deadline;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Carries the deadline of the submitting thread over to the executor thread that runs the task.
+ */
+public class DeadlineTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return runnable;
+        }
+        return () -> {
+            try (Deadline.Scope scope = deadline.attach()) {
+                runnable.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package com.contactme.contact_me_app.digest;
+
+import com.contactme.contact_me_app.dto.NotificationMessage;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.util.Map;
+
+/**
+ * Kafka consumer setup for the {@link NotificationDigestListener}.
+ * <p>
+ * The poll itself is the digest window: a fetch returns once digest.fetch-min-bytes are available or
+ * digest.window-ms have passed, and a poll returns at most digest.max-messages records. Offsets are
+ * committed manually, after the digest of a poll has been delivered. A failed delivery is retried with
+ * exponential back-off, without a limit, so records are never skipped while the sink is down.
+ */
+@Configuration
+@EnableKafka
+public class DigestKafkaConfig {
+
+    @Value("${digest.group-id:${spring.kafka.consumer.group-id:my-group}}")
+    private String groupId;
+
+    @Value("${digest.max-messages:500}")
+    private int maxMessages;
+
+    @Value("${digest.window-ms:5000}")
+    private int windowMillis;
+
+    @Value("${digest.fetch-min-bytes:1048576}")
+    private int fetchMinBytes;
+
+    @Value("${digest.retry.max-interval-ms:60000}")
+    private long retryMaxIntervalMillis;
+
+    @Bean
+    public ConsumerFactory<String, NotificationMessage> digestConsumerFactory(KafkaProperties kafkaProperties) {
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxMessages);
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetchMinBytes);
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, windowMillis);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        // A record that cannot be deserialized arrives with a null value instead of failing the whole poll
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, NotificationMessage.class.getName());
+        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, NotificationMessage> digestListenerContainerFactory(
+            ConsumerFactory<String, NotificationMessage> digestConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, NotificationMessage> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(digestConsumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        ExponentialBackOff backOff = new ExponentialBackOff(1000, 2.0);
+        backOff.setMaxInterval(retryMaxIntervalMillis);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(backOff));
+        return factory;
+    }
+}
@@ -0,0 +1,19 @@
+package com.contactme.contact_me_app.digest;
+
+import com.contactme.contact_me_app.dto.NotificationDigest;
+
+/**
+ * Destination of notification digests (mail, chat, a downstream service, ...).
+ * The consumer commits the offsets of a digest only after {@link #deliver} returns,
+ * so an implementation must not return before the digest is safely handed off.
+ */
+public interface DigestSink {
+
+    /**
+     * Hands off a digest.
+     *
+     * @param digest The digest to deliver.
+     * @throws Exception if the digest could not be delivered; it is then consumed and delivered again.
+     */
+    void deliver(NotificationDigest digest) throws Exception;
+}
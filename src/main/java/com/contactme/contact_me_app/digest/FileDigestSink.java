@@ -0,0 +1,61 @@
+package com.contactme.contact_me_app.digest;
+
+import com.contactme.contact_me_app.dto.NotificationDigest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Local stand-in {@link DigestSink}: appends each digest as one JSON line to a daily file
+ * (digests-yyyy-MM-dd.jsonl) and fsyncs it before returning.
+ * Active when digest.sink is "file" (the default).
+ */
+@Component
+@ConditionalOnProperty(name = "digest.sink", havingValue = "file", matchIfMissing = true)
+public class FileDigestSink implements DigestSink {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(FileDigestSink.class);
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${digest.file.directory:./digests}")
+    private String directory;
+
+    /**
+     * Constructor for FileDigestSink.
+     * @param objectMapper ObjectMapper used to serialize the digests.
+     */
+    public FileDigestSink(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void deliver(NotificationDigest digest) throws IOException {
+        Path dir = Paths.get(directory).toAbsolutePath();
+        Files.createDirectories(dir);
+        Path file = dir.resolve("digests-" + LocalDate.now(ZoneOffset.UTC) + ".jsonl");
+        byte[] json = objectMapper.writeValueAsBytes(digest);
+        ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+            channel.force(false);
+        }
+        logger.debug("Wrote digest of {} messages to {}.", digest.getMessageCount(), file);
+    }
+}
@@ -0,0 +1,106 @@
+package com.contactme.contact_me_app.digest;
+
+import com.contactme.contact_me_app.dto.NotificationDigest;
+import com.contactme.contact_me_app.dto.NotificationMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch consumer of the contact topic that coalesces the notifications of each poll into one
+ * {@link NotificationDigest} and hands it to the {@link DigestSink}.
+ * The offsets of a poll are acknowledged only after its digest was delivered, so a crash or a
+ * sink failure leads to redelivery, never to a lost notification (at-least-once).
+ * Disabled unless digest.enabled is true.
+ */
+@Component
+public class NotificationDigestListener {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDigestListener.class);
+
+    private final DigestSink sink;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSize;
+    private final Counter skippedRecords;
+
+    /**
+     * Constructor for NotificationDigestListener.
+     * @param sink Destination of the digests.
+     * @param meterRegistry Registry for the per-batch latency, size and skipped-record metrics.
+     */
+    public NotificationDigestListener(DigestSink sink, MeterRegistry meterRegistry) {
+        this.sink = sink;
+        this.batchTimer = Timer.builder("contact.digest.batch").register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("contact.digest.batch.size").register(meterRegistry);
+        this.skippedRecords = Counter.builder("contact.digest.skipped").register(meterRegistry);
+        logger.info("NotificationDigestListener initialized with sink {}.", sink.getClass().getSimpleName());
+    }
+
+    /**
+     * Handles one poll: builds its digest, delivers it and acknowledges the poll.
+     *
+     * @param records The records of the poll.
+     * @param ack Acknowledgment committing the offsets of the poll.
+     * @throws Exception if the sink failed; the container then redelivers the poll after a back-off.
+     */
+    // idIsGroup = false: the group.id comes from the digest consumer factory (digest.group-id), not from the listener id
+    @KafkaListener(id = "notification-digest", idIsGroup = false, topics = "${digest.topic:contact_me_topic}",
+            containerFactory = "digestListenerContainerFactory", autoStartup = "${digest.enabled:false}", batch = "true")
+    public void onBatch(List<ConsumerRecord<String, NotificationMessage>> records, Acknowledgment ack) throws Exception {
+        long start = System.nanoTime();
+        NotificationDigest digest = toDigest(records);
+        if (digest.getMessageCount() > 0) {
+            sink.deliver(digest);
+        }
+        ack.acknowledge();
+
+        long elapsedNanos = System.nanoTime() - start;
+        batchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        batchSize.record(records.size());
+        double elapsedMillis = elapsedNanos / 1_000_000.0;
+        logger.info("Digest of {} messages ({} records) delivered in {} ms ({} messages/s). Offsets: {}",
+                digest.getMessageCount(), records.size(), String.format("%.1f", elapsedMillis),
+                elapsedNanos > 0 ? Math.round(digest.getMessageCount() * 1_000_000_000.0 / elapsedNanos) : 0,
+                digest.getOffsetRanges());
+    }
+
+    private NotificationDigest toDigest(List<ConsumerRecord<String, NotificationMessage>> records) {
+        List<NotificationMessage> messages = new ArrayList<>(records.size());
+        Map<String, long[]> offsets = new LinkedHashMap<>();
+        long minTimestamp = Long.MAX_VALUE;
+        long maxTimestamp = Long.MIN_VALUE;
+        for (ConsumerRecord<String, NotificationMessage> record : records) {
+            offsets.merge(record.topic() + "-" + record.partition(), new long[] {record.offset(), record.offset()},
+                    (range, next) -> new long[] {Math.min(range[0], next[0]), Math.max(range[1], next[1])});
+            if (record.value() == null) {
+                // Undeserializable (or tombstone) record; it is committed with the poll rather than blocking the partition
+                skippedRecords.increment();
+                logger.warn("Skipping unreadable record at {}-{}@{}.", record.topic(), record.partition(), record.offset());
+                continue;
+            }
+            messages.add(record.value());
+            minTimestamp = Math.min(minTimestamp, record.timestamp());
+            maxTimestamp = Math.max(maxTimestamp, record.timestamp());
+        }
+        List<String> offsetRanges = new ArrayList<>(offsets.size());
+        offsets.forEach((partition, range) -> offsetRanges.add(partition + ":" + range[0] + "-" + range[1]));
+        return messages.isEmpty()
+                ? new NotificationDigest(null, null, offsetRanges, messages)
+                : new NotificationDigest(Instant.ofEpochMilli(minTimestamp), Instant.ofEpochMilli(maxTimestamp), offsetRanges, messages);
+    }
+}
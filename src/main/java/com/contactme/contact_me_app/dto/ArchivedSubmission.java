@@ -0,0 +1,41 @@
+package com.contactme.contact_me_app.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Data Transfer Object (DTO) for a contact form submission served from the archive.
+ */
+public class ArchivedSubmission {
+
+    private final long id;
+    private final String fullName;
+    private final String email;
+    private final String subject;
+    private final String messageText;
+    private final OffsetDateTime sentAt;
+
+    /**
+     * Constructor for ArchivedSubmission.
+     * @param id The original submission id.
+     * @param fullName The sender's full name.
+     * @param email The sender's email.
+     * @param subject The subject.
+     * @param messageText The message text.
+     * @param sentAt The time the submission was sent.
+     */
+    public ArchivedSubmission(long id, String fullName, String email, String subject, String messageText, OffsetDateTime sentAt) {
+        this.id = id;
+        this.fullName = fullName;
+        this.email = email;
+        this.subject = subject;
+        this.messageText = messageText;
+        this.sentAt = sentAt;
+    }
+
+    public long getId() { return id; }
+    public String getFullName() { return fullName; }
+    public String getEmail() { return email; }
+    public String getSubject() { return subject; }
+    public String getMessageText() { return messageText; }
+    public OffsetDateTime getSentAt() { return sentAt; }
+}
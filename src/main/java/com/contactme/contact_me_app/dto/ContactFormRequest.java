@@ -1,32 +1,43 @@
 package com.contactme.contact_me_app.dto;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 /**
  * Data Transfer Object (DTO) for contact form requests.
  * This class holds the data submitted by users through the contact form.
- * Logging in DTOs is typically minimal, primarily for debugging instantiation
- * or data validation if it were to occur within the DTO itself.
+ * It is created for every request, so it deliberately does no logging of its own;
+ * its fields are personal data and must not be logged as-is.
+ * The maximum lengths are also enforced while the body is parsed (see BoundedContactFormConverter).
  */
 public class ContactFormRequest {
 
-    // Initialize a logger for this class.
-    // In DTOs, loggers are less frequently used in getters/setters,
-    // but can be useful in constructors or for debugging the object's state.
-    private static final Logger logger = LoggerFactory.getLogger(ContactFormRequest.class);
+    public static final int MAX_FULL_NAME_LENGTH = 100;
+    public static final int MAX_EMAIL_LENGTH = 254;
+    public static final int MAX_SUBJECT_LENGTH = 200;
+    public static final int MAX_MESSAGE_TEXT_LENGTH = 5000;
 
+    @NotBlank
+    @Size(max = MAX_FULL_NAME_LENGTH)
     private String fullName;
+
+    @NotBlank
+    @Email
+    @Size(max = MAX_EMAIL_LENGTH)
     private String email;
+
+    @Size(max = MAX_SUBJECT_LENGTH)
     private String subject;
+
+    @NotBlank
+    @Size(max = MAX_MESSAGE_TEXT_LENGTH)
     private String messageText;
 
     /**
      * Default constructor for ContactFormRequest.
-     * Logs the creation of a new instance for debugging purposes.
      */
     public ContactFormRequest() {
-        logger.debug("New ContactFormRequest instance created.");
     }
 
     // Getters and Setters
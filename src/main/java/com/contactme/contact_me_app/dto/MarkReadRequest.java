@@ -0,0 +1,36 @@
+package com.contactme.contact_me_app.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) selecting the contact form submissions to mark as read.
+ * Exactly one selector must be given: a list of ids, an inclusive id range
+ * ({@code fromId}/{@code toId}) or an inclusive sent-at range ({@code sentFrom}/{@code sentTo}).
+ */
+public class MarkReadRequest {
+
+    private List<Long> ids;
+    private Long fromId;
+    private Long toId;
+    private OffsetDateTime sentFrom;
+    private OffsetDateTime sentTo;
+
+    /**
+     * Default constructor for MarkReadRequest.
+     */
+    public MarkReadRequest() {
+    }
+
+    // Getters and Setters
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+    public Long getFromId() { return fromId; }
+    public void setFromId(Long fromId) { this.fromId = fromId; }
+    public Long getToId() { return toId; }
+    public void setToId(Long toId) { this.toId = toId; }
+    public OffsetDateTime getSentFrom() { return sentFrom; }
+    public void setSentFrom(OffsetDateTime sentFrom) { this.sentFrom = sentFrom; }
+    public OffsetDateTime getSentTo() { return sentTo; }
+    public void setSentTo(OffsetDateTime sentTo) { this.sentTo = sentTo; }
+}
@@ -0,0 +1,31 @@
+package com.contactme.contact_me_app.dto;
+
+/**
+ * Data Transfer Object (DTO) reporting the outcome of a bulk mark-as-read operation.
+ */
+public class MarkReadResponse {
+
+    private final String selector;
+    private final int updated;
+    private final int statements;
+    private final long elapsedMillis;
+
+    /**
+     * Constructor for MarkReadResponse.
+     * @param selector The selector that was applied (ids, id_range or sent_range).
+     * @param updated Number of submissions that were changed from unread to read.
+     * @param statements Number of UPDATE statements (chunks) that were executed.
+     * @param elapsedMillis Time taken, in milliseconds.
+     */
+    public MarkReadResponse(String selector, int updated, int statements, long elapsedMillis) {
+        this.selector = selector;
+        this.updated = updated;
+        this.statements = statements;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getSelector() { return selector; }
+    public int getUpdated() { return updated; }
+    public int getStatements() { return statements; }
+    public long getElapsedMillis() { return elapsedMillis; }
+}
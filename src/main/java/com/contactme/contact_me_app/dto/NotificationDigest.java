@@ -0,0 +1,35 @@
+package com.contactme.contact_me_app.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for a digest: the notifications of one consumer poll, coalesced into one hand-off.
+ */
+public class NotificationDigest {
+
+    private final Instant windowStart;
+    private final Instant windowEnd;
+    private final List<String> offsetRanges;
+    private final List<NotificationMessage> messages;
+
+    /**
+     * Constructor for NotificationDigest.
+     * @param windowStart Timestamp of the oldest record in the digest.
+     * @param windowEnd Timestamp of the newest record in the digest.
+     * @param offsetRanges The consumed offsets, one "topic-partition:first-last" entry per partition.
+     * @param messages The notifications, in consumption order.
+     */
+    public NotificationDigest(Instant windowStart, Instant windowEnd, List<String> offsetRanges, List<NotificationMessage> messages) {
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.offsetRanges = offsetRanges;
+        this.messages = messages;
+    }
+
+    public Instant getWindowStart() { return windowStart; }
+    public Instant getWindowEnd() { return windowEnd; }
+    public List<String> getOffsetRanges() { return offsetRanges; }
+    public List<NotificationMessage> getMessages() { return messages; }
+    public int getMessageCount() { return messages.size(); }
+}
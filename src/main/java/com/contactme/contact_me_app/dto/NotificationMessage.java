@@ -6,6 +6,9 @@ public class NotificationMessage {
     private String subject;
     private String message;
 
+    public NotificationMessage() {
+    }
+
     public NotificationMessage(String fullName, String sender, String subject, String message) {
         this.fullName = fullName;
         this.sender = sender;
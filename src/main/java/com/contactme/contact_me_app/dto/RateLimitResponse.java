@@ -1,20 +1,15 @@
 package com.contactme.contact_me_app.dto;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.time.Duration;
 
 /**
  * Data Transfer Object (DTO) for conveying rate limit check results.
  * This class indicates whether a request is rate-limited, provides a message,
  * and suggests a retry time if applicable.
- * Logging in DTOs is usually minimal, focused on constructor calls to see the object's state.
+ * It is created for every rate limit check, so it deliberately does no logging of its own.
  */
 public class RateLimitResponse {
 
-    // Initialize a logger for this class.
-    // Useful for debugging when instances of this DTO are created.
-    private static final Logger logger = LoggerFactory.getLogger(RateLimitResponse.class);
-
     private boolean rateLimited;
     private String message;
     private Long retryAfterSeconds; // Time until next attempt is allowed, in seconds
@@ -29,9 +24,6 @@ public class RateLimitResponse {
         this.rateLimited = rateLimited;
         this.message = message;
         this.retryAfterSeconds = retryAfterSeconds;
-        // Log the state of the RateLimitResponse when it's created for debugging
-        logger.debug("New RateLimitResponse created: rateLimited={}, message='{}', retryAfterSeconds={}",
-                     rateLimited, message, retryAfterSeconds);
     }
 
     public boolean isRateLimited() {
@@ -46,6 +38,45 @@ public class RateLimitResponse {
         return retryAfterSeconds;
     }
 
+    /**
+     * Builds the message returned to the client when the request is rate-limited,
+     * combining the base message with a human-readable retry time.
+     *
+     * @return The full client-facing message, e.g. "... Please try again in 4 minutes and 30 seconds."
+     */
+    public String toClientMessage() {
+        // Only append specific retry time if it's a positive value
+        if (retryAfterSeconds != null && retryAfterSeconds > 0) {
+            Duration duration = Duration.ofSeconds(retryAfterSeconds);
+            long minutes = duration.toMinutes();
+            long seconds = duration.toSecondsPart(); // Remaining seconds after extracting minutes
+
+            StringBuilder retryMessageBuilder = new StringBuilder("Please try again in ");
+
+            if (minutes > 0 && seconds > 0) {
+                retryMessageBuilder.append(minutes).append(" minute");
+                if (minutes > 1) retryMessageBuilder.append("s");
+                retryMessageBuilder.append(" and ").append(seconds).append(" second");
+                if (seconds > 1) retryMessageBuilder.append("s");
+            } else if (minutes > 0) {
+                retryMessageBuilder.append(minutes).append(" minute");
+                if (minutes > 1) retryMessageBuilder.append("s");
+            } else if (seconds > 0) {
+                retryMessageBuilder.append(seconds).append(" second");
+                if (seconds > 1) retryMessageBuilder.append("s");
+            } else {
+                // This covers cases where retryAfterSeconds is positive but very small (e.g., < 1s)
+                // or due to precision issues it becomes 0 minutes and 0 seconds
+                retryMessageBuilder.append("a moment.");
+            }
+            retryMessageBuilder.append("."); // Add period at the end
+
+            return message + " " + retryMessageBuilder;
+        }
+        // If retryAfterSeconds is 0, null, or negative, just provide the base message
+        return message + " Please try again later.";
+    }
+
     // It's often useful to override toString() in DTOs for better logging of object state.
     // Uncomment and implement if desired:
     // @Override
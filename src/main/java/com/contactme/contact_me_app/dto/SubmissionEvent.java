@@ -0,0 +1,34 @@
+package com.contactme.contact_me_app.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Data Transfer Object (DTO) announcing a new contact form submission on the live feed.
+ * It only carries what a list view needs; the full submission is loaded on demand.
+ */
+public class SubmissionEvent {
+
+    private final Long id;
+    private final String fullName;
+    private final String subject;
+    private final OffsetDateTime sentAt;
+
+    /**
+     * Constructor for SubmissionEvent.
+     * @param id The submission id, also used as the SSE event id.
+     * @param fullName The sender name.
+     * @param subject The subject, may be null.
+     * @param sentAt When the submission was received.
+     */
+    public SubmissionEvent(Long id, String fullName, String subject, OffsetDateTime sentAt) {
+        this.id = id;
+        this.fullName = fullName;
+        this.subject = subject;
+        this.sentAt = sentAt;
+    }
+
+    public Long getId() { return id; }
+    public String getFullName() { return fullName; }
+    public String getSubject() { return subject; }
+    public OffsetDateTime getSentAt() { return sentAt; }
+}
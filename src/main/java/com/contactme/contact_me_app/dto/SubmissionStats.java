@@ -0,0 +1,56 @@
+package com.contactme.contact_me_app.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) answering a statistics query from the submission rollups.
+ */
+public class SubmissionStats {
+
+    private final String granularity;
+    private final OffsetDateTime from;
+    private final OffsetDateTime to;
+    private final long submissions;
+    private final long uniqueSenders;
+    private final long uniqueIps;
+    private final long totalSubmissions;
+    private final long unread;
+    private final List<SubmissionStatsBucket> buckets;
+
+    /**
+     * Constructor for SubmissionStats.
+     * @param granularity Bucket size (HOUR or DAY).
+     * @param from Start of the first bucket in the range.
+     * @param to Start of the last bucket in the range.
+     * @param submissions Number of submissions within the range.
+     * @param uniqueSenders Estimated number of distinct sender emails within the whole range.
+     * @param uniqueIps Estimated number of distinct client IPs within the whole range.
+     * @param totalSubmissions All-time number of submissions.
+     * @param unread Current number of unread submissions.
+     * @param buckets The non-empty buckets of the range, ordered by start.
+     */
+    public SubmissionStats(String granularity, OffsetDateTime from, OffsetDateTime to, long submissions,
+                           long uniqueSenders, long uniqueIps, long totalSubmissions, long unread,
+                           List<SubmissionStatsBucket> buckets) {
+        this.granularity = granularity;
+        this.from = from;
+        this.to = to;
+        this.submissions = submissions;
+        this.uniqueSenders = uniqueSenders;
+        this.uniqueIps = uniqueIps;
+        this.totalSubmissions = totalSubmissions;
+        this.unread = unread;
+        this.buckets = buckets;
+    }
+
+    public String getGranularity() { return granularity; }
+    public OffsetDateTime getFrom() { return from; }
+    public OffsetDateTime getTo() { return to; }
+    public long getSubmissions() { return submissions; }
+    public long getUniqueSenders() { return uniqueSenders; }
+    public long getUniqueIps() { return uniqueIps; }
+    public long getTotalSubmissions() { return totalSubmissions; }
+    public long getUnread() { return unread; }
+    public List<SubmissionStatsBucket> getBuckets() { return buckets; }
+}
@@ -0,0 +1,37 @@
+package com.contactme.contact_me_app.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Data Transfer Object (DTO) holding the rollup of one hour or day of submissions.
+ */
+public class SubmissionStatsBucket {
+
+    private final OffsetDateTime bucketStart;
+    private final long submissions;
+    private final long markedRead;
+    private final long uniqueSenders;
+    private final long uniqueIps;
+
+    /**
+     * Constructor for SubmissionStatsBucket.
+     * @param bucketStart Start of the hour or day (UTC).
+     * @param submissions Number of accepted submissions.
+     * @param markedRead Number of submissions marked as read during the bucket.
+     * @param uniqueSenders Estimated number of distinct sender emails.
+     * @param uniqueIps Estimated number of distinct client IPs.
+     */
+    public SubmissionStatsBucket(OffsetDateTime bucketStart, long submissions, long markedRead, long uniqueSenders, long uniqueIps) {
+        this.bucketStart = bucketStart;
+        this.submissions = submissions;
+        this.markedRead = markedRead;
+        this.uniqueSenders = uniqueSenders;
+        this.uniqueIps = uniqueIps;
+    }
+
+    public OffsetDateTime getBucketStart() { return bucketStart; }
+    public long getSubmissions() { return submissions; }
+    public long getMarkedRead() { return markedRead; }
+    public long getUniqueSenders() { return uniqueSenders; }
+    public long getUniqueIps() { return uniqueIps; }
+}
@@ -0,0 +1,42 @@
+package com.contactme.contact_me_app.entity;
+
+import jakarta.persistence.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A submission recorded for the per-sender-email rate limit.
+ * The sender is stored as a 64-bit hash of the normalized email address, not as a string,
+ * which keeps the rows and the index small and keeps addresses out of this table.
+ */
+@Entity
+@Table(name = "contact_form_submissions_email",
+        indexes = @Index(name = "idx_email_submissions_hash_time", columnList = "email_hash, submission_time"))
+public class ContactFormEmailSubmission {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "email_hash", nullable = false)
+    private long emailHash;
+
+    @Column(name = "submission_time", nullable = false)
+    private OffsetDateTime submissionTime;
+
+    public ContactFormEmailSubmission() {
+    }
+
+    public ContactFormEmailSubmission(long emailHash, OffsetDateTime submissionTime) {
+        this.emailHash = emailHash;
+        this.submissionTime = submissionTime;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public long getEmailHash() { return emailHash; }
+    public void setEmailHash(long emailHash) { this.emailHash = emailHash; }
+    public OffsetDateTime getSubmissionTime() { return submissionTime; }
+    public void setSubmissionTime(OffsetDateTime submissionTime) { this.submissionTime = submissionTime; }
+}
@@ -0,0 +1,60 @@
+package com.contactme.contact_me_app.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A submission held back by the content screener, kept for review instead of being delivered.
+ */
+@Entity
+@Table(name = "contact_form_quarantine")
+public class QuarantinedSubmission {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "full_name")
+    private String fullName;
+
+    @Column(name = "email")
+    private String email;
+
+    @Column(name = "subject")
+    private String subject;
+
+    @Column(name = "message_text", length = 5000)
+    private String messageText;
+
+    @Column(name = "matched_pattern", nullable = false)
+    private String matchedPattern;
+
+    @Column(name = "quarantined_at", nullable = false)
+    private OffsetDateTime quarantinedAt;
+
+    public QuarantinedSubmission() {
+        this.quarantinedAt = OffsetDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getFullName() { return fullName; }
+    public void setFullName(String fullName) { this.fullName = fullName; }
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    public String getSubject() { return subject; }
+    public void setSubject(String subject) { this.subject = subject; }
+    public String getMessageText() { return messageText; }
+    public void setMessageText(String messageText) { this.messageText = messageText; }
+    public String getMatchedPattern() { return matchedPattern; }
+    public void setMatchedPattern(String matchedPattern) { this.matchedPattern = matchedPattern; }
+    public OffsetDateTime getQuarantinedAt() { return quarantinedAt; }
+    public void setQuarantinedAt(OffsetDateTime quarantinedAt) { this.quarantinedAt = quarantinedAt; }
+}
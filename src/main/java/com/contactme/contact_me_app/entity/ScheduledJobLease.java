@@ -0,0 +1,41 @@
+package com.contactme.contact_me_app.entity;
+
+import jakarta.persistence.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * The lease of a cluster-wide scheduled job: which node may run the job and until when.
+ * Rows are only written by the JobLeaseService, with single conditional statements evaluated
+ * against the database clock; the entity exists so that the table is created with the others.
+ */
+@Entity
+@Table(name = "scheduled_job_lease")
+public class ScheduledJobLease {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "owner", nullable = false, length = 200)
+    private String owner;
+
+    @Column(name = "lease_until", nullable = false)
+    private OffsetDateTime leaseUntil;
+
+    @Column(name = "acquired_at", nullable = false)
+    private OffsetDateTime acquiredAt;
+
+    public ScheduledJobLease() {
+    }
+
+    // Getters and Setters
+    public String getJobName() { return jobName; }
+    public void setJobName(String jobName) { this.jobName = jobName; }
+    public String getOwner() { return owner; }
+    public void setOwner(String owner) { this.owner = owner; }
+    public OffsetDateTime getLeaseUntil() { return leaseUntil; }
+    public void setLeaseUntil(OffsetDateTime leaseUntil) { this.leaseUntil = leaseUntil; }
+    public OffsetDateTime getAcquiredAt() { return acquiredAt; }
+    public void setAcquiredAt(OffsetDateTime acquiredAt) { this.acquiredAt = acquiredAt; }
+}
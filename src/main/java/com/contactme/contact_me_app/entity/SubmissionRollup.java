@@ -0,0 +1,85 @@
+package com.contactme.contact_me_app.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+/**
+ * Pre-aggregated submission statistics of one UTC hour or day, plus a single TOTAL row
+ * holding the all-time counters. The distinct sender and IP columns hold HyperLogLog registers.
+ * Rows are only written by the SubmissionRollupService, with incremental upserts;
+ * the entity exists so that the table is created with the others.
+ */
+@Entity
+@Table(name = "submission_rollup")
+@IdClass(SubmissionRollup.Key.class)
+public class SubmissionRollup {
+
+    @Id
+    @Column(name = "granularity", length = 5)
+    private String granularity;
+
+    @Id
+    @Column(name = "bucket_start")
+    private OffsetDateTime bucketStart;
+
+    @Column(name = "submissions", nullable = false)
+    private long submissions;
+
+    @Column(name = "marked_read", nullable = false)
+    private long markedRead;
+
+    @Column(name = "sender_hll")
+    private byte[] senderHll;
+
+    @Column(name = "ip_hll")
+    private byte[] ipHll;
+
+    public SubmissionRollup() {
+    }
+
+    // Getters and Setters
+    public String getGranularity() { return granularity; }
+    public void setGranularity(String granularity) { this.granularity = granularity; }
+    public OffsetDateTime getBucketStart() { return bucketStart; }
+    public void setBucketStart(OffsetDateTime bucketStart) { this.bucketStart = bucketStart; }
+    public long getSubmissions() { return submissions; }
+    public void setSubmissions(long submissions) { this.submissions = submissions; }
+    public long getMarkedRead() { return markedRead; }
+    public void setMarkedRead(long markedRead) { this.markedRead = markedRead; }
+    public byte[] getSenderHll() { return senderHll; }
+    public void setSenderHll(byte[] senderHll) { this.senderHll = senderHll; }
+    public byte[] getIpHll() { return ipHll; }
+    public void setIpHll(byte[] ipHll) { this.ipHll = ipHll; }
+
+    /**
+     * Composite primary key of a rollup row.
+     */
+    public static class Key implements Serializable {
+
+        private String granularity;
+        private OffsetDateTime bucketStart;
+
+        public Key() {
+        }
+
+        public Key(String granularity, OffsetDateTime bucketStart) {
+            this.granularity = granularity;
+            this.bucketStart = bucketStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(granularity, key.granularity) && Objects.equals(bucketStart, key.bucketStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(granularity, bucketStart);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.contactme.contact_me_app.exception;
 
+import com.contactme.contact_me_app.dto.RateLimitResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -72,10 +73,57 @@ public class ContactExceptionHandler {
      */
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<String> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
-        logger.error("HttpMessageNotReadableException caught by handler: {}", ex.getMessage(), ex);
+        // Client error, no stack trace: malformed bodies are cheap to send and would flood the log
+        logger.warn("HttpMessageNotReadableException caught by handler: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Malformed JSON request body.");
     }
 
+    /**
+     * Handles PayloadTooLargeException.
+     * This exception is thrown when the request body or one of its fields exceeds the size limits.
+     * It returns an HTTP 413 Payload Too Large.
+     *
+     * @param ex The PayloadTooLargeException that occurred.
+     * @return A ResponseEntity with HTTP status 413 and the exception message.
+     */
+    @ExceptionHandler(PayloadTooLargeException.class)
+    public ResponseEntity<String> handlePayloadTooLargeException(PayloadTooLargeException ex) {
+        logger.warn("PayloadTooLargeException caught by handler: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(ex.getMessage());
+    }
+
+    /**
+     * Handles RateLimitExceededException.
+     * This exception is thrown when a rate limit checked after reading the body (e.g. per sender email) is exceeded.
+     * It returns an HTTP 429 Too Many Requests with a Retry-After header, like the RateLimitInterceptor.
+     *
+     * @param ex The RateLimitExceededException that occurred.
+     * @return A ResponseEntity with HTTP status 429 and the client-facing rate limit message.
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleRateLimitExceededException(RateLimitExceededException ex) {
+        RateLimitResponse rateLimitResponse = ex.getRateLimitResponse();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("Retry-After", String.valueOf(rateLimitResponse.getRetryAfterSeconds()))
+                .body(Map.of("message", rateLimitResponse.toClientMessage()));
+    }
+
+    /**
+     * Handles DeadlineExceededException.
+     * This exception is thrown when a request missed its deadline before or during a database call.
+     * It returns an HTTP 503 Service Unavailable with a Retry-After header.
+     *
+     * @param ex The DeadlineExceededException that occurred.
+     * @return A ResponseEntity with HTTP status 503 and a generic message.
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<String> handleDeadlineExceededException(DeadlineExceededException ex) {
+        logger.warn("DeadlineExceededException caught by handler: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body("The request could not be completed in time. Please try again shortly.");
+    }
+
     /**
      * Handles UnexpectedException.
      * This is a custom exception, likely for unexpected server-side issues originating from services.
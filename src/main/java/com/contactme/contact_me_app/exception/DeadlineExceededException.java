@@ -0,0 +1,24 @@
+package com.contactme.contact_me_app.exception;
+
+/**
+ * Thrown when a request missed its deadline, before or during one of its stages.
+ * Mapped to HTTP 503 Service Unavailable by the {@link ContactExceptionHandler}.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    private final String stage;
+
+    public DeadlineExceededException(String stage) {
+        super("Deadline exceeded at stage '" + stage + "'.");
+        this.stage = stage;
+    }
+
+    public DeadlineExceededException(String stage, Throwable cause) {
+        super("Deadline exceeded at stage '" + stage + "'.", cause);
+        this.stage = stage;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+}
@@ -0,0 +1,14 @@
+package com.contactme.contact_me_app.exception;
+
+/**
+ * Thrown when a request body, or one of its fields, exceeds the configured size limits.
+ * Mapped to HTTP 413 Payload Too Large by the {@link ContactExceptionHandler}.
+ */
+public class PayloadTooLargeException extends RuntimeException {
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+    public PayloadTooLargeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,22 @@
+package com.contactme.contact_me_app.exception;
+
+import com.contactme.contact_me_app.dto.RateLimitResponse;
+
+/**
+ * Thrown when a request is rejected by a rate limit that can only be checked after the body
+ * has been read, such as the per-sender-email limit.
+ * Mapped to HTTP 429 Too Many Requests by the {@link ContactExceptionHandler}.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final RateLimitResponse rateLimitResponse;
+
+    public RateLimitExceededException(RateLimitResponse rateLimitResponse) {
+        super(rateLimitResponse.getMessage());
+        this.rateLimitResponse = rateLimitResponse;
+    }
+
+    public RateLimitResponse getRateLimitResponse() {
+        return rateLimitResponse;
+    }
+}
@@ -0,0 +1,164 @@
+package com.contactme.contact_me_app.health;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds the readiness state from live saturation signals, so that a load balancer stops sending
+ * new traffic to a replica that cannot keep up and resumes once it has recovered.
+ * <p>
+ * Every check samples four signals: the publisher executor queue depth, the number of in-flight
+ * broker publishes (busy publisher threads), the mean wait for a JDBC connection and the mean latency
+ * of /api/contact requests since the previous check. The two means are taken from Micrometer timer deltas,
+ * so they drop to zero once traffic has moved to other replicas and the replica can recover. Each signal has a high
+ * and a low threshold (hysteresis). The publisher executor only grows past its core size once its queue is full,
+ * so the in-flight thresholds are derived from the core size: high when every core thread is busy, low when one is idle. The replica turns REFUSING_TRAFFIC after any signal has been above
+ * its high threshold for readiness.enter-after-checks consecutive checks, and back to ACCEPTING_TRAFFIC
+ * after all signals have been below their low thresholds for readiness.exit-after-checks checks.
+ * Liveness is never affected: a saturated replica is slow, not broken.
+ */
+@Component
+public class SaturationHealthIndicator implements HealthIndicator {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(SaturationHealthIndicator.class);
+
+    private final ThreadPoolTaskExecutor publisherExecutor;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${readiness.saturation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${readiness.publish-queue.high:800}")
+    private int publishQueueHigh;
+
+    @Value("${readiness.publish-queue.low:200}")
+    private int publishQueueLow;
+
+    @Value("${readiness.db-wait-ms.high:200}")
+    private double dbWaitHighMillis;
+
+    @Value("${readiness.db-wait-ms.low:50}")
+    private double dbWaitLowMillis;
+
+    @Value("${readiness.latency-ms.high:2000}")
+    private double latencyHighMillis;
+
+    @Value("${readiness.latency-ms.low:500}")
+    private double latencyLowMillis;
+
+    @Value("${readiness.enter-after-checks:3}")
+    private int enterAfterChecks;
+
+    @Value("${readiness.exit-after-checks:5}")
+    private int exitAfterChecks;
+
+    private volatile boolean saturated;
+    private volatile Map<String, Object> lastSample = Map.of();
+    private int consecutiveHigh;
+    private int consecutiveLow;
+    private final TimerDelta connectionWait = new TimerDelta();
+    private final TimerDelta requestLatency = new TimerDelta();
+
+    /**
+     * Constructor for SaturationHealthIndicator.
+     * @param publisherExecutor Executor behind the asynchronous publish hand-off.
+     * @param meterRegistry Registry providing the Hikari connection acquire and HTTP request timers.
+     * @param eventPublisher Publisher for the readiness state changes.
+     */
+    public SaturationHealthIndicator(@Qualifier("publisherExecutor") ThreadPoolTaskExecutor publisherExecutor,
+                                     MeterRegistry meterRegistry,
+                                     ApplicationEventPublisher eventPublisher) {
+        this.publisherExecutor = publisherExecutor;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+        Gauge.builder("contact.readiness.saturated", this, indicator -> indicator.saturated ? 1 : 0).register(meterRegistry);
+    }
+
+    /**
+     * Samples the saturation signals and updates the readiness state when the hysteresis allows it.
+     */
+    @Scheduled(fixedDelayString = "${readiness.check-interval-ms:1000}")
+    public synchronized void check() {
+        if (!enabled) {
+            return;
+        }
+        int queueDepth = publisherExecutor.getQueueSize();
+        int inFlight = publisherExecutor.getActiveCount();
+        int publishInFlightHigh = publisherExecutor.getCorePoolSize();
+        int publishInFlightLow = publishInFlightHigh - 1;
+        double dbWaitMillis = connectionWait.meanMillis(meterRegistry.find("hikaricp.connections.acquire").timers());
+        double latencyMillis = requestLatency.meanMillis(meterRegistry.find("http.server.requests").tag("uri", "/api/contact").timers());
+
+        Map<String, Object> sample = new LinkedHashMap<>();
+        sample.put("publishQueueDepth", queueDepth);
+        sample.put("publishInFlight", inFlight);
+        sample.put("dbConnectionWaitMillis", Math.round(dbWaitMillis * 10) / 10.0);
+        sample.put("requestLatencyMillis", Math.round(latencyMillis * 10) / 10.0);
+        lastSample = sample;
+
+        boolean anyHigh = queueDepth > publishQueueHigh || inFlight >= publishInFlightHigh
+                || dbWaitMillis > dbWaitHighMillis || latencyMillis > latencyHighMillis;
+        boolean allLow = queueDepth < publishQueueLow && inFlight <= publishInFlightLow
+                && dbWaitMillis < dbWaitLowMillis && latencyMillis < latencyLowMillis;
+        consecutiveHigh = anyHigh ? consecutiveHigh + 1 : 0;
+        consecutiveLow = allLow ? consecutiveLow + 1 : 0;
+
+        if (!saturated && consecutiveHigh >= enterAfterChecks) {
+            saturated = true;
+            logger.warn("Replica saturated, refusing new traffic. Signals: {}", sample);
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        } else if (saturated && consecutiveLow >= exitAfterChecks) {
+            saturated = false;
+            logger.info("Replica recovered, accepting traffic again. Signals: {}", sample);
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = saturated ? Health.outOfService() : Health.up();
+        return builder.withDetails(lastSample).withDetail("saturated", saturated).build();
+    }
+
+    /**
+     * Mean duration of the events recorded by a set of timers since the previous call.
+     */
+    private static final class TimerDelta {
+        private long lastCount;
+        private double lastTotalMillis;
+
+        double meanMillis(Collection<Timer> timers) {
+            long count = 0;
+            double totalMillis = 0;
+            for (Timer timer : timers) {
+                count += timer.count();
+                totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+            }
+            long deltaCount = count - lastCount;
+            double deltaMillis = totalMillis - lastTotalMillis;
+            lastCount = count;
+            lastTotalMillis = totalMillis;
+            return deltaCount > 0 ? deltaMillis / deltaCount : 0;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.contactme.contact_me_app.logging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * Replaces personal data (email addresses, IP addresses) with short keyed hashes before it is logged.
+ * The same input always maps to the same token, so log lines can still be correlated,
+ * but the original value cannot be recovered without the key.
+ */
+@Component
+public class LogRedactor {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(LogRedactor.class);
+
+    private static final int TOKEN_BYTES = 8;
+
+    private final ThreadLocal<Mac> macs;
+
+    /**
+     * Constructor for LogRedactor.
+     * @param key HMAC key. Share it across replicas to correlate their logs; when empty a random
+     *            per-process key is used, so tokens only correlate within one process lifetime.
+     */
+    public LogRedactor(@Value("${logging.redaction.key:}") String key) {
+        byte[] keyBytes;
+        if (key == null || key.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            logger.info("LogRedactor initialized with a random per-process key.");
+        } else {
+            keyBytes = key.getBytes(StandardCharsets.UTF_8);
+            logger.info("LogRedactor initialized with the configured key.");
+        }
+        SecretKeySpec keySpec = new SecretKeySpec(keyBytes, "HmacSHA256");
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        });
+    }
+
+    /**
+     * Returns a short, stable token for a personal value such as an email or IP address.
+     *
+     * @param value The value to redact; case is ignored.
+     * @return A 16 character hex token, or "-" for null.
+     */
+    public String token(String value) {
+        if (value == null) {
+            return "-";
+        }
+        byte[] digest = macs.get().doFinal(value.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest, 0, TOKEN_BYTES);
+    }
+}
@@ -0,0 +1,43 @@
+package com.contactme.contact_me_app.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets through one log event out of every N, for high-volume events such as rate-limit rejections.
+ * The caller can report how many events were suppressed since the last one that was logged,
+ * so the volume remains visible without paying for every line.
+ */
+public class LogSampler {
+
+    private final long everyN;
+    private final AtomicLong counter = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    /**
+     * Constructor for LogSampler.
+     * @param everyN Log one event out of every N; 1 logs every event.
+     */
+    public LogSampler(long everyN) {
+        this.everyN = Math.max(1, everyN);
+    }
+
+    /**
+     * Decides whether the current event should be logged.
+     *
+     * @return true for the first event and then every N-th event.
+     */
+    public boolean sample() {
+        if (counter.getAndIncrement() % everyN == 0) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Returns and resets the number of events suppressed since the last call.
+     */
+    public long drainSuppressed() {
+        return suppressed.getAndSet(0);
+    }
+}
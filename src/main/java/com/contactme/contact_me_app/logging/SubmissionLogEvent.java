@@ -0,0 +1,114 @@
+package com.contactme.contact_me_app.logging;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.spi.LoggingEventBuilder;
+
+/**
+ * Collects the stage timings of a single contact form request and writes them as one
+ * structured log event (SLF4J key/value pairs) when the request completes.
+ * <p>
+ * The event is created by the RateLimitInterceptor and handed to the controller through a
+ * request attribute. It is passed between threads via the CompletableFuture chain, which
+ * provides the necessary happens-before ordering. The one exception is a timed-out request,
+ * whose event is written while the worker may still record a stage; it writes a {@link #snapshot()}
+ * instead, which may miss that late stage.
+ */
+public final class SubmissionLogEvent {
+
+    public static final String REQUEST_ATTRIBUTE = SubmissionLogEvent.class.getName();
+
+    private static final int MAX_STAGES = 8;
+
+    private final long startNanos;
+    private final String[] stageNames = new String[MAX_STAGES];
+    private final long[] stageNanos = new long[MAX_STAGES];
+    private int stageCount;
+    private long lastLapNanos;
+
+    private String ipToken = "-";
+    private String emailToken = "-";
+    private int messageLength = -1;
+    private Long submissionId;
+
+    private SubmissionLogEvent(long startNanos) {
+        this.startNanos = startNanos;
+        this.lastLapNanos = startNanos;
+    }
+
+    /**
+     * Starts a new event at the current time.
+     */
+    public static SubmissionLogEvent begin() {
+        return new SubmissionLogEvent(System.nanoTime());
+    }
+
+    /**
+     * Returns the event started earlier in the request, or starts a new one.
+     */
+    public static SubmissionLogEvent from(HttpServletRequest request) {
+        Object event = request.getAttribute(REQUEST_ATTRIBUTE);
+        return event instanceof SubmissionLogEvent submissionLogEvent ? submissionLogEvent : begin();
+    }
+
+    /**
+     * Records the time elapsed since the previous lap (or the start) under the given stage name.
+     */
+    public synchronized SubmissionLogEvent lap(String stage) {
+        long now = System.nanoTime();
+        if (stageCount < MAX_STAGES) {
+            stageNames[stageCount] = stage;
+            stageNanos[stageCount++] = now - lastLapNanos;
+        }
+        lastLapNanos = now;
+        return this;
+    }
+
+    /**
+     * Returns a copy of the stages and fields recorded so far, for writing the event while another
+     * thread may still call {@link #lap(String)} on it. The copy keeps the original start time.
+     */
+    public synchronized SubmissionLogEvent snapshot() {
+        SubmissionLogEvent copy = new SubmissionLogEvent(startNanos);
+        System.arraycopy(stageNames, 0, copy.stageNames, 0, stageCount);
+        System.arraycopy(stageNanos, 0, copy.stageNanos, 0, stageCount);
+        copy.stageCount = stageCount;
+        copy.lastLapNanos = lastLapNanos;
+        copy.ipToken = ipToken;
+        copy.emailToken = emailToken;
+        copy.messageLength = messageLength;
+        copy.submissionId = submissionId;
+        return copy;
+    }
+
+    public SubmissionLogEvent ipToken(String ipToken) { this.ipToken = ipToken; return this; }
+    public SubmissionLogEvent emailToken(String emailToken) { this.emailToken = emailToken; return this; }
+    public SubmissionLogEvent messageLength(int messageLength) { this.messageLength = messageLength; return this; }
+    public SubmissionLogEvent submissionId(Long submissionId) { this.submissionId = submissionId; return this; }
+
+    /**
+     * Writes the event. Successful requests are logged at INFO, failures at WARN.
+     *
+     * @param logger The logger to write to.
+     * @param outcome Short outcome code, e.g. "accepted", "timeout", "error".
+     * @param status The HTTP status returned to the client.
+     */
+    public void emit(Logger logger, String outcome, int status) {
+        boolean success = status < 400;
+        if (success ? !logger.isInfoEnabled() : !logger.isWarnEnabled()) {
+            return;
+        }
+        LoggingEventBuilder builder = (success ? logger.atInfo() : logger.atWarn())
+                .setMessage("contact_submission")
+                .addKeyValue("outcome", outcome)
+                .addKeyValue("status", status)
+                .addKeyValue("ip", ipToken)
+                .addKeyValue("email", emailToken)
+                .addKeyValue("msg_len", messageLength)
+                .addKeyValue("id", submissionId);
+        for (int i = 0; i < stageCount; i++) {
+            builder = builder.addKeyValue(stageNames[i] + "_us", stageNanos[i] / 1_000);
+        }
+        builder.addKeyValue("total_us", (System.nanoTime() - startNanos) / 1_000).log();
+    }
+}
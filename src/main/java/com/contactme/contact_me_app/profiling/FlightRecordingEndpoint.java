@@ -0,0 +1,41 @@
+package com.contactme.contact_me_app.profiling;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for the continuous flight recording.
+ * The status operation reports whether it is running; dump writes it to the server's dump directory.
+ * The dump stays on the server (recordings may contain environment details), only its location is returned.
+ * Since dumping writes files on the server, application.properties exposes the endpoint over JMX only;
+ * web exposure (GET/POST /actuator/flightrecording) has to be enabled explicitly.
+ */
+@Component
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    private final FlightRecordingService flightRecordingService;
+
+    /**
+     * Constructor for FlightRecordingEndpoint.
+     * @param flightRecordingService Service owning the recording.
+     */
+    public FlightRecordingEndpoint(FlightRecordingService flightRecordingService) {
+        this.flightRecordingService = flightRecordingService;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of("recording", flightRecordingService.isRecording());
+    }
+
+    @WriteOperation
+    public Map<String, Object> dump() throws IOException {
+        return flightRecordingService.dump();
+    }
+}
@@ -0,0 +1,145 @@
+package com.contactme.contact_me_app.profiling;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Keeps an always-on, size- and age-bounded JDK Flight Recorder recording and dumps it on demand.
+ * <p>
+ * The recording uses the JDK "default" profile (designed for continuous use in production, about 1%
+ * overhead) plus the thresholds of the contact pipeline events from jfr/contact-pipeline.jfc.
+ * A dump is a snapshot of everything currently buffered, so a tail-latency incident can be analysed
+ * afterwards without a profiler having been attached when it happened.
+ */
+@Service
+public class FlightRecordingService {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecordingService.class);
+
+    private static final DateTimeFormatter DUMP_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    @Value("${jfr.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jfr.settings:classpath:jfr/contact-pipeline.jfc}")
+    private Resource settings;
+
+    @Value("${jfr.max-age-minutes:60}")
+    private long maxAgeMinutes;
+
+    @Value("${jfr.max-size-mb:100}")
+    private long maxSizeMb;
+
+    @Value("${jfr.dump-directory:./jfr}")
+    private String dumpDirectory;
+
+    // Older dumps are deleted so on-demand dumps cannot fill the disk
+    @Value("${jfr.max-dumps:5}")
+    private int maxDumps;
+
+    private Recording recording;
+
+    /**
+     * Starts the continuous recording.
+     */
+    @PostConstruct
+    void start() {
+        if (!enabled || !FlightRecorder.isAvailable()) {
+            logger.info("FlightRecordingService disabled (jfr.enabled={}, available={}).", enabled, FlightRecorder.isAvailable());
+            return;
+        }
+        try {
+            Map<String, String> eventSettings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+            try (Reader reader = new InputStreamReader(settings.getInputStream(), StandardCharsets.UTF_8)) {
+                eventSettings.putAll(Configuration.create(reader).getSettings());
+            }
+            recording = new Recording(eventSettings);
+            recording.setName("contact-pipeline");
+            recording.setToDisk(true);
+            recording.setMaxAge(Duration.ofMinutes(maxAgeMinutes));
+            recording.setMaxSize(maxSizeMb * 1024 * 1024);
+            recording.start();
+            logger.info("FlightRecordingService started a continuous recording. Max age: {} minutes, Max size: {} MB",
+                    maxAgeMinutes, maxSizeMb);
+        } catch (IOException | ParseException | IllegalStateException e) {
+            // Profiling must never keep the application from starting
+            logger.warn("Could not start the flight recording: {}", e.getMessage());
+            recording = null;
+        }
+    }
+
+    public boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * Writes the data currently held by the flight recorder to a new file in the dump directory.
+     *
+     * @return The file and the time span it covers.
+     * @throws IOException if the dump could not be written.
+     * @throws IllegalStateException if no recording is running.
+     */
+    public synchronized Map<String, Object> dump() throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("No flight recording is running.");
+        }
+        Path directory = Paths.get(dumpDirectory).toAbsolutePath();
+        Files.createDirectories(directory);
+        Path file = directory.resolve("contact-" + DUMP_NAME.format(Instant.now()) + ".jfr");
+        try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+            snapshot.dump(file);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("file", file.toString());
+            result.put("sizeBytes", Files.size(file));
+            result.put("start", snapshot.getStartTime());
+            result.put("end", snapshot.getStopTime());
+            deleteOldDumps(directory);
+            logger.info("Flight recording dumped to {}.", file);
+            return result;
+        }
+    }
+
+    private void deleteOldDumps(Path directory) throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(directory)) {
+            dumps = files.filter(p -> p.getFileName().toString().endsWith(".jfr")).sorted().toList();
+        }
+        for (int i = 0; i < dumps.size() - maxDumps; i++) {
+            Files.deleteIfExists(dumps.get(i));
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
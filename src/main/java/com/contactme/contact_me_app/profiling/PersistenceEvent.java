@@ -0,0 +1,43 @@
+package com.contactme.contact_me_app.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for one database write on the submission path.
+ */
+@Name("com.contactme.Persistence")
+@Label("Persistence Call")
+@Category({"Contact Me", "Persistence"})
+@Description("A database write on the contact submission path")
+@StackTrace(false)
+@Threshold("10 ms")
+public class PersistenceEvent extends Event {
+
+    @Label("Operation")
+    @Description("e.g. saveSubmission, recordIpSubmission")
+    String operation;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * Ends the event and commits it if it passes the configured threshold.
+     *
+     * @param operation Name of the persistence operation.
+     * @param success Whether the write succeeded.
+     */
+    public void complete(String operation, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.contactme.contact_me_app.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for one notification publish to a broker, including the wait for the broker acknowledgement.
+ */
+@Name("com.contactme.Publish")
+@Label("Broker Publish")
+@Category({"Contact Me", "Publisher"})
+@Description("A notification publish to one broker")
+@StackTrace(false)
+@Threshold("20 ms")
+public class PublishEvent extends Event {
+
+    @Label("Broker")
+    String broker;
+
+    @Label("Topic")
+    String topic;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * Ends the event and commits it if it passes the configured threshold.
+     *
+     * @param broker The broker name.
+     * @param topic The topic published to.
+     * @param success Whether the broker acknowledged the message.
+     */
+    public void complete(String broker, String topic, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.broker = broker;
+            this.topic = topic;
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.contactme.contact_me_app.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JFR event for one rate-limit decision. The event duration is the whole decision;
+ * {@link #queryTime} is the part spent loading the history from the database (0 when answered from the cache).
+ * The limiter key is only recorded as a hash, so recordings can be shared without exposing client IPs.
+ */
+@Name("com.contactme.RateLimitDecision")
+@Label("Rate Limit Decision")
+@Category({"Contact Me", "Rate Limit"})
+@Description("A rate-limit check for one limiter key")
+@StackTrace(false)
+@Threshold("1 ms")
+public class RateLimitDecisionEvent extends Event {
+
+    @Label("Dimension")
+    @Description("Limiter dimension: ip or email")
+    String dimension;
+
+    @Label("Key Hash")
+    long keyHash;
+
+    @Label("Outcome")
+    @Description("allowed or limited")
+    String outcome;
+
+    @Label("Cached")
+    @Description("Whether the decision was answered from the in-memory state cache")
+    boolean cached;
+
+    @Label("Query Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long queryTime;
+
+    /**
+     * Ends the event and commits it if it passes the configured threshold.
+     * The key is only hashed for events that are actually recorded.
+     *
+     * @param dimension The limiter dimension.
+     * @param key The limiter key, e.g. the client IP.
+     * @param limited Whether the key was rate-limited.
+     * @param cached Whether the decision came from the cache.
+     * @param queryNanos Time spent on the database query, in nanoseconds.
+     */
+    public void complete(String dimension, String key, boolean limited, boolean cached, long queryNanos) {
+        end();
+        if (shouldCommit()) {
+            commit(dimension, fnv1a(key), limited, cached, queryNanos);
+        }
+    }
+
+    /**
+     * Ends the event and commits it if it passes the configured threshold.
+     *
+     * @param dimension The limiter dimension.
+     * @param keyHash The limiter key, already hashed.
+     * @param limited Whether the key was rate-limited.
+     * @param cached Whether the decision came from the cache.
+     * @param queryNanos Time spent on the database query, in nanoseconds.
+     */
+    public void complete(String dimension, long keyHash, boolean limited, boolean cached, long queryNanos) {
+        end();
+        if (shouldCommit()) {
+            commit(dimension, keyHash, limited, cached, queryNanos);
+        }
+    }
+
+    private void commit(String dimension, long keyHash, boolean limited, boolean cached, long queryNanos) {
+        this.dimension = dimension;
+        this.keyHash = keyHash;
+        this.outcome = limited ? "limited" : "allowed";
+        this.cached = cached;
+        this.queryTime = queryNanos;
+        commit();
+    }
+
+    // 64-bit FNV-1a; cheap, and stable across JVMs so hashes from different recordings can be correlated
+    private static long fnv1a(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,93 @@
+package com.contactme.contact_me_app.publisher;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A lock-free circuit breaker guarding a single message broker.
+ * After a number of consecutive failures the breaker opens and calls are rejected immediately,
+ * without touching the broker. Once the open period has elapsed a single trial call is let through
+ * (half-open); its outcome decides whether the breaker closes again or re-opens.
+ */
+public class BrokerCircuitBreaker {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(BrokerCircuitBreaker.class);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String brokerName;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAtNanos;
+
+    /**
+     * Constructor for BrokerCircuitBreaker.
+     * @param brokerName Name of the guarded broker, used for logging.
+     * @param failureThreshold Number of consecutive failures that opens the breaker.
+     * @param openDurationMillis How long the breaker stays open before a trial call is allowed.
+     */
+    public BrokerCircuitBreaker(String brokerName, int failureThreshold, long openDurationMillis) {
+        this.brokerName = brokerName;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = openDurationMillis * 1_000_000L;
+    }
+
+    /**
+     * Checks whether a call to the broker may proceed.
+     * When the breaker is open this returns false without any blocking.
+     *
+     * @return true if the call is permitted, false if the broker should be skipped.
+     */
+    public boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            logger.info("Circuit breaker for broker '{}' is half-open. Allowing a trial call.", brokerName);
+            return true;
+        }
+        // Either still open, or half-open with the trial call already in flight.
+        return false;
+    }
+
+    /**
+     * Records a successful call and closes the breaker.
+     */
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            logger.info("Circuit breaker for broker '{}' closed after a successful call.", brokerName);
+        }
+    }
+
+    /**
+     * Records a failed call. Opens the breaker when the trial call fails
+     * or the consecutive failure threshold is reached.
+     */
+    public void onFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        State current = state.get();
+        if (current == State.HALF_OPEN || (current == State.CLOSED && failures >= failureThreshold)) {
+            openedAtNanos = System.nanoTime();
+            state.set(State.OPEN);
+            logger.warn("Circuit breaker for broker '{}' opened after {} consecutive failures.", brokerName, failures);
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public String getBrokerName() {
+        return brokerName;
+    }
+}
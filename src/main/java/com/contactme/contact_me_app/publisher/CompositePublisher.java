@@ -0,0 +1,268 @@
+package com.contactme.contact_me_app.publisher;
+
+import com.contactme.contact_me_app.deadline.Deadline;
+import com.contactme.contact_me_app.deadline.DeadlineGuard;
+import com.contactme.contact_me_app.dto.NotificationMessage;
+import com.contactme.contact_me_app.exception.UnexpectedException;
+import com.contactme.contact_me_app.spool.NotificationSpool;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Composite PublishMessage implementation that routes notifications to one or more brokers.
+ * Depending on the configured {@link PublishPolicy} brokers are used as primary/failover
+ * or receive every message in parallel (fan-out).
+ * Each broker is guarded by its own {@link BrokerCircuitBreaker} and {@link RetryBudget},
+ * so a broken broker is skipped immediately instead of tying up threads on timeouts.
+ * Every notification has one time budget (publisher.timeout-ms) shared by all of its brokers,
+ * attempts and fan-out legs; once it is spent, no further attempt is started.
+ */
+@Service
+public class CompositePublisher implements PublishMessage {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(CompositePublisher.class);
+
+    private final Map<String, ObjectProvider<PublishMessage>> availableBrokers;
+    private final Executor dispatchExecutor;
+    private final NotificationSpool spool;
+    private final DeadlineGuard deadlineGuard;
+    private final List<BrokerChannel> channels = new ArrayList<>();
+
+    @Value("${publisher.policy:FAILOVER}")
+    private PublishPolicy policy;
+
+    // Broker names in priority order. Supported names: pubsub, kafka
+    @Value("${publisher.brokers:pubsub,kafka}")
+    private List<String> brokerNames;
+
+    @Value("${publisher.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${publisher.circuit-breaker.open-duration-ms:30000}")
+    private long openDurationMillis;
+
+    @Value("${publisher.retry.max-attempts:2}")
+    private int maxAttempts;
+
+    @Value("${publisher.retry.budget-ratio:0.2}")
+    private double retryBudgetRatio;
+
+    @Value("${publisher.retry.max-stored-retries:10}")
+    private int maxStoredRetries;
+
+    @Value("${publisher.timeout-ms:10000}")
+    private long publishTimeoutMillis;
+
+    /**
+     * Constructor for CompositePublisher.
+     * The broker publishers are lazy beans resolved through providers, so a broker that is not listed
+     * in publisher.brokers (and the client infrastructure behind it) is never created.
+     * @param pubSubPublisher Publisher for Google Cloud Pub/Sub.
+     * @param kafkaProducer Publisher for Kafka.
+     * @param dispatchExecutor Executor running the per-broker legs of a fan-out.
+     * @param spool Local spool receiving messages that no broker accepted.
+     * @param deadlineGuard Counts notifications that ran out of their time budget.
+     */
+    public CompositePublisher(@Qualifier("pubSubPublisher") ObjectProvider<PublishMessage> pubSubPublisher,
+                              @Qualifier("kafkaProducer") ObjectProvider<PublishMessage> kafkaProducer,
+                              @Qualifier("brokerDispatchExecutor") Executor dispatchExecutor,
+                              NotificationSpool spool,
+                              DeadlineGuard deadlineGuard) {
+        this.availableBrokers = Map.of("pubsub", pubSubPublisher, "kafka", kafkaProducer);
+        this.dispatchExecutor = dispatchExecutor;
+        this.spool = spool;
+        this.deadlineGuard = deadlineGuard;
+    }
+
+    /**
+     * Builds one channel per configured broker once the configuration values have been injected.
+     */
+    @PostConstruct
+    void initChannels() {
+        for (String name : brokerNames) {
+            String key = name.trim().toLowerCase(Locale.ROOT);
+            ObjectProvider<PublishMessage> provider = availableBrokers.get(key);
+            if (provider == null) {
+                throw new IllegalStateException("Unknown broker '" + name + "' in publisher.brokers. Supported: " + availableBrokers.keySet());
+            }
+            channels.add(new BrokerChannel(key, provider.getObject(),
+                    new BrokerCircuitBreaker(key, failureThreshold, openDurationMillis),
+                    new RetryBudget(maxAttempts, retryBudgetRatio, maxStoredRetries)));
+        }
+        if (channels.isEmpty()) {
+            throw new IllegalStateException("publisher.brokers must name at least one broker.");
+        }
+        logger.info("CompositePublisher initialized. Policy: {}, Brokers: {}", policy, brokerNames);
+    }
+
+    /**
+     * Asynchronously publishes a notification according to the configured policy.
+     * If no broker accepts the message it is written to the local spool, to be replayed
+     * by the SpoolDrainer once a broker recovers. A message the spool cannot take either is
+     * dropped; the spool counts it, and nothing is thrown on the publisher thread, where no caller would see it.
+     *
+     * @param message The NotificationMessage object to send.
+     */
+    @Async("publisherExecutor")
+    @Override
+    public void sendMessage(NotificationMessage message) {
+        try {
+            dispatch(message);
+        } catch (UnexpectedException e) {
+            if (spool.append(message)) {
+                logger.warn("Notification spooled for later delivery: {}", e.getMessage());
+            } else {
+                logger.error("Notification dropped: no broker accepted it and it could not be spooled: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Synchronously publishes a notification according to the configured policy.
+     * Unlike {@link #sendMessage}, failures are not spooled but reported to the caller.
+     *
+     * @param message The NotificationMessage object to send.
+     * @throws UnexpectedException if no broker accepted the message.
+     */
+    public void dispatch(NotificationMessage message) {
+        try (Deadline.Scope scope = Deadline.afterMillis(publishTimeoutMillis).attach()) {
+            if (policy == PublishPolicy.FAN_OUT) {
+                fanOut(message);
+            } else {
+                failover(message);
+            }
+        }
+    }
+
+    private void failover(NotificationMessage message) {
+        RuntimeException lastFailure = null;
+        for (BrokerChannel channel : channels) {
+            if (Deadline.isCurrentExpired()) {
+                lastFailure = deadlineGuard.exceeded("publish", null);
+                break;
+            }
+            if (!channel.breaker.tryAcquirePermission()) {
+                logger.debug("Skipping broker '{}': circuit breaker is open.", channel.name);
+                continue;
+            }
+            try {
+                channel.publish(message);
+                return;
+            } catch (RuntimeException e) {
+                lastFailure = e;
+                logger.warn("Broker '{}' failed to publish, trying next broker: {}", channel.name, e.getMessage());
+            }
+        }
+        throw allBrokersFailed(lastFailure);
+    }
+
+    private void fanOut(NotificationMessage message) {
+        List<CompletableFuture<Boolean>> legs = new ArrayList<>(channels.size());
+        for (BrokerChannel channel : channels) {
+            if (!channel.breaker.tryAcquirePermission()) {
+                logger.debug("Skipping broker '{}' in fan-out: circuit breaker is open.", channel.name);
+                continue;
+            }
+            legs.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    channel.publish(message);
+                    return true;
+                } catch (RuntimeException e) {
+                    logger.warn("Broker '{}' failed in fan-out: {}", channel.name, e.getMessage());
+                    return false;
+                }
+            }, dispatchExecutor));
+        }
+        // A leg that is still running at the deadline counts as failed; if it delivers later,
+        // the spooled copy is a duplicate, which at-least-once delivery allows
+        Deadline deadline = Deadline.current();
+        boolean delivered = false;
+        for (CompletableFuture<Boolean> leg : legs) {
+            try {
+                delivered |= leg.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                deadlineGuard.exceeded("publish", e);
+                logger.warn("A fan-out leg did not finish within the publish time budget.");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                // Legs report their own failures as false; nothing else can fail here
+                logger.warn("Fan-out leg failed: {}", e.getMessage());
+            }
+        }
+        if (!delivered) {
+            throw allBrokersFailed(null);
+        }
+    }
+
+    private UnexpectedException allBrokersFailed(RuntimeException lastFailure) {
+        logger.error("No broker accepted the notification. Policy: {}, Breakers: {}", policy, describeBreakers());
+        return lastFailure != null
+                ? new UnexpectedException("Failed to publish message to any broker.", lastFailure)
+                : new UnexpectedException("Failed to publish message to any broker.");
+    }
+
+    private String describeBreakers() {
+        StringBuilder sb = new StringBuilder();
+        for (BrokerChannel channel : channels) {
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(channel.name).append('=').append(channel.breaker.getState());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A single broker together with its circuit breaker and retry budget.
+     * The caller must have acquired a breaker permission before calling {@link #publish}.
+     */
+    private static final class BrokerChannel {
+        private final String name;
+        private final PublishMessage delegate;
+        private final BrokerCircuitBreaker breaker;
+        private final RetryBudget retryBudget;
+
+        private BrokerChannel(String name, PublishMessage delegate, BrokerCircuitBreaker breaker, RetryBudget retryBudget) {
+            this.name = name;
+            this.delegate = delegate;
+            this.breaker = breaker;
+            this.retryBudget = retryBudget;
+        }
+
+        private void publish(NotificationMessage message) {
+            retryBudget.onFirstAttempt();
+            int attempts = 0;
+            while (true) {
+                attempts++;
+                try {
+                    delegate.sendMessage(message);
+                    breaker.onSuccess();
+                    return;
+                } catch (RuntimeException e) {
+                    breaker.onFailure();
+                    if (Deadline.isCurrentExpired() || !retryBudget.tryRetry(attempts) || !breaker.tryAcquirePermission()) {
+                        throw e;
+                    }
+                    logger.debug("Retrying broker '{}' (attempt {}).", name, attempts + 1);
+                }
+            }
+        }
+    }
+}
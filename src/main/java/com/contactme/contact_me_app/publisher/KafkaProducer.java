@@ -1,19 +1,33 @@
 package com.contactme.contact_me_app.publisher;
 
 import com.contactme.contact_me_app.dto.NotificationMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.kafka.KafkaException;
 import com.contactme.contact_me_app.exception.UnexpectedException;
+import com.contactme.contact_me_app.profiling.PublishEvent;
+import com.contactme.contact_me_app.deadline.Deadline;
+import com.contactme.contact_me_app.deadline.DeadlineGuard;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
- * KafkaProducer is responsible for asynchronously sending messages to a Kafka topic.
+ * KafkaProducer is responsible for sending messages to a Kafka topic.
  * It uses Spring's KafkaTemplate to interact with the Kafka broker.
+ * The asynchronous hand-off is done by the {@link CompositePublisher}, so this class waits for
+ * the broker acknowledgement, at most for the remaining time budget of the notification, and
+ * reports failures to its caller.
+ * It is lazy: it is only created when Kafka is one of the configured brokers.
  */
 @Service
+@Lazy
 public class KafkaProducer implements PublishMessage {
 
     // Initialize a logger for this class
@@ -21,43 +35,69 @@ public class KafkaProducer implements PublishMessage {
 
     private final KafkaTemplate<String, NotificationMessage> kafkaTemplate;
     private final String topic = "contact_me_topic";
+    private final DeadlineGuard deadlineGuard;
+
+    // Upper bound on the acknowledgement wait when the caller has no deadline
+    @Value("${publisher.timeout-ms:10000}")
+    private long sendTimeoutMillis;
 
     /**
      * Constructor for KafkaProducer.
      * @param kafkaTemplate The Spring KafkaTemplate instance for sending messages.
+     * @param deadlineGuard Counts sends that were not acknowledged in time.
      */
-    public KafkaProducer(KafkaTemplate<String, NotificationMessage> kafkaTemplate) {
+    public KafkaProducer(KafkaTemplate<String, NotificationMessage> kafkaTemplate, DeadlineGuard deadlineGuard) {
         this.kafkaTemplate = kafkaTemplate;
+        this.deadlineGuard = deadlineGuard;
         logger.info("KafkaProducer initialized with topic: {}", topic);
     }
 
     /**
-     * Asynchronously sends a NotificationMessage object to the configured Kafka topic.
+     * Sends a NotificationMessage object to the configured Kafka topic and waits for the acknowledgement.
      * Logs the attempt, success, or failure of sending the message.
      *
      * @param message The NotificationMessage object to send.
      * @throws UnexpectedException if an error occurs during Kafka message production.
      */
-    @Async
     @Override
     public void sendMessage(NotificationMessage message) {
         // No longer extracting a Long ID, sending the full message object.
         // You might want a unique key for the message, e.g., message.getSomeId().toString() as the key.
         // For simplicity, sending with null key for now.
 
-        logger.debug("Attempting to send message to topic '{}'. Message: {}", topic, message);
+        logger.debug("Attempting to send message to topic '{}'.", topic);
+        PublishEvent event = new PublishEvent();
+        event.begin();
+        boolean sent = false;
+        CompletableFuture<?> future = null;
         try {
             // Sending the entire NotificationMessage object
-            kafkaTemplate.send(topic, message);
-            logger.info("Successfully sent message to Kafka topic '{}': {}", topic, message);
+            future = kafkaTemplate.send(topic, message);
+            future.get(Deadline.remainingMillisOr(sendTimeoutMillis), TimeUnit.MILLISECONDS);
+            sent = true;
+            logger.debug("Successfully sent message to Kafka topic '{}'.", topic);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Kafka send interrupted for topic '{}': {}", topic, e.getMessage(), e);
+            throw new UnexpectedException("Kafka publish operation was interrupted.", e);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            deadlineGuard.exceeded("publish_kafka", e);
+            logger.error("Kafka send to topic '{}' was not acknowledged in time.", topic);
+            throw new UnexpectedException("Kafka publish operation timed out.", e);
+        } catch (ExecutionException e) {
+            logger.error("Kafka send failed for topic '{}': {}", topic, e.getMessage(), e);
+            throw new UnexpectedException("Failed to publish message to Kafka.", e);
         } catch (KafkaException e) { // Catch specific Kafka exceptions
             // Log errors that occur during the message sending process via KafkaTemplate
-            logger.error("Failed to send message '{}' to Kafka topic '{}': {}", message, topic, e.getMessage(), e);
+            logger.error("Failed to send message to Kafka topic '{}': {}", topic, e.getMessage(), e);
             throw new UnexpectedException("Failed to publish message to Kafka.", e);
         } catch (Exception e) { // General catch for any other unforeseen exceptions
-            logger.error("An unexpected error occurred while sending message '{}' to Kafka topic '{}': {}",
-                         message, topic, e.getMessage(), e);
+            logger.error("An unexpected error occurred while sending message to Kafka topic '{}': {}",
+                         topic, e.getMessage(), e);
             throw new UnexpectedException("An unknown error occurred during Kafka publish.", e);
+        } finally {
+            event.complete("kafka", topic, sent);
         }
     }
 }
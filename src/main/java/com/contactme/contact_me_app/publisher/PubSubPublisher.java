@@ -4,20 +4,31 @@ package com.contactme.contact_me_app.publisher;
 import com.contactme.contact_me_app.dto.NotificationMessage;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.cloud.spring.pubsub.core.PubSubTemplate;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.contactme.contact_me_app.exception.UnexpectedException;
+import com.contactme.contact_me_app.profiling.PublishEvent;
+import com.contactme.contact_me_app.deadline.Deadline;
+import com.contactme.contact_me_app.deadline.DeadlineGuard;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Service class responsible for publishing messages to Google Cloud Pub/Sub.
  * It implements the PublishMessage interface and uses PubSubTemplate for interaction.
+ * Publishing is synchronous; the asynchronous hand-off is done by the {@link CompositePublisher}.
+ * The wait for the acknowledgement is bounded by the remaining time budget of the notification.
+ * It is lazy: it is only created when Pub/Sub is one of the configured brokers.
  */
 @Service
+@Lazy
 public class PubSubPublisher implements PublishMessage {
 
     private static final Logger logger = LoggerFactory.getLogger(PubSubPublisher.class);
@@ -25,23 +36,33 @@ public class PubSubPublisher implements PublishMessage {
     private final PubSubTemplate pubSubTemplate;
     private final ObjectMapper objectMapper;
     private final String topic;
+    private final DeadlineGuard deadlineGuard;
 
-    public PubSubPublisher(PubSubTemplate pubSubTemplate, ObjectMapper objectMapper) {
+    // Upper bound on the acknowledgement wait when the caller has no deadline
+    @Value("${publisher.timeout-ms:10000}")
+    private long sendTimeoutMillis;
+
+    public PubSubPublisher(PubSubTemplate pubSubTemplate, ObjectMapper objectMapper, DeadlineGuard deadlineGuard) {
         this.pubSubTemplate = pubSubTemplate;
         this.objectMapper = objectMapper;
+        this.deadlineGuard = deadlineGuard;
         this.topic = "contact-me";
         logger.info("PubSubPublisher initialized for default topic: {}", this.topic);
     }
 
     @Override
-    @Async
     public void sendMessage(NotificationMessage message) {
-        logger.info("Attempting to publish message to topic '{}'. Message type: {}", topic, message.getClass().getSimpleName());
+        logger.debug("Attempting to publish message to topic '{}'.", topic);
+        PublishEvent event = new PublishEvent();
+        event.begin();
+        boolean published = false;
+        CompletableFuture<String> future = null;
         try {
-            logger.debug("Serializing message to JSON: {}", message);
             String jsonMessage = objectMapper.writeValueAsString(message);
-            pubSubTemplate.publish(topic, jsonMessage).get();
-            logger.info("Successfully published message to topic '{}': {}", topic, jsonMessage);
+            future = pubSubTemplate.publish(topic, jsonMessage);
+            future.get(Deadline.remainingMillisOr(sendTimeoutMillis), TimeUnit.MILLISECONDS);
+            published = true;
+            logger.debug("Successfully published message to topic '{}'.", topic);
         } catch (IOException e) {
             logger.error("Failed to serialize message to JSON for topic '{}': {}", topic, e.getMessage(), e);
             throw new UnexpectedException("Failed to serialize message for Pub/Sub.", e);
@@ -49,12 +70,19 @@ public class PubSubPublisher implements PublishMessage {
             Thread.currentThread().interrupt();
             logger.error("Pub/Sub publish interrupted for topic '{}': {}", topic, e.getMessage(), e);
             throw new UnexpectedException("Pub/Sub publish operation was interrupted.", e);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            deadlineGuard.exceeded("publish_pubsub", e);
+            logger.error("Pub/Sub publish to topic '{}' was not acknowledged in time.", topic);
+            throw new UnexpectedException("Pub/Sub publish operation timed out.", e);
         } catch (ExecutionException e) {
             logger.error("Pub/Sub publish execution failed for topic '{}': {}", topic, e.getMessage(), e);
             throw new UnexpectedException("Pub/Sub publish operation failed.", e);
         } catch (Exception e) {
             logger.error("An unknown error occurred while publishing to topic '{}': {}", topic, e.getMessage(), e);
             throw new UnexpectedException("An unknown error occurred during Pub/Sub publish.", e);
+        } finally {
+            event.complete("pubsub", topic, published);
         }
     }
 }
\ No newline at end of file
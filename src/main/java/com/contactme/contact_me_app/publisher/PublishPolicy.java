@@ -0,0 +1,19 @@
+package com.contactme.contact_me_app.publisher;
+
+/**
+ * Routing policy used by the {@link CompositePublisher} to decide which brokers receive a message.
+ */
+public enum PublishPolicy {
+
+    /**
+     * Brokers are tried one at a time in their configured order.
+     * The first broker that accepts the message wins; the others are only used when it fails.
+     */
+    FAILOVER,
+
+    /**
+     * The message is dispatched to every configured broker in parallel.
+     * Publishing succeeds when at least one broker accepts the message.
+     */
+    FAN_OUT
+}
@@ -0,0 +1,60 @@
+package com.contactme.contact_me_app.publisher;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A per-broker retry budget.
+ * Every first attempt deposits a fraction of a retry token, and every retry withdraws a whole token.
+ * Retries therefore stay a bounded fraction of the overall traffic, so a failing broker
+ * cannot multiply the load placed on it.
+ */
+public class RetryBudget {
+
+    private static final long TOKEN = 1000L;
+
+    private final int maxAttempts;
+    private final long depositPerRequest;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    /**
+     * Constructor for RetryBudget.
+     * @param maxAttempts Maximum attempts per message, including the first one.
+     * @param retryRatio Fraction of requests that may be retried (e.g. 0.2 for 20%).
+     * @param maxStoredRetries Maximum number of retry tokens that can be saved up.
+     */
+    public RetryBudget(int maxAttempts, double retryRatio, int maxStoredRetries) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.depositPerRequest = Math.round(retryRatio * TOKEN);
+        this.capacity = Math.max(1, maxStoredRetries) * TOKEN;
+        // Start full so retries are possible right after startup.
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * Records a first attempt, depositing its share of a retry token.
+     */
+    public void onFirstAttempt() {
+        balance.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(capacity, current + deposit));
+    }
+
+    /**
+     * Attempts to withdraw a retry token.
+     *
+     * @param attemptsSoFar Number of attempts already made for the current message.
+     * @return true if another attempt is allowed.
+     */
+    public boolean tryRetry(int attemptsSoFar) {
+        if (attemptsSoFar >= maxAttempts) {
+            return false;
+        }
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+}
@@ -0,0 +1,27 @@
+package com.contactme.contact_me_app.repository;
+
+import com.contactme.contact_me_app.entity.ContactFormEmailSubmission;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface ContactFormEmailSubmissionRepository extends JpaRepository<ContactFormEmailSubmission, Long> {
+
+    /**
+     * Finds the submission times of a sender email hash after a specific time.
+     * Only the times are selected, so no entities are loaded into the persistence context.
+     */
+    @Query("select s.submissionTime from ContactFormEmailSubmission s where s.emailHash = :emailHash and s.submissionTime > :time")
+    List<OffsetDateTime> findSubmissionTimesAfter(@Param("emailHash") long emailHash, @Param("time") OffsetDateTime time);
+
+    /**
+     * Custom method to delete all entries with submission_time before a given timestamp.
+     * Returns the number of deleted records.
+     */
+    int deleteBySubmissionTimeBefore(OffsetDateTime time);
+}
@@ -1,9 +1,18 @@
 package com.contactme.contact_me_app.repository;
 
+import com.contactme.contact_me_app.dto.SubmissionEvent;
 import com.contactme.contact_me_app.entity.ContactFormSubmission;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
 
 @Repository
 public interface ContactFormRepository extends JpaRepository<ContactFormSubmission, Long> {
@@ -13,4 +22,65 @@ public interface ContactFormRepository extends JpaRepository<ContactFormSubmissi
      * Returns the number of deleted records.
      */
     int deleteByIsReadTrue(); // Add this line
-}
\ No newline at end of file
+
+    /**
+     * Returns the next page of read submissions with an id greater than the given one, in id order.
+     * Used to stream submissions into the archive without offset paging.
+     */
+    List<ContactFormSubmission> findByIsReadTrueAndIdGreaterThanOrderByIdAsc(long afterId, Pageable pageable);
+
+    /**
+     * Returns the next page of submissions with an id greater than the given one, in id order,
+     * as live feed events. Used to replay what a reconnecting feed client missed.
+     */
+    @Query("select new com.contactme.contact_me_app.dto.SubmissionEvent(s.id, s.fullName, s.subject, s.sentAt)"
+            + " from ContactFormSubmission s where s.id > :afterId order by s.id")
+    List<SubmissionEvent> findEventsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * Marks the given submissions as read in a single UPDATE statement.
+     * Returns the number of submissions that were unread before.
+     */
+    @Modifying
+    @Query("update ContactFormSubmission s set s.isRead = true where s.id in :ids and (s.isRead = false or s.isRead is null)")
+    int markReadByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Marks the submissions with an id in the inclusive range as read in a single UPDATE statement.
+     * Returns the number of submissions that were unread before.
+     */
+    @Modifying
+    @Query("update ContactFormSubmission s set s.isRead = true where s.id between :fromId and :toId and (s.isRead = false or s.isRead is null)")
+    int markReadByIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * Marks the submissions with an id in the inclusive range and sent within the inclusive time range
+     * as read in a single UPDATE statement. Returns the number of submissions that were unread before.
+     */
+    @Modifying
+    @Query("update ContactFormSubmission s set s.isRead = true where s.id between :fromId and :toId"
+            + " and s.sentAt between :sentFrom and :sentTo and (s.isRead = false or s.isRead is null)")
+    int markReadByIdRangeAndSentAt(@Param("fromId") long fromId, @Param("toId") long toId,
+                                   @Param("sentFrom") OffsetDateTime sentFrom, @Param("sentTo") OffsetDateTime sentTo);
+
+    /**
+     * Returns the lowest and highest id of the submissions sent within the inclusive time range
+     * (both null if there are none).
+     */
+    @Query("select min(s.id) as minId, max(s.id) as maxId from ContactFormSubmission s where s.sentAt between :sentFrom and :sentTo")
+    IdBounds findIdBoundsBySentAt(@Param("sentFrom") OffsetDateTime sentFrom, @Param("sentTo") OffsetDateTime sentTo);
+
+    /**
+     * Returns the lowest and highest id of all submissions (both null if there are none).
+     */
+    @Query("select min(s.id) as minId, max(s.id) as maxId from ContactFormSubmission s")
+    IdBounds findIdBounds();
+
+    /**
+     * Projection of an id range.
+     */
+    interface IdBounds {
+        Long getMinId();
+        Long getMaxId();
+    }
+}
@@ -0,0 +1,17 @@
+package com.contactme.contact_me_app.repository;
+
+import com.contactme.contact_me_app.entity.QuarantinedSubmission;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+
+@Repository
+public interface QuarantinedSubmissionRepository extends JpaRepository<QuarantinedSubmission, Long> {
+
+    /**
+     * Deletes quarantined submissions older than the given timestamp.
+     * Returns the number of deleted records.
+     */
+    int deleteByQuarantinedAtBefore(OffsetDateTime threshold);
+}
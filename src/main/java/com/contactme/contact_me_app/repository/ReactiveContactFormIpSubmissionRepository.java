@@ -0,0 +1,47 @@
+package com.contactme.contact_me_app.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Non-blocking R2DBC repository for the contact_form_submissions_ip table.
+ * Used by the reactive request path; the table itself is still owned by the JPA entity.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveContactFormIpSubmissionRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveContactFormIpSubmissionRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Finds the submission times of a given IP address after a specific time.
+     */
+    public Flux<OffsetDateTime> findSubmissionTimesAfter(String ipAddress, OffsetDateTime time) {
+        return databaseClient.sql("SELECT submission_time FROM contact_form_submissions_ip " +
+                        "WHERE ip_address = :ipAddress AND submission_time > :time")
+                .bind("ipAddress", ipAddress)
+                .bind("time", time)
+                .map(row -> row.get("submission_time", OffsetDateTime.class))
+                .all();
+    }
+
+    /**
+     * Records a submission for the given IP address.
+     */
+    public Mono<Void> save(String ipAddress, OffsetDateTime submissionTime) {
+        return databaseClient.sql("INSERT INTO contact_form_submissions_ip (ip_address, submission_time) " +
+                        "VALUES (:ipAddress, :submissionTime)")
+                .bind("ipAddress", ipAddress)
+                .bind("submissionTime", submissionTime)
+                .then();
+    }
+}
@@ -0,0 +1,59 @@
+package com.contactme.contact_me_app.repository;
+
+import com.contactme.contact_me_app.entity.ContactFormSubmission;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Non-blocking R2DBC repository for the contact_form_submissions table.
+ * Used by the reactive request path; the table itself is still owned by the JPA entity.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveContactFormRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO contact_form_submissions " +
+            "(full_name, email, subject, message_text, sent_at, is_read, notification_retry_count) " +
+            "VALUES (:fullName, :email, :subject, :messageText, :sentAt, :isRead, :retryCount) RETURNING id";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveContactFormRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Inserts a new submission and sets its generated id.
+     *
+     * @param submission The submission to insert.
+     * @return The saved submission with its generated id.
+     */
+    public Mono<ContactFormSubmission> save(ContactFormSubmission submission) {
+        // Deferred, so a binding error surfaces as an error signal of the returned Mono
+        return Mono.defer(() -> {
+            DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_SQL)
+                    .bind("fullName", submission.getFullName())
+                    .bind("email", submission.getEmail())
+                    .bind("messageText", submission.getMessageText());
+            spec = bindNullable(spec, "subject", submission.getSubject(), String.class);
+            spec = bindNullable(spec, "sentAt", submission.getSentAt(), OffsetDateTime.class);
+            spec = bindNullable(spec, "isRead", submission.getIsRead(), Boolean.class);
+            spec = bindNullable(spec, "retryCount", submission.getNotificationRetryCount(), Integer.class);
+            return spec.map(row -> row.get("id", Long.class)).one();
+        }).map(id -> {
+            submission.setId(id);
+            return submission;
+        });
+    }
+
+    // bind() rejects null values; nullable columns are bound with their type instead
+    private static <T> DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                                      T value, Class<T> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+}
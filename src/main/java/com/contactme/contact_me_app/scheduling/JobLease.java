@@ -0,0 +1,63 @@
+package com.contactme.contact_me_app.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * A lease held by this node on a scheduled job, see {@link JobLeaseService}.
+ * Long-running jobs should check {@link #isHeld()} between steps and stop when it returns false:
+ * the lease was lost (e.g. after a long pause) and another node may already be running the job.
+ */
+public final class JobLease implements AutoCloseable {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(JobLease.class);
+
+    private final JobLeaseService service;
+    private final String jobName;
+    private final Instant holdUntil;
+    private volatile boolean held = true;
+    private volatile ScheduledFuture<?> renewal;
+
+    JobLease(JobLeaseService service, String jobName, Instant holdUntil) {
+        this.service = service;
+        this.jobName = jobName;
+        this.holdUntil = holdUntil;
+    }
+
+    void setRenewal(ScheduledFuture<?> renewal) {
+        this.renewal = renewal;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public boolean isHeld() {
+        return held;
+    }
+
+    void renew() {
+        if (held && !service.renew(jobName)) {
+            held = false;
+            renewal.cancel(false);
+            logger.warn("Lost the lease of job '{}'; another node may take over.", jobName);
+        }
+    }
+
+    /**
+     * Stops renewing and releases the lease if it is still held. It stays in place until shortly
+     * before the next scheduled run, so the same run is not started again by a late trigger.
+     */
+    @Override
+    public void close() {
+        renewal.cancel(false);
+        if (held) {
+            held = false;
+            service.release(jobName, holdUntil);
+        }
+    }
+}
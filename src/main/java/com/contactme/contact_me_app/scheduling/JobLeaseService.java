@@ -0,0 +1,181 @@
+package com.contactme.contact_me_app.scheduling;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinates scheduled jobs across replicas with leases in the scheduled_job_lease table,
+ * so that a job triggered on every node at the same moment runs on exactly one of them.
+ * <p>
+ * A node acquires a job with a single conditional upsert that only succeeds while nobody else
+ * holds an unexpired lease; all times come from the database clock, so node clock skew does not
+ * matter. While the job runs the lease is renewed every third of its TTL. If the node dies, the
+ * lease simply expires and the next trigger can run elsewhere. On completion the lease is kept until
+ * jobs.lease.clock-skew-ms before the next scheduled fire time (lock at least until then): a node whose
+ * trigger fires late, because of a skewed clock or the handoff delay, still finds it held and does not
+ * run the same execution a second time. The node that ran the previous execution waits
+ * jobs.lease.handoff-delay-ms before competing again, so consecutive executions spread across the nodes that are up.
+ */
+@Service
+public class JobLeaseService {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(JobLeaseService.class);
+
+    private static final String ACQUIRE_SQL = """
+            insert into scheduled_job_lease (job_name, owner, lease_until, acquired_at)
+            values (?, ?, now() + (? * interval '1 millisecond'), now())
+            on conflict (job_name) do update
+                set owner = excluded.owner, lease_until = excluded.lease_until, acquired_at = excluded.acquired_at
+                where scheduled_job_lease.lease_until < now()
+            """;
+
+    private static final String RENEW_SQL =
+            "update scheduled_job_lease set lease_until = now() + (? * interval '1 millisecond') where job_name = ? and owner = ?";
+
+    // Keeps the lease until shortly before the next scheduled run, so a late trigger of the same run finds it held
+    private static final String RELEASE_SQL =
+            "update scheduled_job_lease set lease_until = now() + (greatest(?, 0) * interval '1 millisecond') where job_name = ? and owner = ?";
+
+    private static final String OWNER_SQL = "select owner from scheduled_job_lease where job_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService renewer;
+    private final String nodeId;
+
+    @Value("${jobs.lease.ttl-ms:60000}")
+    private long leaseTtlMillis;
+
+    @Value("${jobs.lease.handoff-delay-ms:5000}")
+    private long handoffDelayMillis;
+
+    // Largest expected difference between the node clocks; the lease of a completed run ends this long before the next run
+    @Value("${jobs.lease.clock-skew-ms:10000}")
+    private long clockSkewMillis;
+
+    /**
+     * Constructor for JobLeaseService.
+     * @param jdbcTemplate JdbcTemplate for the lease statements.
+     * @param transactionManager Transaction manager; every lease statement commits on its own,
+     *                           independent of any transaction of the caller.
+     * @param nodeId Identity of this node; by default pid@host plus a random suffix, so a restarted node is a new owner.
+     */
+    public JobLeaseService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           @Value("${jobs.node-id:}") String nodeId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = nodeId.isBlank()
+                ? ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8)
+                : nodeId;
+        this.renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lease-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.info("JobLeaseService initialized. Node id: {}", this.nodeId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Tries to acquire the lease of a job. The returned lease is renewed in the background
+     * until it is closed, and must be closed when the job completes.
+     * Must be called from the scheduled trigger of the job: the next fire time is taken from the schedule.
+     *
+     * @param jobName Name of the job.
+     * @param schedule Cron schedule of the job; the lease of this run is kept until shortly before its next fire time.
+     * @return The lease, or empty if another node holds it or the database is unavailable.
+     */
+    public Optional<JobLease> tryAcquire(String jobName, CronExpression schedule) {
+        ZonedDateTime nextFireTime = schedule.next(ZonedDateTime.now());
+        try {
+            if (handoffDelayMillis > 0 && nodeId.equals(currentOwner(jobName))) {
+                // Give the other nodes the first chance, so consecutive runs rotate between them
+                Thread.sleep(handoffDelayMillis);
+            }
+            Integer acquired = transactionTemplate.execute(status ->
+                    jdbcTemplate.update(ACQUIRE_SQL, jobName, nodeId, leaseTtlMillis));
+            if (acquired == null || acquired != 1) {
+                logger.info("Job '{}' is held by another node. Skipping this run.", jobName);
+                return Optional.empty();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (DataAccessException e) {
+            logger.error("Could not acquire the lease of job '{}': {}", jobName, e.getMessage());
+            return Optional.empty();
+        }
+        logger.info("Acquired the lease of job '{}'. TTL: {} ms", jobName, leaseTtlMillis);
+        JobLease lease = new JobLease(this, jobName, nextFireTime == null ? null : nextFireTime.toInstant());
+        long period = Math.max(1, leaseTtlMillis / 3);
+        lease.setRenewal(renewer.scheduleAtFixedRate(lease::renew, period, period, TimeUnit.MILLISECONDS));
+        return Optional.of(lease);
+    }
+
+    /**
+     * Extends the lease of a job held by this node.
+     *
+     * @return true if the lease is still held by this node.
+     */
+    boolean renew(String jobName) {
+        try {
+            Integer renewed = transactionTemplate.execute(status ->
+                    jdbcTemplate.update(RENEW_SQL, leaseTtlMillis, jobName, nodeId));
+            return renewed != null && renewed == 1;
+        } catch (DataAccessException e) {
+            // The lease may run out before the database is back, and another node may take over: stop the job
+            logger.warn("Could not renew the lease of job '{}': {}", jobName, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Ends the lease of a job held by this node shortly before the next scheduled run, handing it off to the next trigger.
+     *
+     * @param holdUntil Next fire time of the job, or null if the schedule has none (the lease ends immediately).
+     */
+    void release(String jobName, Instant holdUntil) {
+        long holdMillis = holdUntil == null ? 0 : Duration.between(Instant.now(), holdUntil).toMillis() - clockSkewMillis;
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(RELEASE_SQL, holdMillis, jobName, nodeId));
+            logger.info("Released the lease of job '{}'.", jobName);
+        } catch (DataAccessException e) {
+            logger.warn("Could not release the lease of job '{}'; it expires on its own: {}", jobName, e.getMessage());
+        }
+    }
+
+    private String currentOwner(String jobName) {
+        List<String> owners = jdbcTemplate.queryForList(OWNER_SQL, String.class, jobName);
+        return owners.isEmpty() ? null : owners.get(0);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewer.shutdownNow();
+    }
+}
@@ -0,0 +1,167 @@
+package com.contactme.contact_me_app.screening;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable Aho-Corasick automaton matching a text against many literal patterns in one linear pass.
+ * <p>
+ * Matching is case-insensitive: patterns and text are folded with {@link Character#toLowerCase(char)}.
+ * The trie is compiled into flat arrays (sorted edges per state, failure links and the first pattern
+ * reachable through the output links), so a scan allocates nothing and visits every character once.
+ * Instances are safe to share between threads.
+ */
+public final class AhoCorasickMatcher {
+
+    private final String[] patterns;
+    // Edges of state s are edgeChars/edgeTargets[edgeStart[s] .. edgeStart[s + 1]), sorted by char
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] failure;
+    // Index of a pattern ending at this state, directly or through its failure chain, or -1
+    private final int[] output;
+
+    private AhoCorasickMatcher(String[] patterns, int[] edgeStart, char[] edgeChars, int[] edgeTargets, int[] failure, int[] output) {
+        this.patterns = patterns;
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.output = output;
+    }
+
+    /**
+     * Builds an automaton for the given patterns. Blank patterns are ignored.
+     *
+     * @param patterns The literal patterns to match.
+     * @return The compiled matcher.
+     */
+    public static AhoCorasickMatcher compile(Collection<String> patterns) {
+        List<String> accepted = new ArrayList<>(patterns.size());
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<Integer> ownPattern = new ArrayList<>();
+        children.add(new TreeMap<>());
+        ownPattern.add(-1);
+
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isBlank()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = Character.toLowerCase(pattern.charAt(i));
+                Integer next = children.get(state).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(c, next);
+                    children.add(new TreeMap<>());
+                    ownPattern.add(-1);
+                }
+                state = next;
+            }
+            if (ownPattern.get(state) < 0) {
+                ownPattern.set(state, accepted.size());
+                accepted.add(pattern);
+            }
+        }
+
+        int states = children.size();
+        int[] edgeStart = new int[states + 1];
+        for (int s = 0; s < states; s++) {
+            edgeStart[s + 1] = edgeStart[s] + children.get(s).size();
+        }
+        char[] edgeChars = new char[edgeStart[states]];
+        int[] edgeTargets = new int[edgeStart[states]];
+        for (int s = 0; s < states; s++) {
+            int e = edgeStart[s];
+            for (Map.Entry<Character, Integer> edge : children.get(s).entrySet()) {
+                edgeChars[e] = edge.getKey();
+                edgeTargets[e] = edge.getValue();
+                e++;
+            }
+        }
+
+        // Breadth-first, so the failure target of a state is always complete before the state itself
+        int[] failure = new int[states];
+        int[] output = new int[states];
+        output[0] = -1;
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeStart[0]; e < edgeStart[1]; e++) {
+            int child = edgeTargets[e];
+            failure[child] = 0;
+            output[child] = ownPattern.get(child);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int e = edgeStart[state]; e < edgeStart[state + 1]; e++) {
+                int child = edgeTargets[e];
+                int f = failure[state];
+                int target;
+                while ((target = step(edgeStart, edgeChars, edgeTargets, f, edgeChars[e])) < 0 && f != 0) {
+                    f = failure[f];
+                }
+                failure[child] = Math.max(target, 0);
+                output[child] = ownPattern.get(child) >= 0 ? ownPattern.get(child) : output[failure[child]];
+                queue.add(child);
+            }
+        }
+        return new AhoCorasickMatcher(accepted.toArray(new String[0]), edgeStart, edgeChars, edgeTargets, failure, output);
+    }
+
+    /**
+     * Scans the text and returns the first pattern found in it.
+     *
+     * @param text The text to scan; may be null.
+     * @return The matched pattern as it was given to {@link #compile}, or null if nothing matches.
+     */
+    public String findFirst(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next;
+            while ((next = step(edgeStart, edgeChars, edgeTargets, state, c)) < 0 && state != 0) {
+                state = failure[state];
+            }
+            state = Math.max(next, 0);
+            if (output[state] >= 0) {
+                return patterns[output[state]];
+            }
+        }
+        return null;
+    }
+
+    public int getPatternCount() {
+        return patterns.length;
+    }
+
+    public int getStateCount() {
+        return failure.length;
+    }
+
+    private static int step(int[] edgeStart, char[] edgeChars, int[] edgeTargets, int state, char c) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char edge = edgeChars[mid];
+            if (edge < c) {
+                low = mid + 1;
+            } else if (edge > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,18 @@
+package com.contactme.contact_me_app.screening;
+
+import com.contactme.contact_me_app.dto.ContactFormRequest;
+
+/**
+ * Content-screening stage run on a validated contact form request before anything is persisted.
+ * Implementations must be cheap and thread-safe: they run on the request thread for every submission.
+ */
+public interface ContentScreener {
+
+    /**
+     * Screens the content of a request.
+     *
+     * @param request The validated ContactFormRequest.
+     * @return The screening result; {@link ScreeningResult#allowed()} if the request may proceed.
+     */
+    ScreeningResult screen(ContactFormRequest request);
+}
@@ -0,0 +1,122 @@
+package com.contactme.contact_me_app.screening;
+
+import com.contactme.contact_me_app.dto.ContactFormRequest;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Default {@link ContentScreener}: matches the subject and message text against a list of blocked
+ * phrases and URL fragments with an {@link AhoCorasickMatcher}, in a single pass per field.
+ * <p>
+ * The patterns are read from {@code screening.patterns-location}, one literal per line
+ * (blank lines and lines starting with '#' are ignored). The location is checked periodically and the
+ * automaton is rebuilt and swapped in when the file changes, so the list can be updated without a restart.
+ * A list that fails to load leaves the previous automaton in place.
+ */
+@Component
+public class PatternContentScreener implements ContentScreener {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(PatternContentScreener.class);
+
+    private final ResourceLoader resourceLoader;
+
+    @Value("${screening.enabled:true}")
+    private boolean enabled;
+
+    @Value("${screening.patterns-location:classpath:screening/blocked-patterns.txt}")
+    private String patternsLocation;
+
+    @Value("${screening.action:QUARANTINE}")
+    private ScreeningAction action;
+
+    private volatile AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of());
+    private volatile long loadedLastModified = -1;
+
+    /**
+     * Constructor for PatternContentScreener.
+     * @param resourceLoader Loader resolving the pattern list location.
+     */
+    public PatternContentScreener(ResourceLoader resourceLoader) {
+        this.resourceLoader = resourceLoader;
+    }
+
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    @Override
+    public ScreeningResult screen(ContactFormRequest request) {
+        if (!enabled) {
+            return ScreeningResult.allowed();
+        }
+        AhoCorasickMatcher current = matcher;
+        String match = current.findFirst(request.getSubject());
+        if (match == null) {
+            match = current.findFirst(request.getMessageText());
+        }
+        return match == null ? ScreeningResult.allowed() : ScreeningResult.blocked(action, match);
+    }
+
+    /**
+     * Reloads the pattern list if it changed since it was last loaded.
+     */
+    @Scheduled(fixedDelayString = "${screening.reload-interval-ms:30000}", initialDelayString = "${screening.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        Resource resource = resourceLoader.getResource(patternsLocation);
+        try {
+            if (resource.lastModified() != loadedLastModified) {
+                reload();
+            }
+        } catch (IOException e) {
+            logger.warn("Cannot check blocked pattern list {}: {}", patternsLocation, e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the pattern list, builds a new automaton and swaps it in.
+     * Requests being screened keep using the automaton they started with.
+     */
+    public synchronized void reload() {
+        Resource resource = resourceLoader.getResource(patternsLocation);
+        if (!resource.exists()) {
+            logger.warn("Blocked pattern list {} not found; keeping {} patterns.", patternsLocation, matcher.getPatternCount());
+            return;
+        }
+        try {
+            long lastModified = resource.lastModified();
+            List<String> patterns = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String pattern = line.strip();
+                    if (!pattern.isEmpty() && !pattern.startsWith("#")) {
+                        patterns.add(pattern);
+                    }
+                }
+            }
+            long start = System.nanoTime();
+            AhoCorasickMatcher compiled = AhoCorasickMatcher.compile(patterns);
+            matcher = compiled;
+            loadedLastModified = lastModified;
+            logger.info("Loaded {} blocked patterns from {} ({} states) in {} ms. Action: {}",
+                    compiled.getPatternCount(), patternsLocation, compiled.getStateCount(), (System.nanoTime() - start) / 1_000_000, action);
+        } catch (IOException e) {
+            logger.error("Failed to load blocked pattern list {}; keeping {} patterns: {}", patternsLocation, matcher.getPatternCount(), e.getMessage());
+        }
+    }
+}
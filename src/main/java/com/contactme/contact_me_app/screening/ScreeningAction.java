@@ -0,0 +1,12 @@
+package com.contactme.contact_me_app.screening;
+
+/**
+ * What happens to a submission that matched a blocked pattern.
+ * In both cases the client gets the regular success response.
+ */
+public enum ScreeningAction {
+    // Discard the submission without any database or broker work
+    DROP,
+    // Store the submission in the quarantine table for review; no rate-limit record, no notification
+    QUARANTINE
+}
@@ -0,0 +1,32 @@
+package com.contactme.contact_me_app.screening;
+
+/**
+ * Outcome of screening one submission.
+ */
+public final class ScreeningResult {
+
+    private static final ScreeningResult ALLOWED = new ScreeningResult(null, null);
+
+    private final ScreeningAction action;
+    private final String matchedPattern;
+
+    private ScreeningResult(ScreeningAction action, String matchedPattern) {
+        this.action = action;
+        this.matchedPattern = matchedPattern;
+    }
+
+    public static ScreeningResult allowed() {
+        return ALLOWED;
+    }
+
+    public static ScreeningResult blocked(ScreeningAction action, String matchedPattern) {
+        return new ScreeningResult(action, matchedPattern);
+    }
+
+    public boolean isBlocked() {
+        return action != null;
+    }
+
+    public ScreeningAction getAction() { return action; }
+    public String getMatchedPattern() { return matchedPattern; }
+}
@@ -0,0 +1,187 @@
+package com.contactme.contact_me_app.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission control for the contact endpoint: an adaptive global concurrency limit
+ * combined with a fixed per-client cap on requests in flight.
+ * <p>
+ * The global limit follows a gradient algorithm. A long-term moving average of the request
+ * latency serves as the "no queueing" baseline. When recent latency rises above it, the
+ * gradient (baseline / recent) drops below 1 and the limit shrinks. When latency is at the
+ * baseline and the limit is actually being used, the limit grows by a small queue allowance
+ * (sqrt of the limit). Excess requests are rejected immediately instead of queueing on the
+ * database pool.
+ */
+@Service
+public class AdaptiveConcurrencyLimiter {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ConcurrentHashMap<String, Integer> inFlightPerClient = new ConcurrentHashMap<>();
+
+    @Value("${admission.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${admission.min-limit:4}")
+    private int minLimit;
+
+    @Value("${admission.max-limit:200}")
+    private int maxLimit;
+
+    // Weight of a new sample in the limit update (0..1]
+    @Value("${admission.smoothing:0.2}")
+    private double smoothing;
+
+    // Number of samples averaged by the long-term (baseline) latency
+    @Value("${admission.long-window-samples:600}")
+    private int longWindowSamples;
+
+    @Value("${admission.per-client-max-in-flight:2}")
+    private int perClientMaxInFlight;
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+    private double shortRttNanos;
+
+    private Counter globalRejections;
+    private Counter clientRejections;
+
+    /**
+     * Constructor for AdaptiveConcurrencyLimiter.
+     * @param meterRegistry Registry used to publish the limit, in-flight count and rejections.
+     */
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+        Gauge.builder("contact.admission.limit", this, AdaptiveConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("contact.admission.in_flight", inFlight, AtomicInteger::get).register(meterRegistry);
+        globalRejections = Counter.builder("contact.admission.rejected").tag("reason", "global_limit").register(meterRegistry);
+        clientRejections = Counter.builder("contact.admission.rejected").tag("reason", "client_limit").register(meterRegistry);
+        logger.info("AdaptiveConcurrencyLimiter initialized. Initial limit: {} (min {}, max {}), per-client in-flight cap: {}",
+                initialLimit, minLimit, maxLimit, perClientMaxInFlight);
+    }
+
+    /**
+     * Tries to admit a request.
+     *
+     * @param clientKey Key identifying the client, typically its IP address.
+     * @return A permit that must be released when the request completes, or null if the request is rejected.
+     */
+    public Permit tryAcquire(String clientKey) {
+        // merge/computeIfPresent are atomic per key, so an entry never outlives its last request
+        if (inFlightPerClient.merge(clientKey, 1, Integer::sum) > perClientMaxInFlight) {
+            releaseClient(clientKey);
+            clientRejections.increment();
+            return null;
+        }
+        int current = inFlight.incrementAndGet();
+        if (current > limit) {
+            inFlight.decrementAndGet();
+            releaseClient(clientKey);
+            globalRejections.increment();
+            return null;
+        }
+        return new Permit(clientKey, System.nanoTime(), current);
+    }
+
+    private void releaseClient(String clientKey) {
+        inFlightPerClient.computeIfPresent(clientKey, (key, count) -> count <= 1 ? null : count - 1);
+    }
+
+    synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+            shortRttNanos = rttNanos;
+        }
+        longRttNanos += (rttNanos - longRttNanos) / longWindowSamples;
+        shortRttNanos += (rttNanos - shortRttNanos) * smoothing;
+
+        // Do not grow the limit while the service is not even using it
+        if (inFlightAtStart < estimatedLimit / 2 && shortRttNanos <= longRttNanos) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, longRttNanos / shortRttNanos));
+        double queueAllowance = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueAllowance;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit * (1 - smoothing) + newLimit * smoothing));
+
+        // Let the baseline drift back down after a sustained slowdown, otherwise it would stay inflated.
+        if (gradient == 0.5) {
+            longRttNanos *= 0.95;
+        }
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Returns the long-term average request latency, in milliseconds.
+     */
+    public synchronized double getAverageLatencyMillis() {
+        return longRttNanos / 1_000_000.0;
+    }
+
+    /**
+     * Returns the recent (short-term smoothed) request latency, in milliseconds.
+     */
+    public synchronized double getRecentLatencyMillis() {
+        return shortRttNanos / 1_000_000.0;
+    }
+
+    /**
+     * A granted admission. Release it exactly once when the request completes.
+     */
+    public final class Permit {
+        private final String clientKey;
+        private final long startNanos;
+        private final int inFlightAtStart;
+
+        private Permit(String clientKey, long startNanos, int inFlightAtStart) {
+            this.clientKey = clientKey;
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * Releases the permit.
+         *
+         * @param recordLatency Whether the request's latency is a valid sample for the limit;
+         *                      pass false for requests rejected early by a later stage (e.g. 429).
+         *                      Slow failures and timeouts are samples: they are what shrinks the limit.
+         */
+        public void release(boolean recordLatency) {
+            inFlight.decrementAndGet();
+            releaseClient(clientKey);
+            if (recordLatency) {
+                onSample(System.nanoTime() - startNanos, inFlightAtStart);
+            }
+        }
+    }
+}
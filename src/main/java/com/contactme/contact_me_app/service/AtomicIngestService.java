@@ -0,0 +1,195 @@
+package com.contactme.contact_me_app.service;
+
+import com.contactme.contact_me_app.deadline.Deadline;
+import com.contactme.contact_me_app.deadline.DeadlineGuard;
+import com.contactme.contact_me_app.dto.ContactFormRequest;
+import com.contactme.contact_me_app.dto.RateLimitResponse;
+import com.contactme.contact_me_app.exception.UnexpectedException;
+import com.contactme.contact_me_app.profiling.PersistenceEvent;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Ingests a contact form submission with a single database round trip (contact.ingest.mode=ATOMIC).
+ * <p>
+ * The contact_ingest function checks the IP and sender email limits, records the submission for
+ * both limits and inserts it, atomically. Advisory locks on the client keys serialize concurrent
+ * submissions of one client, so unlike the check-then-insert of the STANDARD mode the limits hold
+ * exactly under concurrency. The function is (re)installed from db/contact_ingest.sql at startup.
+ */
+@Service
+public class AtomicIngestService {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(AtomicIngestService.class);
+
+    private static final String INGEST_SQL = "select * from contact_ingest(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Serializes the installation across replicas starting at the same time
+    private static final String INSTALL_LOCK_SQL = "select pg_advisory_xact_lock(hashtextextended('contact_ingest:install', 0))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DeadlineGuard deadlineGuard;
+    private final Resource functionScript;
+
+    @Value("${contact.ingest.mode:STANDARD}")
+    private IngestMode mode;
+
+    @Value("${rate-limit.max-overall-requests:3}")
+    private int ipMaxRequests;
+
+    @Value("${rate-limit.overall-window-minutes:1440}")
+    private int ipWindowMinutes;
+
+    @Value("${rate-limit.cooldown-minutes:5}")
+    private int ipCooldownMinutes;
+
+    @Value("${rate-limit.email.enabled:true}")
+    private boolean emailLimitEnabled;
+
+    @Value("${rate-limit.email.max-overall-requests:3}")
+    private int emailMaxRequests;
+
+    @Value("${rate-limit.email.overall-window-minutes:1440}")
+    private int emailWindowMinutes;
+
+    @Value("${rate-limit.email.cooldown-minutes:5}")
+    private int emailCooldownMinutes;
+
+    /**
+     * Constructor for AtomicIngestService.
+     * @param jdbcTemplate JdbcTemplate for the function call and its installation.
+     * @param transactionManager Transaction manager for the installation.
+     * @param deadlineGuard Counts ingests that miss the request deadline.
+     * @param functionScript Script creating the contact_ingest function.
+     */
+    public AtomicIngestService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, DeadlineGuard deadlineGuard,
+                               @Value("classpath:db/contact_ingest.sql") Resource functionScript) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deadlineGuard = deadlineGuard;
+        this.functionScript = functionScript;
+    }
+
+    @PostConstruct
+    void installFunction() throws IOException {
+        if (mode != IngestMode.ATOMIC) {
+            return;
+        }
+        // The function body contains semicolons, so the script is executed as one statement
+        String script = functionScript.getContentAsString(StandardCharsets.UTF_8);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList(INSTALL_LOCK_SQL);
+            jdbcTemplate.execute(script);
+        });
+        logger.info("AtomicIngestService initialized. contact_ingest function installed.");
+    }
+
+    public boolean isEnabled() {
+        return mode == IngestMode.ATOMIC;
+    }
+
+    /**
+     * Checks the limits, records the submission and stores it in one statement.
+     * The statement is bounded by the remaining time of the request deadline.
+     *
+     * @param request The ContactFormRequest DTO containing the submission details.
+     * @param ipAddress The client IP address.
+     * @param emailKey The limiter key of the sender email, see EmailRateLimitService.keyOf.
+     * @return The id of the stored submission, or the rate limit rejection.
+     * @throws UnexpectedException if the database call fails.
+     */
+    public Result ingest(ContactFormRequest request, String ipAddress, long emailKey) {
+        Deadline deadline = Deadline.current();
+        deadlineGuard.check("ingest");
+        PersistenceEvent event = new PersistenceEvent();
+        event.begin();
+        boolean ingested = false;
+        try {
+            List<Result> rows = jdbcTemplate.query(con -> {
+                PreparedStatement statement = con.prepareStatement(INGEST_SQL);
+                if (deadline != null) {
+                    statement.setQueryTimeout(deadline.remainingSeconds());
+                }
+                statement.setString(1, ipAddress);
+                statement.setInt(2, ipMaxRequests);
+                statement.setInt(3, ipWindowMinutes);
+                statement.setInt(4, ipCooldownMinutes);
+                if (emailLimitEnabled) {
+                    statement.setLong(5, emailKey);
+                } else {
+                    statement.setNull(5, Types.BIGINT);
+                }
+                statement.setInt(6, emailMaxRequests);
+                statement.setInt(7, emailWindowMinutes);
+                statement.setInt(8, emailCooldownMinutes);
+                statement.setString(9, request.getFullName());
+                statement.setString(10, request.getEmail());
+                statement.setString(11, request.getSubject());
+                statement.setString(12, request.getMessageText());
+                return statement;
+            }, (rs, rowNum) -> new Result(
+                    rs.getObject("submission_id", Long.class),
+                    rs.getObject("sent_at", OffsetDateTime.class),
+                    rs.getString("limited_by"),
+                    rs.getString("rule"),
+                    rs.getObject("retry_after_seconds", Long.class)));
+            ingested = true;
+            return rows.get(0);
+        } catch (QueryTimeoutException e) {
+            throw deadlineGuard.exceeded("ingest", e);
+        } catch (DataAccessException e) {
+            if (deadline != null && deadline.isExpired()) {
+                throw deadlineGuard.exceeded("ingest", e);
+            }
+            logger.error("Database error encountered while ingesting contact form: {}", e.getMessage(), e);
+            throw new UnexpectedException("A database error occurred: " + e.getMessage(), e);
+        } finally {
+            event.complete("atomicIngest", ingested);
+        }
+    }
+
+    /**
+     * Outcome of an atomic ingest: either the stored submission or the rejection.
+     */
+    public static class Result {
+
+        private final Long submissionId;
+        private final OffsetDateTime sentAt;
+        private final String limitedBy;
+        private final RateLimitResponse rejection;
+
+        Result(Long submissionId, OffsetDateTime sentAt, String limitedBy, String rule, Long retryAfterSeconds) {
+            this.submissionId = submissionId;
+            this.sentAt = sentAt;
+            this.limitedBy = limitedBy;
+            this.rejection = limitedBy == null ? null : new RateLimitResponse(true,
+                    "window".equals(rule) ? RateLimitService.DAILY_LIMIT_MESSAGE : RateLimitService.COOLDOWN_MESSAGE,
+                    retryAfterSeconds);
+        }
+
+        public boolean isRateLimited() { return rejection != null; }
+        public Long getSubmissionId() { return submissionId; }
+        public OffsetDateTime getSentAt() { return sentAt; }
+        // The limiter that rejected the submission: ip or email
+        public String getLimitedBy() { return limitedBy; }
+        public RateLimitResponse getRejection() { return rejection; }
+    }
+}
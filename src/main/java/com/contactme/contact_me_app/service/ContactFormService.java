@@ -1,10 +1,15 @@
 package com.contactme.contact_me_app.service;
 
 
+import com.contactme.contact_me_app.deadline.DeadlineGuard;
 import com.contactme.contact_me_app.dto.ContactFormRequest;
 import com.contactme.contact_me_app.entity.ContactFormSubmission;
+import com.contactme.contact_me_app.entity.QuarantinedSubmission;
+import com.contactme.contact_me_app.exception.DeadlineExceededException;
 import com.contactme.contact_me_app.exception.UnexpectedException;
+import com.contactme.contact_me_app.profiling.PersistenceEvent;
 import com.contactme.contact_me_app.repository.ContactFormRepository;
+import com.contactme.contact_me_app.repository.QuarantinedSubmissionRepository;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,7 +17,7 @@ import org.springframework.dao.DataAccessException;
 
 /**
  * Service class responsible for handling business logic related to contact form submissions.
- * This includes saving submissions to the database.
+ * This includes saving submissions, and quarantining those held back by the content screener, to the database.
  */
 @Service
 public class ContactFormService {
@@ -21,25 +26,31 @@ public class ContactFormService {
     private static final Logger logger = LoggerFactory.getLogger(ContactFormService.class);
 
     private final ContactFormRepository contactFormRepository;
+    private final QuarantinedSubmissionRepository quarantineRepository;
+    private final DeadlineGuard deadlineGuard;
 
     /**
      * Constructor for ContactFormService.
      * @param contactFormRepository The repository for interacting with contact form submission data.
+     * @param quarantineRepository The repository for submissions held back by the content screener.
+     * @param deadlineGuard Bounds the insert by the deadline of the request.
      */
-    public ContactFormService(ContactFormRepository contactFormRepository) {
+    public ContactFormService(ContactFormRepository contactFormRepository, QuarantinedSubmissionRepository quarantineRepository,
+                              DeadlineGuard deadlineGuard) {
         this.contactFormRepository = contactFormRepository;
+        this.quarantineRepository = quarantineRepository;
+        this.deadlineGuard = deadlineGuard;
         logger.info("ContactFormService initialized.");
     }
 
     /**
      * Saves a contact form request to the database.
-     * It maps the DTO to an entity and persists it.
+     * It maps the DTO to an entity and persists it, within the remaining time of the request deadline.
      *
      * @param request The ContactFormRequest DTO containing the submission details.
      * @return The saved ContactFormSubmission entity with generated ID.
      */
     public ContactFormSubmission saveSubmission(ContactFormRequest request) {
-        logger.info("Attempting to save contact form submission for email: {}", request.getEmail());
         logger.debug("Mapping ContactFormRequest to ContactFormSubmission entity.");
 
         try {
@@ -49,23 +60,52 @@ public class ContactFormService {
             newSubmission.setSubject(request.getSubject());
             newSubmission.setMessageText(request.getMessageText());
 
-            logger.debug("Saving new submission to repository: {}", newSubmission.getEmail());
-            ContactFormSubmission savedSubmission = contactFormRepository.save(newSubmission);
-            logger.info("Contact form submission saved successfully with ID: {}", savedSubmission.getId());
+            PersistenceEvent event = new PersistenceEvent();
+            event.begin();
+            ContactFormSubmission savedSubmission = null;
+            try {
+                savedSubmission = deadlineGuard.inTransaction("save", () -> contactFormRepository.save(newSubmission));
+            } finally {
+                event.complete("saveSubmission", savedSubmission != null);
+            }
+            logger.debug("Contact form submission saved successfully with ID: {}", savedSubmission.getId());
             return savedSubmission;
+        } catch (DeadlineExceededException e) {
+            // Already counted by the guard; the controller answers 503
+            throw e;
         } catch (DataAccessException e) {
             // This block will catch exceptions related to database operations,
             // including those that wrap SQLException (e.g., constraint violations, connection issues).
-            logger.error("Database persistence error encountered while saving contact form for email {}: {}",
-                         request.getEmail(), e.getMessage(), e);
+            logger.error("Database persistence error encountered while saving contact form: {}", e.getMessage(), e);
             // Re-throw as your custom UnexpectedException or a more specific service exception
             throw new UnexpectedException("A database error occurred: " + e.getMessage(), e);
         } catch (Exception e) {
             // This block will catch any other runtime exceptions that are not DataAccessExceptions.
-            logger.error("An unexpected error occurred while saving contact form for email {}: {}",
-                         request.getEmail(), e.getMessage(), e);
+            logger.error("An unexpected error occurred while saving contact form: {}", e.getMessage(), e);
             // Re-throw as your generic UnexpectedException
             throw new UnexpectedException("An unexpected error occurred: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Stores a screened-out submission in the quarantine table for review.
+     *
+     * @param request The ContactFormRequest DTO containing the submission details.
+     * @param matchedPattern The blocked pattern the submission matched.
+     * @return The saved QuarantinedSubmission entity with generated ID.
+     */
+    public QuarantinedSubmission quarantineSubmission(ContactFormRequest request, String matchedPattern) {
+        try {
+            QuarantinedSubmission quarantined = new QuarantinedSubmission();
+            quarantined.setFullName(request.getFullName());
+            quarantined.setEmail(request.getEmail());
+            quarantined.setSubject(request.getSubject());
+            quarantined.setMessageText(request.getMessageText());
+            quarantined.setMatchedPattern(matchedPattern);
+            return quarantineRepository.save(quarantined);
+        } catch (DataAccessException e) {
+            logger.error("Database persistence error encountered while quarantining contact form: {}", e.getMessage(), e);
+            throw new UnexpectedException("A database error occurred: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.contactme.contact_me_app.service;
+
+import com.contactme.contact_me_app.deadline.DeadlineGuard;
+import com.contactme.contact_me_app.dto.RateLimitResponse;
+import com.contactme.contact_me_app.entity.ContactFormEmailSubmission;
+import com.contactme.contact_me_app.profiling.RateLimitDecisionEvent;
+import com.contactme.contact_me_app.repository.ContactFormEmailSubmissionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Second rate limit dimension, keyed by the sender email rather than the client IP.
+ * It stops a single sender rotating through proxies. The same rules as the IP limit apply
+ * (see {@link RateLimitService#evaluate}), with separately configured quotas.
+ * <p>
+ * Senders are identified by a 64-bit key: the first 8 bytes of the SHA-256 of the normalized
+ * address. Normalization lower-cases the address, drops a "+tag" suffix from the local part
+ * and, for Gmail, the dots in the local part, since those variants reach the same mailbox.
+ */
+@Service
+public class EmailRateLimitService {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(EmailRateLimitService.class);
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private final ContactFormEmailSubmissionRepository repository;
+    private final DeadlineGuard deadlineGuard;
+
+    @Value("${rate-limit.email.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.email.max-overall-requests:3}")
+    private int maxOverallRequests;
+
+    @Value("${rate-limit.email.overall-window-minutes:1440}")
+    private int overallWindowMinutes;
+
+    @Value("${rate-limit.email.cooldown-minutes:5}")
+    private int cooldownMinutes;
+
+    /**
+     * Constructor for EmailRateLimitService.
+     * @param repository The repository for email submission records.
+     * @param deadlineGuard Bounds the queries by the deadline of the request.
+     */
+    public EmailRateLimitService(ContactFormEmailSubmissionRepository repository, DeadlineGuard deadlineGuard) {
+        this.repository = repository;
+        this.deadlineGuard = deadlineGuard;
+        logger.info("EmailRateLimitService initialized.");
+    }
+
+    /**
+     * Computes the 64-bit limiter key of a sender email.
+     *
+     * @param email The email address as submitted.
+     * @return The key of the normalized address.
+     */
+    public static long keyOf(String email) {
+        byte[] digest = SHA256.get().digest(normalize(email).getBytes(StandardCharsets.UTF_8));
+        return ByteBuffer.wrap(digest, 0, Long.BYTES).getLong();
+    }
+
+    static String normalize(String email) {
+        String address = email.trim().toLowerCase(Locale.ROOT);
+        int at = address.lastIndexOf('@');
+        if (at <= 0) {
+            return address;
+        }
+        String local = address.substring(0, at);
+        String domain = address.substring(at + 1);
+        int plus = local.indexOf('+');
+        if (plus > 0) {
+            local = local.substring(0, plus);
+        }
+        if (domain.equals("gmail.com") || domain.equals("googlemail.com")) {
+            local = local.replace(".", "");
+            domain = "gmail.com";
+        }
+        return local + '@' + domain;
+    }
+
+    /**
+     * Checks whether a sender is currently rate-limited.
+     *
+     * @param emailKey The limiter key of the sender, see {@link #keyOf}.
+     * @return A RateLimitResponse indicating if the sender is limited, with a message and retry time.
+     */
+    public RateLimitResponse checkRateLimit(long emailKey) {
+        if (!enabled) {
+            return new RateLimitResponse(false, "Allowed", null);
+        }
+        RateLimitDecisionEvent event = new RateLimitDecisionEvent();
+        event.begin();
+        OffsetDateTime now = OffsetDateTime.now();
+        long queryStart = System.nanoTime();
+        OffsetDateTime windowStart = now.minus(Duration.ofMinutes(overallWindowMinutes));
+        List<OffsetDateTime> submissionTimes = deadlineGuard.inTransaction("rate_limit_email",
+                () -> repository.findSubmissionTimesAfter(emailKey, windowStart));
+        long queryNanos = System.nanoTime() - queryStart;
+        RateLimitResponse response = RateLimitService.evaluate("email key " + Long.toHexString(emailKey), submissionTimes, now,
+                maxOverallRequests, overallWindowMinutes, cooldownMinutes);
+        event.complete("email", emailKey, response.isRateLimited(), false, queryNanos);
+        return response;
+    }
+
+    /**
+     * Records a new submission for the given sender.
+     *
+     * @param emailKey The limiter key of the sender, see {@link #keyOf}.
+     */
+    public void recordSubmission(long emailKey) {
+        if (enabled) {
+            deadlineGuard.inTransaction("record_email", () -> repository.save(new ContactFormEmailSubmission(emailKey, OffsetDateTime.now())));
+        }
+    }
+}
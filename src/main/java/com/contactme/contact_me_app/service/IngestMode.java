@@ -0,0 +1,11 @@
+package com.contactme.contact_me_app.service;
+
+/**
+ * How a contact form submission is rate-limited and stored.
+ */
+public enum IngestMode {
+    // Limit check in the interceptor and advice, then insert and records in separate transactions
+    STANDARD,
+    // Check, records and insert in one call of the contact_ingest database function, see AtomicIngestService
+    ATOMIC
+}
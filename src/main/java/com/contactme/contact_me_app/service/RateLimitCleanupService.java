@@ -1,16 +1,24 @@
 package com.contactme.contact_me_app.service;
 
+import com.contactme.contact_me_app.repository.ContactFormEmailSubmissionRepository;
 import com.contactme.contact_me_app.repository.ContactFormIpSubmissionRepository;
 import com.contactme.contact_me_app.repository.ContactFormRepository;
+import com.contactme.contact_me_app.repository.QuarantinedSubmissionRepository;
+import com.contactme.contact_me_app.scheduling.JobLease;
+import com.contactme.contact_me_app.scheduling.JobLeaseService;
+import com.contactme.contact_me_app.stats.SubmissionRollupService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.Optional;
 
 /**
  * Service responsible for scheduled cleanup of old rate limit entries
@@ -22,53 +30,126 @@ public class RateLimitCleanupService {
     // Initialize a logger for this class
     private static final Logger logger = LoggerFactory.getLogger(RateLimitCleanupService.class);
 
+    private static final String JOB_NAME = "data-cleanup";
+
     private final ContactFormIpSubmissionRepository ipRepository; // Renamed for clarity
     private final ContactFormRepository contactFormRepository; // New injection
+    private final QuarantinedSubmissionRepository quarantineRepository;
+    private final ContactFormEmailSubmissionRepository emailRepository;
+    private final SubmissionArchiveService archiveService;
+    private final JobLeaseService jobLeaseService;
+    private final SubmissionRollupService rollupService;
+    private final TransactionTemplate transactionTemplate;
 
     // Configure how old entries must be before they are deleted
     @Value("${data-cleanup.days-old:20}") // Renamed property prefix for general data cleanup
     private int daysOldToKeep;
 
+    // DELETE removes read submissions; ARCHIVE moves them into the compressed submission archive first
+    @Value("${data-cleanup.mode:DELETE}")
+    private CleanupMode mode;
+
+    // Same schedule as the trigger below; the job lease is kept until shortly before its next fire time
+    @Value("${data-cleanup.cron:0 0 0 * * *}")
+    private String cron;
+
     /**
      * Constructor for RateLimitCleanupService.
      * @param ipRepository Repository for IP submission records.
      * @param contactFormRepository Repository for actual contact form submissions.
+     * @param quarantineRepository Repository for submissions held back by the content screener.
+     * @param emailRepository Repository for per-sender-email submission records.
+     * @param archiveService Service moving read submissions into the archive (ARCHIVE mode).
+     * @param jobLeaseService Service electing the one replica that runs the cleanup.
+     * @param rollupService Service owning the submission statistics rollups.
+     * @param transactionManager Transaction manager for the delete operations.
      */
     public RateLimitCleanupService(
             ContactFormIpSubmissionRepository ipRepository,
-            ContactFormRepository contactFormRepository // Inject both repositories
+            ContactFormRepository contactFormRepository, // Inject both repositories
+            QuarantinedSubmissionRepository quarantineRepository,
+            ContactFormEmailSubmissionRepository emailRepository,
+            SubmissionArchiveService archiveService,
+            JobLeaseService jobLeaseService,
+            SubmissionRollupService rollupService,
+            PlatformTransactionManager transactionManager
     ) {
         this.ipRepository = ipRepository;
         this.contactFormRepository = contactFormRepository;
+        this.quarantineRepository = quarantineRepository;
+        this.emailRepository = emailRepository;
+        this.archiveService = archiveService;
+        this.jobLeaseService = jobLeaseService;
+        this.rollupService = rollupService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
         logger.info("RateLimitCleanupService initialized. Data older than {} days will be cleaned up.", daysOldToKeep);
     }
 
     /**
      * Scheduled task to clean up old rate limit entries and old contact form submissions.
-     * Runs every 24 hours (at midnight).
-     * This method is transactional to ensure atomicity of delete operations.
+     * Runs every 24 hours (at midnight) by default, see data-cleanup.cron.
+     * The trigger fires on every replica; only the node that acquires the job lease runs the cleanup.
+     * The delete operations run in one transaction to ensure their atomicity.
+     * In ARCHIVE mode, read submissions are first archived and deleted page by page in their own transactions,
+     * so a page is only removed from the database once it is durable in the archive.
      */
-    @Scheduled(cron = "0 0 0 * * *") // This means 00:00:00 (midnight) every day
-    @Transactional // Ensure the delete operations are atomic
+    @Scheduled(cron = "${data-cleanup.cron:0 0 0 * * *}") // Default 00:00:00 (midnight) every day
     public void cleanupOldData() { // Renamed method to be more general
-        logger.info("Starting scheduled data cleanup task.");
-        OffsetDateTime cleanupThreshold = OffsetDateTime.now().minus(Duration.ofDays(daysOldToKeep));
-        logger.debug("Cleanup threshold set to: {}. Deleting entries older than this.", cleanupThreshold);
+        Optional<JobLease> lease = jobLeaseService.tryAcquire(JOB_NAME, CronExpression.parse(cron));
+        if (lease.isEmpty()) {
+            return;
+        }
+        try (JobLease held = lease.get()) {
+            logger.info("Starting scheduled data cleanup task.");
+            OffsetDateTime cleanupThreshold = OffsetDateTime.now().minus(Duration.ofDays(daysOldToKeep));
+            logger.debug("Cleanup threshold set to: {}. Deleting entries older than this.", cleanupThreshold);
+
+            try {
+                if (mode == CleanupMode.ARCHIVE) {
+                    int archivedCount = archiveService.archiveReadSubmissions(held::isHeld);
+                    logger.info("Scheduler: Archived {} read contact form submissions.", archivedCount);
+                }
+                if (!held.isHeld()) {
+                    logger.warn("Scheduled data cleanup stopped: the job lease was lost.");
+                    return;
+                }
+                transactionTemplate.executeWithoutResult(status -> deleteOldData(cleanupThreshold));
+                logger.info("Scheduled data cleanup task completed successfully.");
+            } catch (Exception e) {
+                // Log any exceptions that occur during the cleanup process
+                logger.error("Error during scheduled data cleanup: {}", e.getMessage(), e);
+            }
+        }
+    }
 
-        try {
-            // 1. Clean up old rate limit entries
-            int ipDeletedCount = ipRepository.deleteBySubmissionTimeBefore(cleanupThreshold);
-            logger.info("Scheduler: Cleaned up {} rate limit entries older than {} days.", ipDeletedCount, daysOldToKeep);
+    private void deleteOldData(OffsetDateTime cleanupThreshold) {
+        // 1. Clean up old rate limit entries
+        int ipDeletedCount = ipRepository.deleteBySubmissionTimeBefore(cleanupThreshold);
+        logger.info("Scheduler: Cleaned up {} rate limit entries older than {} days.", ipDeletedCount, daysOldToKeep);
+        int emailDeletedCount = emailRepository.deleteBySubmissionTimeBefore(cleanupThreshold);
+        logger.info("Scheduler: Cleaned up {} sender email rate limit entries older than {} days.", emailDeletedCount, daysOldToKeep);
 
-            // 2. Clean up old actual contact form submissions
+        // 2. Clean up old actual contact form submissions (already moved to the archive in ARCHIVE mode)
+        if (mode == CleanupMode.DELETE) {
             // IMPORTANT: This deletes actual user messages. Be sure this is intended.
             int contactFormDeletedCount = contactFormRepository.deleteByIsReadTrue();
             logger.info("Scheduler: Cleaned up {} contact form submissions older than {} days.", contactFormDeletedCount, daysOldToKeep);
-
-            logger.info("Scheduled data cleanup task completed successfully.");
-        } catch (Exception e) {
-            // Log any exceptions that occur during the cleanup process
-            logger.error("Error during scheduled data cleanup: {}", e.getMessage(), e);
         }
+
+        // 3. Clean up old quarantined submissions
+        int quarantineDeletedCount = quarantineRepository.deleteByQuarantinedAtBefore(cleanupThreshold);
+        logger.info("Scheduler: Cleaned up {} quarantined submissions older than {} days.", quarantineDeletedCount, daysOldToKeep);
+
+        // 4. Clean up old hourly statistics rollups (daily rollups are kept)
+        int rollupDeletedCount = rollupService.deleteHourlyBefore(cleanupThreshold);
+        logger.info("Scheduler: Cleaned up {} hourly statistics rollups older than {} days.", rollupDeletedCount, daysOldToKeep);
+    }
+
+    /**
+     * What the cleanup does with read contact form submissions.
+     */
+    public enum CleanupMode {
+        DELETE,
+        ARCHIVE
     }
-}
\ No newline at end of file
+}
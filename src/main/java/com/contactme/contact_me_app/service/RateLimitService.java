@@ -1,11 +1,16 @@
 package com.contactme.contact_me_app.service;
 
 
+import com.contactme.contact_me_app.deadline.DeadlineGuard;
 import com.contactme.contact_me_app.dto.RateLimitResponse;
 import com.contactme.contact_me_app.entity.ContactFormIpSubmission;
+import com.contactme.contact_me_app.profiling.PersistenceEvent;
+import com.contactme.contact_me_app.profiling.RateLimitDecisionEvent;
 import com.contactme.contact_me_app.repository.ContactFormIpSubmissionRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,7 +29,13 @@ public class RateLimitService {
     // Initialize a logger for this class
     private static final Logger logger = LoggerFactory.getLogger(RateLimitService.class);
 
+    // Client messages of the two rules, shared with the atomic ingest path
+    public static final String DAILY_LIMIT_MESSAGE = "You have exceeded the daily submission limit.";
+    public static final String COOLDOWN_MESSAGE = "Please wait before sending another message.";
+
     private final ContactFormIpSubmissionRepository repository;
+    private final RateLimitStateCache stateCache;
+    private final DeadlineGuard deadlineGuard;
 
     @Value("${rate-limit.max-overall-requests:3}")
     private int maxOverallRequests;
@@ -39,9 +50,13 @@ public class RateLimitService {
     /**
      * Constructor for RateLimitService.
      * @param repository The repository for IP submission records.
+     * @param stateCache In-memory, snapshotted per-IP history answering rejections without a query.
+     * @param deadlineGuard Bounds the queries by the deadline of the request.
      */
-    public RateLimitService(ContactFormIpSubmissionRepository repository) {
+    public RateLimitService(ContactFormIpSubmissionRepository repository, RateLimitStateCache stateCache, DeadlineGuard deadlineGuard) {
         this.repository = repository;
+        this.stateCache = stateCache;
+        this.deadlineGuard = deadlineGuard;
         logger.info("RateLimitService initialized. Max Overall Requests: {}, Overall Window: {} minutes, Cooldown: {} minutes.",
                     maxOverallRequests, overallWindowMinutes, cooldownMinutes);
     }
@@ -50,61 +65,156 @@ public class RateLimitService {
      * Checks if a given IP address is currently rate-limited based on two rules:
      * 1. Maximum overall requests within a defined window.
      * 2. Cooldown period after the latest submission.
+     * A rejection is answered from the {@link RateLimitStateCache} when the known history already limits
+     * the IP; otherwise the history is loaded from the database and refreshes the cache.
      *
      * @param ipAddress The IP address to check.
      * @return A RateLimitResponse indicating if the IP is limited, with a message and retry time.
      */
     public RateLimitResponse checkRateLimit(String ipAddress) {
         logger.debug("Checking rate limit for IP: {}", ipAddress);
+        RateLimitDecisionEvent event = new RateLimitDecisionEvent();
+        event.begin();
         OffsetDateTime now = OffsetDateTime.now();
 
-        // Rule 1: Check against the total maximum requests per day
-        OffsetDateTime overallWindowStart = now.minus(Duration.ofMinutes(overallWindowMinutes));
+        OffsetDateTime overallWindowStart = getOverallWindowStart(now);
         logger.debug("Overall window starts at: {}", overallWindowStart);
-        List<ContactFormIpSubmission> allRecentSubmissions = repository.findByIpAddressAndSubmissionTimeAfter(ipAddress, overallWindowStart);
-        logger.debug("Found {} submissions for IP {} within the overall window.", allRecentSubmissions.size(), ipAddress);
+        RateLimitResponse cached = checkCached(ipAddress, now);
+        if (cached != null) {
+            event.complete("ip", ipAddress, true, true, 0);
+            return cached;
+        }
+        long queryStart = System.nanoTime();
+        List<OffsetDateTime> submissionTimes = deadlineGuard.inTransaction("rate_limit_ip",
+                () -> repository.findByIpAddressAndSubmissionTimeAfter(ipAddress, overallWindowStart))
+                .stream()
+                .map(ContactFormIpSubmission::getSubmissionTime)
+                .toList();
+        long queryNanos = System.nanoTime() - queryStart;
+        cacheSubmissionTimes(ipAddress, submissionTimes);
+        RateLimitResponse response = evaluate(ipAddress, submissionTimes, now);
+        event.complete("ip", ipAddress, response.isRateLimited(), false, queryNanos);
+        return response;
+    }
+
+    /**
+     * Evaluates the rules against the cached history of an IP.
+     *
+     * @param ipAddress The IP address to check.
+     * @param now The current time.
+     * @return The rejection if the cached history already limits the IP, or null if the database must be consulted.
+     */
+    public RateLimitResponse checkCached(String ipAddress, OffsetDateTime now) {
+        List<OffsetDateTime> cachedTimes = stateCache.getSubmissionTimes(ipAddress, getOverallWindowStart(now));
+        if (cachedTimes == null) {
+            return null;
+        }
+        RateLimitResponse response = evaluate(ipAddress, cachedTimes, now);
+        return response.isRateLimited() ? response : null;
+    }
+
+    /**
+     * Replaces the cached history of an IP with the history just loaded from the database.
+     *
+     * @param ipAddress The IP address.
+     * @param submissionTimes Submission times of the IP within the overall window.
+     */
+    public void cacheSubmissionTimes(String ipAddress, List<OffsetDateTime> submissionTimes) {
+        stateCache.putSubmissionTimes(ipAddress, submissionTimes);
+    }
 
-        if (allRecentSubmissions.size() >= maxOverallRequests) {
+    /**
+     * Adds a submission that was just stored for an IP to the cached history.
+     *
+     * @param ipAddress The IP address.
+     * @param time The submission time.
+     */
+    public void onSubmissionRecorded(String ipAddress, OffsetDateTime time) {
+        stateCache.recordSubmission(ipAddress, time);
+    }
+
+    /**
+     * Returns the start of the overall window ending at the given time.
+     * Only submissions after this time count towards the limits.
+     *
+     * @param now The current time.
+     * @return The start of the overall rate limit window.
+     */
+    public OffsetDateTime getOverallWindowStart(OffsetDateTime now) {
+        return now.minus(Duration.ofMinutes(overallWindowMinutes));
+    }
+
+    /**
+     * Applies the rate limit rules to the submission times of an IP address within the overall window.
+     * This holds the rules themselves, independent of how the submission history was loaded,
+     * so that the blocking and the reactive request paths make identical decisions.
+     *
+     * @param ipAddress The IP address being checked (used for logging).
+     * @param submissionTimes Submission times of the IP within the overall window.
+     * @param now The current time.
+     * @return A RateLimitResponse indicating if the IP is limited, with a message and retry time.
+     */
+    public RateLimitResponse evaluate(String ipAddress, List<OffsetDateTime> submissionTimes, OffsetDateTime now) {
+        return evaluate(ipAddress, submissionTimes, now, maxOverallRequests, overallWindowMinutes, cooldownMinutes);
+    }
+
+    /**
+     * Applies the rate limit rules with the given quotas to the submission times of any limiter key
+     * (an IP address, a sender email hash). Shared by all limiter dimensions so they behave identically.
+     *
+     * @param key The key being checked (used for logging only).
+     * @param submissionTimes Submission times of the key within the overall window.
+     * @param now The current time.
+     * @param maxRequests Maximum number of submissions within the overall window.
+     * @param windowMinutes Length of the overall window, in minutes.
+     * @param cooldown Minimum time between two submissions, in minutes.
+     * @return A RateLimitResponse indicating if the key is limited, with a message and retry time.
+     */
+    public static RateLimitResponse evaluate(String key, List<OffsetDateTime> submissionTimes, OffsetDateTime now,
+                                             int maxRequests, int windowMinutes, int cooldown) {
+        logger.debug("Found {} submissions for {} within the overall window.", submissionTimes.size(), key);
+
+        // Rule 1: Check against the total maximum requests per day
+        if (submissionTimes.size() >= maxRequests) {
             // If overall limit hit, calculate when the *earliest* submission in the window will expire
             // This is complex for a "fixed window" as it's the *window itself* that resets.
             // For simplicity, let's say retry after the window ends, or a fixed large amount.
             // A more accurate "next retry" for this rule would be for the *oldest* relevant submission
             // to pass out of the window.
-            OffsetDateTime oldestRelevantSubmissionTime = allRecentSubmissions.stream()
-                    .min((s1, s2) -> s1.getSubmissionTime().compareTo(s2.getSubmissionTime()))
-                    .orElse(null)
-                    .getSubmissionTime(); // Will not be null if size >= maxOverallRequests
+            OffsetDateTime oldestRelevantSubmissionTime = submissionTimes.stream()
+                    .min(OffsetDateTime::compareTo)
+                    .orElseThrow(); // Will not be empty if size >= maxRequests
 
-            OffsetDateTime windowEnds = oldestRelevantSubmissionTime.plus(Duration.ofMinutes(overallWindowMinutes));
+            OffsetDateTime windowEnds = oldestRelevantSubmissionTime.plus(Duration.ofMinutes(windowMinutes));
             Long retryAfterSeconds = Duration.between(now, windowEnds).getSeconds();
             if (retryAfterSeconds < 0) { // Should not be negative, but defensive check
                 retryAfterSeconds = 0L;
-                logger.warn("Calculated retryAfterSeconds was negative for IP {}. Resetting to 0.", ipAddress);
+                logger.warn("Calculated retryAfterSeconds was negative for {}. Resetting to 0.", key);
             }
 
-            logger.warn("Rate Limited (Max Overall Requests per Day) for IP: {}. Count: {}. Retry in: {}s.",
-                    ipAddress, allRecentSubmissions.size(), retryAfterSeconds);
-            return new RateLimitResponse(true, "You have exceeded the daily submission limit.", retryAfterSeconds);
+            logger.debug("Rate Limited (Max Overall Requests per Day) for {}. Count: {}. Retry in: {}s.",
+                    key, submissionTimes.size(), retryAfterSeconds);
+            return new RateLimitResponse(true, DAILY_LIMIT_MESSAGE, retryAfterSeconds);
         }
 
         // Rule 2: Check the cooldown period from the *latest* submission
-        Optional<ContactFormIpSubmission> latestSubmissionOptional = allRecentSubmissions.stream()
-                .max((s1, s2) -> s1.getSubmissionTime().compareTo(s2.getSubmissionTime()));
+        Optional<OffsetDateTime> latestSubmissionOptional = submissionTimes.stream()
+                .max(OffsetDateTime::compareTo);
 
         if (latestSubmissionOptional.isPresent()) {
-            OffsetDateTime lastSubmissionTime = latestSubmissionOptional.get().getSubmissionTime();
-            OffsetDateTime nextAllowedSubmissionTime = lastSubmissionTime.plus(Duration.ofMinutes(cooldownMinutes));
-            logger.debug("Latest submission for IP {}: {}. Next allowed submission: {}", ipAddress, lastSubmissionTime, nextAllowedSubmissionTime);
+            OffsetDateTime lastSubmissionTime = latestSubmissionOptional.get();
+            OffsetDateTime nextAllowedSubmissionTime = lastSubmissionTime.plus(Duration.ofMinutes(cooldown));
+            logger.debug("Latest submission for {}: {}. Next allowed submission: {}", key, lastSubmissionTime, nextAllowedSubmissionTime);
 
             if (now.isBefore(nextAllowedSubmissionTime)) {
                 Long retryAfterSeconds = Duration.between(now, nextAllowedSubmissionTime).getSeconds();
-                logger.warn("Rate Limited (Cooldown) for IP: {}. Last submission: {}. Retry in: {}s.",
-                        ipAddress, lastSubmissionTime, retryAfterSeconds);
-                return new RateLimitResponse(true, "Please wait before sending another message.", retryAfterSeconds);
+                logger.debug("Rate Limited (Cooldown) for {}. Last submission: {}. Retry in: {}s.",
+                        key, lastSubmissionTime, retryAfterSeconds);
+                return new RateLimitResponse(true, COOLDOWN_MESSAGE, retryAfterSeconds);
             }
         }
 
-        logger.debug("IP {} is not rate-limited. Allowing request.", ipAddress);
+        logger.debug("{} is not rate-limited. Allowing request.", key);
         return new RateLimitResponse(false, "Allowed", null);
     }
 
@@ -114,9 +224,28 @@ public class RateLimitService {
      * @param ipAddress The IP address for which to record the submission.
      */
     public void recordSubmission(String ipAddress) {
-        logger.info("Recording submission for IP: {}", ipAddress);
+        logger.debug("Recording submission for IP: {}", ipAddress);
         ContactFormIpSubmission newSubmission = new ContactFormIpSubmission(ipAddress, OffsetDateTime.now());
-        repository.save(newSubmission);
+        PersistenceEvent event = new PersistenceEvent();
+        event.begin();
+        boolean saved = false;
+        try {
+            deadlineGuard.inTransaction("record_ip", () -> repository.save(newSubmission));
+            saved = true;
+        } finally {
+            event.complete("recordIpSubmission", saved);
+        }
+        // Inside a surrounding transaction the record only counts once that transaction commits
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    onSubmissionRecorded(ipAddress, newSubmission.getSubmissionTime());
+                }
+            });
+        } else {
+            onSubmissionRecorded(ipAddress, newSubmission.getSubmissionTime());
+        }
         logger.debug("Successfully recorded submission for IP: {}", ipAddress);
     }
 }
\ No newline at end of file
@@ -0,0 +1,270 @@
+package com.contactme.contact_me_app.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * In-memory per-IP submission history used to answer rate-limit rejections without a database query,
+ * persisted to a local snapshot so that it survives restarts.
+ * <p>
+ * The cache is only trusted for rejections: submissions are never removed before they leave the window,
+ * so if the known history already limits an IP, the full history does too. An IP the cache would allow
+ * is always checked against Postgres (another replica may have recorded a submission), and the result
+ * replaces the cached entry. Entries loaded from a snapshot are therefore reconciled lazily, on the first
+ * request they would allow, and a restart neither floods the database with history queries nor lets
+ * limited clients through.
+ * <p>
+ * Snapshot layout (big-endian): {@code [int magic][int version][long createdAtEpochSecond][int entryCount]},
+ * per entry {@code [short ipLength][ip UTF-8][byte timeCount][long epochSecond...]}, then {@code [int crc32]}
+ * over all preceding bytes. The file is written to a temporary file and atomically moved into place;
+ * a snapshot with a wrong size, magic, version or checksum, or one that does not parse, is ignored as a whole.
+ */
+@Component
+public class RateLimitStateCache {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitStateCache.class);
+
+    private static final int MAGIC = 0x524C5353; // "RLSS"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 20;
+    // Enough history to evaluate any sensible daily quota; older entries beyond this are dropped
+    private static final int MAX_TIMES_PER_IP = 32;
+
+    private final Map<String, long[]> submissionsByIp = new ConcurrentHashMap<>();
+
+    @Value("${rate-limit.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.cache.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${rate-limit.overall-window-minutes:1440}")
+    private int overallWindowMinutes;
+
+    @Value("${rate-limit.snapshot.path:./state/rate-limit.snapshot}")
+    private String snapshotPath;
+
+    /**
+     * Returns the known submission times of an IP after the given time.
+     *
+     * @param ipAddress The IP address.
+     * @param after Start of the window.
+     * @return The known submission times, or null if the IP is not cached.
+     */
+    public List<OffsetDateTime> getSubmissionTimes(String ipAddress, OffsetDateTime after) {
+        if (!enabled) {
+            return null;
+        }
+        long[] times = submissionsByIp.get(ipAddress);
+        if (times == null) {
+            return null;
+        }
+        long afterEpoch = after.toEpochSecond();
+        List<OffsetDateTime> result = new ArrayList<>(times.length);
+        for (long time : times) {
+            if (time > afterEpoch) {
+                result.add(OffsetDateTime.ofInstant(Instant.ofEpochSecond(time), ZoneOffset.UTC));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Replaces the cached history of an IP with the authoritative history loaded from the database.
+     *
+     * @param ipAddress The IP address.
+     * @param submissionTimes The submission times within the overall window.
+     */
+    public void putSubmissionTimes(String ipAddress, List<OffsetDateTime> submissionTimes) {
+        if (!enabled) {
+            return;
+        }
+        if (submissionTimes.isEmpty()) {
+            // Nothing to reject on; do not spend memory on IPs without history
+            submissionsByIp.remove(ipAddress);
+            return;
+        }
+        if (submissionsByIp.size() >= maxEntries && !submissionsByIp.containsKey(ipAddress)) {
+            return;
+        }
+        long[] times = new long[submissionTimes.size()];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = submissionTimes.get(i).toEpochSecond();
+        }
+        submissionsByIp.put(ipAddress, newest(times));
+    }
+
+    /**
+     * Adds a submission that was just recorded for an IP.
+     *
+     * @param ipAddress The IP address.
+     * @param time The submission time.
+     */
+    public void recordSubmission(String ipAddress, OffsetDateTime time) {
+        if (!enabled || (submissionsByIp.size() >= maxEntries && !submissionsByIp.containsKey(ipAddress))) {
+            return;
+        }
+        long epochSecond = time.toEpochSecond();
+        submissionsByIp.merge(ipAddress, new long[]{epochSecond}, (existing, added) -> {
+            long[] merged = Arrays.copyOf(existing, existing.length + 1);
+            merged[existing.length] = epochSecond;
+            return newest(merged);
+        });
+    }
+
+    public int size() {
+        return submissionsByIp.size();
+    }
+
+    /**
+     * Loads the snapshot written by the previous process, if any.
+     */
+    @PostConstruct
+    void loadSnapshot() {
+        if (!enabled) {
+            return;
+        }
+        Path path = Paths.get(snapshotPath);
+        if (!Files.exists(path)) {
+            logger.info("No rate limit snapshot at {}; starting with an empty cache.", path.toAbsolutePath());
+            return;
+        }
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + Integer.BYTES || size > Integer.MAX_VALUE) {
+                logger.warn("Ignoring rate limit snapshot {}: unexpected size {}.", path, size);
+                return;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read fully
+            }
+            buffer.flip();
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), 0, buffer.limit() - Integer.BYTES);
+            if ((int) crc.getValue() != buffer.getInt(buffer.limit() - Integer.BYTES)) {
+                logger.warn("Ignoring rate limit snapshot {}: checksum mismatch.", path);
+                return;
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                logger.warn("Ignoring rate limit snapshot {}: unknown format or version.", path);
+                return;
+            }
+            long createdAt = buffer.getLong();
+            int entryCount = buffer.getInt();
+            long windowStart = Instant.now().minus(Duration.ofMinutes(overallWindowMinutes)).getEpochSecond();
+            // Parse the whole snapshot before publishing any of it, so a malformed one is not half-loaded
+            Map<String, long[]> loaded = new HashMap<>();
+            for (int i = 0; i < entryCount && loaded.size() < maxEntries; i++) {
+                byte[] ip = new byte[buffer.getShort()];
+                buffer.get(ip);
+                long[] times = new long[buffer.get()];
+                int live = 0;
+                for (int t = 0; t < times.length; t++) {
+                    long time = buffer.getLong();
+                    if (time > windowStart) {
+                        times[live++] = time;
+                    }
+                }
+                if (live > 0) {
+                    loaded.put(new String(ip, StandardCharsets.UTF_8), Arrays.copyOf(times, live));
+                }
+            }
+            submissionsByIp.putAll(loaded);
+            logger.info("Loaded rate limit snapshot from {} ({} s old): {} IPs in {} ms.", path,
+                    Instant.now().getEpochSecond() - createdAt, loaded.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable rate limit snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes a snapshot of the current state. Runs at intervals and once more on shutdown.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.snapshot.interval-ms:60000}", initialDelayString = "${rate-limit.snapshot.interval-ms:60000}")
+    @PreDestroy
+    public synchronized void writeSnapshot() {
+        if (!enabled) {
+            return;
+        }
+        long windowStart = Instant.now().minus(Duration.ofMinutes(overallWindowMinutes)).getEpochSecond();
+        // Drop IPs whose whole history has left the window, then size the buffer for what is left
+        submissionsByIp.entrySet().removeIf(entry -> entry.getValue()[entry.getValue().length - 1] <= windowStart);
+        List<Map.Entry<String, long[]>> entries = new ArrayList<>(submissionsByIp.entrySet());
+        List<byte[]> ips = new ArrayList<>(entries.size());
+        int size = HEADER_BYTES + Integer.BYTES;
+        for (Map.Entry<String, long[]> entry : entries) {
+            byte[] ip = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            ips.add(ip);
+            size += Short.BYTES + ip.length + 1 + entry.getValue().length * Long.BYTES;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(Instant.now().getEpochSecond()).putInt(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            long[] times = entries.get(i).getValue();
+            buffer.putShort((short) ips.get(i).length).put(ips.get(i)).put((byte) times.length);
+            for (long time : times) {
+                buffer.putLong(time);
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+
+        Path path = Paths.get(snapshotPath);
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Wrote rate limit snapshot with {} IPs ({} bytes).", entries.size(), size);
+        } catch (IOException e) {
+            logger.warn("Failed to write rate limit snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    // Keeps the newest MAX_TIMES_PER_IP times, sorted ascending
+    private static long[] newest(long[] times) {
+        Arrays.sort(times);
+        return times.length <= MAX_TIMES_PER_IP ? times : Arrays.copyOfRange(times, times.length - MAX_TIMES_PER_IP, times.length);
+    }
+}
@@ -0,0 +1,54 @@
+package com.contactme.contact_me_app.service;
+
+import com.contactme.contact_me_app.dto.ContactFormRequest;
+import com.contactme.contact_me_app.entity.ContactFormSubmission;
+import com.contactme.contact_me_app.exception.UnexpectedException;
+import com.contactme.contact_me_app.repository.ReactiveContactFormRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link ContactFormService} for the reactive profile.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveContactFormService {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveContactFormService.class);
+
+    private final ReactiveContactFormRepository contactFormRepository;
+
+    /**
+     * Constructor for ReactiveContactFormService.
+     * @param contactFormRepository The reactive repository for contact form submissions.
+     */
+    public ReactiveContactFormService(ReactiveContactFormRepository contactFormRepository) {
+        this.contactFormRepository = contactFormRepository;
+        logger.info("ReactiveContactFormService initialized.");
+    }
+
+    /**
+     * Saves a contact form request to the database.
+     *
+     * @param request The ContactFormRequest DTO containing the submission details.
+     * @return A Mono emitting the saved ContactFormSubmission with its generated ID.
+     */
+    public Mono<ContactFormSubmission> saveSubmission(ContactFormRequest request) {
+        ContactFormSubmission newSubmission = new ContactFormSubmission();
+        newSubmission.setFullName(request.getFullName());
+        newSubmission.setEmail(request.getEmail());
+        newSubmission.setSubject(request.getSubject());
+        newSubmission.setMessageText(request.getMessageText());
+
+        return contactFormRepository.save(newSubmission)
+                .onErrorMap(DataAccessException.class, e -> {
+                    logger.error("Database persistence error encountered while saving contact form: {}", e.getMessage(), e);
+                    return new UnexpectedException("A database error occurred: " + e.getMessage(), e);
+                });
+    }
+}
@@ -0,0 +1,73 @@
+package com.contactme.contact_me_app.service;
+
+import com.contactme.contact_me_app.dto.RateLimitResponse;
+import com.contactme.contact_me_app.repository.ReactiveContactFormIpSubmissionRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Non-blocking counterpart of {@link RateLimitService} for the reactive profile.
+ * The submission history is loaded through R2DBC; the rules themselves and the cached
+ * per-IP history are shared with {@link RateLimitService} so both stacks make identical decisions.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveRateLimitService {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveRateLimitService.class);
+
+    private final ReactiveContactFormIpSubmissionRepository repository;
+    private final RateLimitService rateLimitService;
+
+    /**
+     * Constructor for ReactiveRateLimitService.
+     * @param repository The reactive repository for IP submission records.
+     * @param rateLimitService The service holding the rate limit rules and configuration.
+     */
+    public ReactiveRateLimitService(ReactiveContactFormIpSubmissionRepository repository, RateLimitService rateLimitService) {
+        this.repository = repository;
+        this.rateLimitService = rateLimitService;
+        logger.info("ReactiveRateLimitService initialized.");
+    }
+
+    /**
+     * Checks if a given IP address is currently rate-limited.
+     *
+     * @param ipAddress The IP address to check.
+     * @return A Mono emitting the rate limit decision.
+     */
+    public Mono<RateLimitResponse> checkRateLimit(String ipAddress) {
+        OffsetDateTime now = OffsetDateTime.now();
+        RateLimitResponse cached = rateLimitService.checkCached(ipAddress, now);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return repository.findSubmissionTimesAfter(ipAddress, rateLimitService.getOverallWindowStart(now))
+                .collectList()
+                .map(times -> {
+                    rateLimitService.cacheSubmissionTimes(ipAddress, times);
+                    return rateLimitService.evaluate(ipAddress, times, now);
+                });
+    }
+
+    /**
+     * Records a new submission for the given IP address.
+     *
+     * @param ipAddress The IP address for which to record the submission.
+     * @return A Mono completing once the record is stored.
+     */
+    public Mono<Void> recordSubmission(String ipAddress) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return repository.save(ipAddress, now)
+                .doOnSuccess(ignored -> {
+                    rateLimitService.onSubmissionRecorded(ipAddress, now);
+                    logger.debug("Successfully recorded submission for IP: {}", ipAddress);
+                });
+    }
+}
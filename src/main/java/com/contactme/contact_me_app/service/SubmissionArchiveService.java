@@ -0,0 +1,127 @@
+package com.contactme.contact_me_app.service;
+
+import com.contactme.contact_me_app.archive.SubmissionArchive;
+import com.contactme.contact_me_app.dto.ArchivedSubmission;
+import com.contactme.contact_me_app.entity.ContactFormSubmission;
+import com.contactme.contact_me_app.repository.ContactFormRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Moves read contact form submissions from the database into the {@link SubmissionArchive}
+ * and serves archived submissions by date range.
+ * <p>
+ * Submissions are streamed in id order, one page at a time. Each page is appended to the archive
+ * as one compressed block and deleted from the database only after the block is fsynced, in its
+ * own short transaction. A crash between the two steps leaves the page in both places; it is
+ * archived again by the next run and the lookup returns it once.
+ */
+@Service
+public class SubmissionArchiveService {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionArchiveService.class);
+
+    private final ContactFormRepository contactFormRepository;
+    private final SubmissionArchive archive;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archivedRows;
+
+    // Number of submissions per archive block (and per delete statement)
+    @Value("${archive.rows-per-block:500}")
+    private int rowsPerBlock;
+
+    /**
+     * Constructor for SubmissionArchiveService.
+     * @param contactFormRepository The repository for contact form submissions.
+     * @param archive The archive the submissions are moved to.
+     * @param transactionManager Transaction manager; every page is read and deleted in its own transaction,
+     *                           independent of any transaction of the caller.
+     * @param meterRegistry Registry for the archived-row counter.
+     */
+    public SubmissionArchiveService(ContactFormRepository contactFormRepository, SubmissionArchive archive,
+                                    PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.contactFormRepository = contactFormRepository;
+        this.archive = archive;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.archivedRows = Counter.builder("contact.archive.rows").register(meterRegistry);
+        logger.info("SubmissionArchiveService initialized.");
+    }
+
+    /**
+     * Archives all read submissions and removes them from the database.
+     *
+     * @return The number of archived submissions.
+     * @throws UncheckedIOException if the archive could not be written; the current page then stays in the database.
+     */
+    public int archiveReadSubmissions() {
+        return archiveReadSubmissions(() -> true);
+    }
+
+    /**
+     * Archives read submissions and removes them from the database, checking before each page whether to go on.
+     *
+     * @param shouldContinue Checked before each page, e.g. whether the job lease is still held.
+     * @return The number of archived submissions.
+     * @throws UncheckedIOException if the archive could not be written; the current page then stays in the database.
+     */
+    public int archiveReadSubmissions(BooleanSupplier shouldContinue) {
+        int archived = 0;
+        long afterId = 0;
+        while (shouldContinue.getAsBoolean()) {
+            long lastId = afterId;
+            List<ContactFormSubmission> page = transactionTemplate.execute(status ->
+                    contactFormRepository.findByIsReadTrueAndIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, rowsPerBlock)));
+            if (page == null || page.isEmpty()) {
+                return archived;
+            }
+            try {
+                archive.append(page.stream().map(SubmissionArchiveService::toArchived).toList());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to archive submissions after id " + lastId, e);
+            }
+            List<Long> ids = page.stream().map(ContactFormSubmission::getId).toList();
+            transactionTemplate.executeWithoutResult(status -> contactFormRepository.deleteAllByIdInBatch(ids));
+            archived += ids.size();
+            archivedRows.increment(ids.size());
+            afterId = ids.get(ids.size() - 1);
+        }
+        return archived;
+    }
+
+    /**
+     * Returns the archived submissions sent within the inclusive time range, ordered by sent time.
+     *
+     * @param from Start of the range (inclusive).
+     * @param to End of the range (inclusive).
+     * @param limit Maximum number of submissions to return.
+     * @return The matching submissions.
+     */
+    public List<ArchivedSubmission> findArchived(OffsetDateTime from, OffsetDateTime to, int limit) {
+        try {
+            return archive.find(from, to, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the submission archive", e);
+        }
+    }
+
+    private static ArchivedSubmission toArchived(ContactFormSubmission submission) {
+        return new ArchivedSubmission(submission.getId(), submission.getFullName(), submission.getEmail(),
+                submission.getSubject(), submission.getMessageText(), submission.getSentAt());
+    }
+}
@@ -0,0 +1,154 @@
+package com.contactme.contact_me_app.service;
+
+import com.contactme.contact_me_app.dto.MarkReadResponse;
+import com.contactme.contact_me_app.repository.ContactFormRepository;
+import com.contactme.contact_me_app.stats.SubmissionRollupService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Marks contact form submissions as read in bulk, which makes them eligible for the
+ * retention cleanup in {@link RateLimitCleanupService}.
+ * <p>
+ * Every selection is applied with set-based UPDATE statements, never by loading entities.
+ * Large selections are split into chunks (a bounded number of ids per statement, or a bounded
+ * id window for ranges), each committed in its own short transaction, so row locks and WAL
+ * volume per transaction stay small. A failure leaves the chunks committed before it in place;
+ * since the operation is idempotent, the request can simply be repeated.
+ */
+@Service
+public class SubmissionReadService {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionReadService.class);
+
+    private final ContactFormRepository contactFormRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final SubmissionRollupService rollupService;
+    private final Counter updatedRows;
+
+    // Maximum number of ids bound into one UPDATE ... WHERE id IN (...)
+    @Value("${submissions.mark-read.ids-per-statement:1000}")
+    private int idsPerStatement;
+
+    // Width of the id window updated by one statement for range selections
+    @Value("${submissions.mark-read.id-window:5000}")
+    private long idWindow;
+
+    /**
+     * Constructor for SubmissionReadService.
+     * @param contactFormRepository The repository for contact form submissions.
+     * @param transactionManager Transaction manager; each chunk runs in its own transaction.
+     * @param meterRegistry Registry for the latency timer and updated-row counter.
+     * @param rollupService Service counting the reads in the statistics rollups.
+     */
+    public SubmissionReadService(ContactFormRepository contactFormRepository, PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry, SubmissionRollupService rollupService) {
+        this.contactFormRepository = contactFormRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.rollupService = rollupService;
+        this.updatedRows = Counter.builder("contact.mark_read.rows").register(meterRegistry);
+        logger.info("SubmissionReadService initialized.");
+    }
+
+    /**
+     * Marks the submissions with the given ids as read.
+     *
+     * @param ids The submission ids.
+     * @return The number of updated submissions and statements.
+     */
+    public MarkReadResponse markReadByIds(List<Long> ids) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int updated = 0;
+        int statements = 0;
+        List<Long> distinct = ids.stream().distinct().toList();
+        for (int start = 0; start < distinct.size(); start += idsPerStatement) {
+            List<Long> chunk = distinct.subList(start, Math.min(start + idsPerStatement, distinct.size()));
+            updated += inTransaction(() -> contactFormRepository.markReadByIds(chunk));
+            statements++;
+        }
+        return finish("ids", sample, updated, statements);
+    }
+
+    /**
+     * Marks the submissions with an id in the inclusive range as read.
+     * The range is first clamped to the ids that exist, so a wide range does not turn into empty windows.
+     *
+     * @param fromId The lowest id.
+     * @param toId The highest id.
+     * @return The number of updated submissions and statements.
+     */
+    public MarkReadResponse markReadByIdRange(long fromId, long toId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ContactFormRepository.IdBounds bounds = contactFormRepository.findIdBounds();
+        int[] result = {0, 0};
+        if (bounds != null && bounds.getMinId() != null) {
+            long lo = Math.max(fromId, bounds.getMinId());
+            long hi = Math.min(toId, bounds.getMaxId());
+            result = updateInWindows(lo, hi, (windowLo, windowHi) -> contactFormRepository.markReadByIdRange(windowLo, windowHi));
+        }
+        return finish("id_range", sample, result[0], result[1]);
+    }
+
+    /**
+     * Marks the submissions sent within the inclusive time range as read.
+     * The id bounds of the range are looked up first, so the range can be updated in id windows.
+     *
+     * @param sentFrom Start of the range.
+     * @param sentTo End of the range.
+     * @return The number of updated submissions and statements.
+     */
+    public MarkReadResponse markReadBySentAt(OffsetDateTime sentFrom, OffsetDateTime sentTo) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ContactFormRepository.IdBounds bounds = contactFormRepository.findIdBoundsBySentAt(sentFrom, sentTo);
+        int[] result = {0, 0};
+        if (bounds != null && bounds.getMinId() != null) {
+            result = updateInWindows(bounds.getMinId(), bounds.getMaxId(),
+                    (lo, hi) -> contactFormRepository.markReadByIdRangeAndSentAt(lo, hi, sentFrom, sentTo));
+        }
+        return finish("sent_range", sample, result[0], result[1]);
+    }
+
+    // Returns {updated, statements}
+    private int[] updateInWindows(long fromId, long toId, LongBinaryOperator update) {
+        int updated = 0;
+        int statements = 0;
+        for (long lo = fromId; lo <= toId; lo += idWindow) {
+            long hi = Math.min(toId, lo + idWindow - 1);
+            long windowStart = lo;
+            updated += inTransaction(() -> (int) update.applyAsLong(windowStart, hi));
+            statements++;
+            if (hi == Long.MAX_VALUE) {
+                break;
+            }
+        }
+        return new int[]{updated, statements};
+    }
+
+    private int inTransaction(IntSupplier statement) {
+        Integer count = transactionTemplate.execute(status -> statement.getAsInt());
+        return count != null ? count : 0;
+    }
+
+    private MarkReadResponse finish(String selector, Timer.Sample sample, int updated, int statements) {
+        long elapsedNanos = sample.stop(Timer.builder("contact.mark_read").tag("selector", selector).register(meterRegistry));
+        updatedRows.increment(updated);
+        rollupService.recordMarkedRead(updated);
+        logger.info("Marked {} submissions as read by {} in {} statements.", updated, selector, statements);
+        return new MarkReadResponse(selector, updated, statements, elapsedNanos / 1_000_000);
+    }
+}
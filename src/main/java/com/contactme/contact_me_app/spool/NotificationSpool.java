@@ -0,0 +1,277 @@
+package com.contactme.contact_me_app.spool;
+
+import com.contactme.contact_me_app.dto.NotificationMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.stream.Stream;
+
+/**
+ * Durable, append-only local spool for notifications that could not be published.
+ * <p>
+ * Messages are written as JSON records into fixed-size memory-mapped segment files
+ * (see {@link SpoolSegment}). The total disk use is bounded by the segment size times
+ * the maximum number of segments. The read cursor is checkpointed to a small offset file,
+ * so both unread messages and the replay position survive a process restart.
+ * <p>
+ * The cursor is written every notification-spool.cursor-checkpoint-every commits, at the end of
+ * each drain batch and when a segment is dropped, rather than after every message. After a crash
+ * the messages committed since the last checkpoint are replayed again, which at-least-once
+ * delivery allows. Messages the spool cannot take are counted in contact.notification.spool.dropped.
+ */
+@Component
+public class NotificationSpool {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(NotificationSpool.class);
+
+    private static final String CURSOR_FILE = "spool.cursor";
+
+    private final ObjectMapper objectMapper;
+    private final Deque<SpoolSegment> segments = new ArrayDeque<>();
+    private final Counter droppedFull;
+    private final Counter droppedTooLarge;
+    private final Counter droppedError;
+
+    @Value("${notification-spool.directory:./spool}")
+    private String directory;
+
+    @Value("${notification-spool.segment-size-bytes:4194304}")
+    private int segmentSizeBytes;
+
+    @Value("${notification-spool.max-segments:16}")
+    private int maxSegments;
+
+    @Value("${notification-spool.fsync-each-append:true}")
+    private boolean fsyncEachAppend;
+
+    @Value("${notification-spool.cursor-checkpoint-every:50}")
+    private int checkpointEvery;
+
+    private Path spoolDirectory;
+    private long readSegmentId;
+    private int readPosition;
+    private int uncheckpointedCommits;
+
+    /**
+     * Constructor for NotificationSpool.
+     * @param objectMapper ObjectMapper used to serialize spooled messages.
+     * @param meterRegistry Registry for the dropped message counters.
+     */
+    public NotificationSpool(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.droppedFull = dropped(meterRegistry, "full");
+        this.droppedTooLarge = dropped(meterRegistry, "too_large");
+        this.droppedError = dropped(meterRegistry, "error");
+    }
+
+    private static Counter dropped(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("contact.notification.spool.dropped").tag("reason", reason).register(meterRegistry);
+    }
+
+    /**
+     * Opens the existing segments and restores the read cursor.
+     */
+    @PostConstruct
+    synchronized void open() throws IOException {
+        spoolDirectory = Paths.get(directory).toAbsolutePath();
+        Files.createDirectories(spoolDirectory);
+        try (Stream<Path> files = Files.list(spoolDirectory)) {
+            long[] ids = files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.endsWith(".seg"))
+                    .mapToLong(name -> Long.parseLong(name.substring(0, name.length() - 4)))
+                    .sorted()
+                    .toArray();
+            for (long id : ids) {
+                segments.addLast(SpoolSegment.open(spoolDirectory, id, segmentSizeBytes));
+            }
+        }
+        readCursor();
+        // Drop segments that were fully drained before the last shutdown.
+        while (!segments.isEmpty() && segments.peekFirst().getId() < readSegmentId) {
+            segments.pollFirst().closeAndDelete();
+        }
+        if (segments.isEmpty()) {
+            segments.addLast(SpoolSegment.create(spoolDirectory, readSegmentId, segmentSizeBytes));
+            readPosition = 0;
+        } else if (segments.peekFirst().getId() > readSegmentId) {
+            readSegmentId = segments.peekFirst().getId();
+            readPosition = 0;
+        }
+        logger.info("NotificationSpool opened at {}. Segments: {}, Max disk use: {} bytes, Pending: {}",
+                spoolDirectory, segments.size(), (long) segmentSizeBytes * maxSegments, !isEmpty());
+    }
+
+    /**
+     * Appends a message to the spool. A message that is not stored is counted and logged here.
+     *
+     * @param message The NotificationMessage that could not be published.
+     * @return true if the message was stored, false if the spool is full or the write failed.
+     */
+    public synchronized boolean append(NotificationMessage message) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(message);
+        } catch (IOException e) {
+            logger.error("Failed to serialize message for spooling: {}", e.getMessage(), e);
+            droppedError.increment();
+            return false;
+        }
+        if (payload.length + SpoolSegment.HEADER_BYTES > segmentSizeBytes) {
+            logger.error("Message of {} bytes is larger than a spool segment and cannot be spooled.", payload.length);
+            droppedTooLarge.increment();
+            return false;
+        }
+        try {
+            if (segments.peekLast().append(payload, fsyncEachAppend)) {
+                return true;
+            }
+            if (segments.size() >= maxSegments) {
+                logger.error("Notification spool is full ({} segments). Message dropped.", segments.size());
+                droppedFull.increment();
+                return false;
+            }
+            SpoolSegment next = SpoolSegment.create(spoolDirectory, segments.peekLast().getId() + 1, segmentSizeBytes);
+            segments.addLast(next);
+            return next.append(payload, fsyncEachAppend);
+        } catch (IOException | UncheckedIOException e) {
+            logger.error("Failed to append message to spool: {}", e.getMessage(), e);
+            droppedError.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Returns the oldest unread message without removing it.
+     *
+     * @return The next message, or null if the spool is empty.
+     */
+    public synchronized NotificationMessage peek() {
+        while (true) {
+            SpoolSegment head = segments.peekFirst();
+            byte[] payload = head.readAt(readPosition);
+            if (payload != null) {
+                try {
+                    return objectMapper.readValue(payload, NotificationMessage.class);
+                } catch (IOException e) {
+                    logger.error("Skipping unreadable spool record in segment {} at {}: {}", head.getId(), readPosition, e.getMessage());
+                    advance(payload.length);
+                    continue;
+                }
+            }
+            if (segments.size() == 1) {
+                return null;
+            }
+            if (readPosition < head.getWritePosition()) {
+                logger.error("Corrupt spool record in segment {} at {}. Skipping the rest of the segment.", head.getId(), readPosition);
+            }
+            // The head segment is exhausted and a newer one exists: move on and reclaim the disk space.
+            dropHeadSegment();
+        }
+    }
+
+    /**
+     * Removes the message last returned by {@link #peek()}. The read cursor is checkpointed every
+     * notification-spool.cursor-checkpoint-every commits; call {@link #checkpoint()} at the end of a batch.
+     */
+    public synchronized void commit() {
+        byte[] payload = segments.peekFirst().readAt(readPosition);
+        if (payload != null) {
+            advance(payload.length);
+        }
+    }
+
+    /**
+     * Writes the read cursor to disk if messages were committed since the last checkpoint.
+     */
+    public synchronized void checkpoint() {
+        if (uncheckpointedCommits > 0) {
+            writeCursorQuietly();
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return segments.size() == 1 && segments.peekFirst().readAt(readPosition) == null;
+    }
+
+    /**
+     * Flushes the segments and the read cursor to disk.
+     */
+    @PreDestroy
+    synchronized void close() {
+        try {
+            writeCursor();
+            for (SpoolSegment segment : segments) {
+                segment.close();
+            }
+            logger.info("NotificationSpool closed.");
+        } catch (IOException e) {
+            logger.error("Error while closing notification spool: {}", e.getMessage(), e);
+        }
+    }
+
+    private void advance(int payloadLength) {
+        readPosition += SpoolSegment.HEADER_BYTES + payloadLength;
+        if (++uncheckpointedCommits >= checkpointEvery) {
+            writeCursorQuietly();
+        }
+    }
+
+    private void dropHeadSegment() {
+        try {
+            segments.pollFirst().closeAndDelete();
+        } catch (IOException e) {
+            logger.warn("Failed to delete drained spool segment: {}", e.getMessage());
+        }
+        readSegmentId = segments.peekFirst().getId();
+        readPosition = 0;
+        writeCursorQuietly();
+    }
+
+    private void readCursor() throws IOException {
+        Path cursorFile = spoolDirectory.resolve(CURSOR_FILE);
+        readSegmentId = segments.isEmpty() ? 0 : segments.peekFirst().getId();
+        readPosition = 0;
+        if (Files.exists(cursorFile)) {
+            ByteBuffer cursor = ByteBuffer.wrap(Files.readAllBytes(cursorFile));
+            if (cursor.remaining() == 12) {
+                readSegmentId = cursor.getLong();
+                readPosition = cursor.getInt();
+            } else {
+                logger.warn("Ignoring malformed spool cursor file {}.", cursorFile);
+            }
+        }
+    }
+
+    private void writeCursor() throws IOException {
+        ByteBuffer cursor = ByteBuffer.allocate(12).putLong(readSegmentId).putInt(readPosition);
+        Path tmp = spoolDirectory.resolve(CURSOR_FILE + ".tmp");
+        Files.write(tmp, cursor.array());
+        Files.move(tmp, spoolDirectory.resolve(CURSOR_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        uncheckpointedCommits = 0;
+    }
+
+    private void writeCursorQuietly() {
+        try {
+            writeCursor();
+        } catch (IOException e) {
+            logger.warn("Failed to checkpoint spool cursor: {}", e.getMessage());
+        }
+    }
+}
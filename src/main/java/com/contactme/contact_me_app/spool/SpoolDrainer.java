@@ -0,0 +1,77 @@
+package com.contactme.contact_me_app.spool;
+
+import com.contactme.contact_me_app.dto.NotificationMessage;
+import com.contactme.contact_me_app.publisher.CompositePublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background task that replays spooled notifications, in order, once a broker is reachable again.
+ * Replay is paced to a configured rate so that a recovering broker is not flooded,
+ * and it stops at the first failure so that message order is preserved.
+ * The read cursor is checkpointed once per batch.
+ */
+@Service
+public class SpoolDrainer {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(SpoolDrainer.class);
+
+    private final NotificationSpool spool;
+    private final CompositePublisher publisher;
+
+    @Value("${notification-spool.drain.max-per-second:20}")
+    private int maxPerSecond;
+
+    @Value("${notification-spool.drain.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * Constructor for SpoolDrainer.
+     * @param spool The local notification spool.
+     * @param publisher The composite publisher used to replay messages.
+     */
+    public SpoolDrainer(NotificationSpool spool, CompositePublisher publisher) {
+        this.spool = spool;
+        this.publisher = publisher;
+        logger.info("SpoolDrainer initialized.");
+    }
+
+    /**
+     * Scheduled task that replays up to one batch of spooled messages.
+     */
+    @Scheduled(fixedDelayString = "${notification-spool.drain.interval-ms:5000}")
+    public void drain() {
+        if (spool.isEmpty()) {
+            return;
+        }
+        long pauseNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, maxPerSecond);
+        int replayed = 0;
+        try {
+            while (replayed < batchSize) {
+                NotificationMessage message = spool.peek();
+                if (message == null) {
+                    break;
+                }
+                try {
+                    publisher.dispatch(message);
+                } catch (RuntimeException e) {
+                    logger.warn("Spool replay paused after {} messages; brokers still unavailable: {}", replayed, e.getMessage());
+                    return;
+                }
+                spool.commit();
+                replayed++;
+                LockSupport.parkNanos(pauseNanos);
+            }
+            logger.info("Replayed {} spooled notifications.", replayed);
+        } finally {
+            spool.checkpoint();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.contactme.contact_me_app.spool;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * A single fixed-size, memory-mapped spool segment file.
+ * <p>
+ * Records are laid out back to back as {@code [int length][int crc32][payload]}.
+ * The length is written last, so a zero length marks the end of the written data,
+ * and a record whose checksum does not match is treated as a torn write.
+ */
+class SpoolSegment {
+
+    static final int HEADER_BYTES = 8;
+
+    private final long id;
+    private final Path path;
+    private final int size;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+
+    private SpoolSegment(long id, Path path, int size) throws IOException {
+        this.id = id;
+        this.path = path;
+        this.size = size;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    /**
+     * Creates a new, empty segment file.
+     */
+    static SpoolSegment create(Path directory, long id, int size) throws IOException {
+        Path path = directory.resolve(fileName(id));
+        Files.deleteIfExists(path);
+        return new SpoolSegment(id, path, size);
+    }
+
+    /**
+     * Opens an existing segment file and recovers its write position by scanning for the last valid record.
+     */
+    static SpoolSegment open(Path directory, long id, int size) throws IOException {
+        SpoolSegment segment = new SpoolSegment(id, directory.resolve(fileName(id)), size);
+        int position = 0;
+        while (segment.readAt(position) != null) {
+            position += HEADER_BYTES + segment.buffer.getInt(position);
+        }
+        segment.writePosition = position;
+        return segment;
+    }
+
+    static String fileName(long id) {
+        return String.format("%020d.seg", id);
+    }
+
+    /**
+     * Appends a record if it fits in the remaining space.
+     *
+     * @param payload The record payload.
+     * @param force Whether to flush the mapped pages to disk before returning.
+     * @return true if the record was written, false if the segment is full.
+     */
+    boolean append(byte[] payload, boolean force) {
+        int required = HEADER_BYTES + payload.length;
+        if (writePosition + required > size) {
+            return false;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        buffer.put(writePosition + HEADER_BYTES, payload);
+        buffer.putInt(writePosition + 4, (int) crc.getValue());
+        // Publishing the length last makes the record visible only once it is complete.
+        buffer.putInt(writePosition, payload.length);
+        writePosition += required;
+        if (force) {
+            buffer.force();
+        }
+        return true;
+    }
+
+    /**
+     * Reads the record starting at the given position.
+     *
+     * @return The payload, or null if there is no complete, valid record at that position.
+     */
+    byte[] readAt(int position) {
+        if (position + HEADER_BYTES > size) {
+            return null;
+        }
+        int length = buffer.getInt(position);
+        if (length <= 0 || position + HEADER_BYTES + length > size) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        buffer.get(position + HEADER_BYTES, payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+            return null;
+        }
+        return payload;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void closeAndDelete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(path);
+    }
+
+    void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    long getId() { return id; }
+    int getWritePosition() { return writePosition; }
+}
@@ -0,0 +1,118 @@
+package com.contactme.contact_me_app.stats;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HyperLogLog distinct-count estimator with 2^{@value #PRECISION} one-byte registers
+ * (standard error about 1.6%, {@value #SIZE_BYTES} bytes regardless of the number of values).
+ * <p>
+ * Two sketches are merged by taking the register-wise maximum, so the registers of hourly
+ * rollups can be combined into days or arbitrary ranges. Not thread-safe.
+ */
+public final class HyperLogLog {
+
+    static final int PRECISION = 12;
+    public static final int SIZE_BYTES = 1 << PRECISION;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / SIZE_BYTES);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[SIZE_BYTES];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    /**
+     * Restores a sketch from its registers, as returned by {@link #toBytes()}.
+     *
+     * @param registers The registers, or null for an empty sketch.
+     * @return The sketch.
+     */
+    public static HyperLogLog fromBytes(byte[] registers) {
+        if (registers == null) {
+            return new HyperLogLog();
+        }
+        if (registers.length != SIZE_BYTES) {
+            throw new IllegalArgumentException("Expected " + SIZE_BYTES + " registers but got " + registers.length);
+        }
+        return new HyperLogLog(registers.clone());
+    }
+
+    public void add(long value) {
+        long hash = mix(value);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // Rank of the first set bit in the remaining bits; the sentinel bounds it at 64 - PRECISION + 1
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        if (registers[index] < rank) {
+            registers[index] = rank;
+        }
+    }
+
+    public void add(String value) {
+        add(fnv1a(value));
+    }
+
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < SIZE_BYTES; i++) {
+            if (registers[i] < other.registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        for (byte register : registers) {
+            if (register != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The estimated number of distinct values added.
+     */
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * SIZE_BYTES * SIZE_BYTES / sum;
+        if (estimate <= 2.5 * SIZE_BYTES && zeros > 0) {
+            // Small range correction: linear counting over the empty registers
+            estimate = SIZE_BYTES * Math.log((double) SIZE_BYTES / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        return registers.clone();
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // Finalizer of MurmurHash3, spreads every input bit over the whole hash
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,30 @@
+package com.contactme.contact_me_app.stats;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Bucket sizes of the submission rollups. Buckets are aligned to UTC.
+ */
+public enum RollupGranularity {
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public Instant bucketOf(Instant instant) {
+        return instant.truncatedTo(unit);
+    }
+
+    /**
+     * @return The number of buckets from the bucket of {@code from} to the bucket of {@code to}, both included.
+     */
+    public long bucketsBetween(Instant from, Instant to) {
+        return Duration.between(bucketOf(from), bucketOf(to)).dividedBy(unit.getDuration()) + 1;
+    }
+}
@@ -0,0 +1,315 @@
+package com.contactme.contact_me_app.stats;
+
+import com.contactme.contact_me_app.dto.SubmissionStats;
+import com.contactme.contact_me_app.dto.SubmissionStatsBucket;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maintains hourly and daily submission statistics incrementally, so that dashboard questions
+ * are answered from the submission_rollup table instead of scanning contact_form_submissions.
+ * <p>
+ * The submit path only updates an in-memory accumulator of the current hour: two counters and
+ * two HyperLogLog sketches (distinct senders and IPs). Every stats.rollup.flush-interval-ms the
+ * pending hours are folded into their days and merged into the table in one transaction: counters
+ * with additive upserts, sketches by register-wise maximum of the stored rows. A failed flush puts
+ * the accumulators back and is retried with the next one. A TOTAL row holds the all-time counters,
+ * from which the unread count follows; it is seeded once from the submissions table.
+ * <p>
+ * The seed already counts every committed submission, including those other replicas have not flushed
+ * yet. So a replica adds only the submissions it recorded after it saw the TOTAL row to that row. It
+ * checks for the row (seeding it if missing) at startup, before it takes traffic, and otherwise with
+ * every flush until it succeeds.
+ */
+@Service
+public class SubmissionRollupService {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionRollupService.class);
+
+    private static final String TOTAL = "TOTAL";
+    private static final OffsetDateTime TOTAL_BUCKET = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private static final String UPSERT_COUNTERS_SQL = """
+            insert into submission_rollup (granularity, bucket_start, submissions, marked_read)
+            values (?, ?, ?, ?)
+            on conflict (granularity, bucket_start) do update
+                set submissions = submission_rollup.submissions + excluded.submissions,
+                    marked_read = submission_rollup.marked_read + excluded.marked_read
+            """;
+
+    private static final String SELECT_SKETCHES_SQL =
+            "select sender_hll, ip_hll from submission_rollup where granularity = ? and bucket_start = ? for update";
+
+    private static final String UPDATE_SKETCHES_SQL =
+            "update submission_rollup set sender_hll = ?, ip_hll = ? where granularity = ? and bucket_start = ?";
+
+    private static final String SEED_TOTAL_SQL = """
+            insert into submission_rollup (granularity, bucket_start, submissions, marked_read)
+            select ?, ?, count(*), count(*) filter (where is_read) from contact_form_submissions
+            on conflict (granularity, bucket_start) do nothing
+            """;
+
+    private static final String SELECT_RANGE_SQL = """
+            select bucket_start, submissions, marked_read, sender_hll, ip_hll from submission_rollup
+            where granularity = ? and bucket_start between ? and ? order by bucket_start
+            """;
+
+    private static final String SELECT_TOTAL_SQL =
+            "select submissions, marked_read from submission_rollup where granularity = ? and bucket_start = ?";
+
+    private static final String DELETE_HOURLY_SQL =
+            "delete from submission_rollup where granularity = ? and bucket_start < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<Instant, Accumulator> pending = new ConcurrentHashMap<>();
+    private volatile boolean totalSeeded;
+
+    @Value("${stats.rollup.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Constructor for SubmissionRollupService.
+     * @param jdbcTemplate JdbcTemplate for the rollup statements.
+     * @param transactionManager Transaction manager; each flush commits all of its buckets at once.
+     */
+    public SubmissionRollupService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        logger.info("SubmissionRollupService initialized.");
+    }
+
+    /**
+     * Counts an accepted submission in the current hour. Only touches memory.
+     *
+     * @param emailKey The limiter key of the sender email, see EmailRateLimitService.keyOf.
+     * @param ipAddress The client IP address.
+     */
+    public void recordSubmission(long emailKey, String ipAddress) {
+        recordSubmission(emailKey, ipAddress, Instant.now());
+    }
+
+    void recordSubmission(long emailKey, String ipAddress, Instant at) {
+        if (!enabled) {
+            return;
+        }
+        // Submissions committed before the TOTAL row was seen may already be part of its seed
+        boolean inTotal = totalSeeded;
+        pending.compute(RollupGranularity.HOUR.bucketOf(at), (hour, accumulator) -> {
+            Accumulator target = accumulator != null ? accumulator : new Accumulator();
+            target.submissions++;
+            if (inTotal) {
+                target.totalSubmissions++;
+            }
+            target.senders.add(emailKey);
+            target.ips.add(ipAddress);
+            return target;
+        });
+    }
+
+    /**
+     * Counts submissions that were changed from unread to read in the current hour. Only touches memory.
+     *
+     * @param count The number of submissions marked as read.
+     */
+    public void recordMarkedRead(int count) {
+        recordMarkedRead(count, Instant.now());
+    }
+
+    void recordMarkedRead(int count, Instant at) {
+        if (!enabled || count <= 0) {
+            return;
+        }
+        boolean inTotal = totalSeeded;
+        pending.compute(RollupGranularity.HOUR.bucketOf(at), (hour, accumulator) -> {
+            Accumulator target = accumulator != null ? accumulator : new Accumulator();
+            target.markedRead += count;
+            if (inTotal) {
+                target.totalMarkedRead += count;
+            }
+            return target;
+        });
+    }
+
+    /**
+     * Seeds the TOTAL row if it does not exist yet. Runs before the replica takes traffic, so that
+     * everything it records afterwards can be added to the row without being counted twice.
+     */
+    @PostConstruct
+    void seedTotal() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(SEED_TOTAL_SQL, TOTAL, TOTAL_BUCKET);
+            totalSeeded = true;
+        } catch (DataAccessException e) {
+            logger.warn("Could not seed the submission totals, retrying with the next flush: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Merges the pending accumulators into the rollup table.
+     */
+    @Scheduled(fixedDelayString = "${stats.rollup.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        if (!enabled || (totalSeeded && pending.isEmpty())) {
+            return;
+        }
+        Map<Instant, Accumulator> drained = new HashMap<>();
+        for (Instant hour : pending.keySet()) {
+            Accumulator accumulator = pending.remove(hour);
+            if (accumulator != null) {
+                drained.put(hour, accumulator);
+            }
+        }
+
+        // Fold the hours into their days; sorted buckets keep the row lock order identical on every replica
+        TreeMap<Instant, Accumulator> hours = new TreeMap<>(drained);
+        TreeMap<Instant, Accumulator> days = new TreeMap<>();
+        long submissions = 0;
+        long markedRead = 0;
+        long totalSubmissions = 0;
+        long totalMarkedRead = 0;
+        for (Map.Entry<Instant, Accumulator> entry : hours.entrySet()) {
+            days.computeIfAbsent(RollupGranularity.DAY.bucketOf(entry.getKey()), day -> new Accumulator()).merge(entry.getValue());
+            submissions += entry.getValue().submissions;
+            markedRead += entry.getValue().markedRead;
+            totalSubmissions += entry.getValue().totalSubmissions;
+            totalMarkedRead += entry.getValue().totalMarkedRead;
+        }
+
+        long flushedSubmissions = submissions;
+        long flushedMarkedRead = markedRead;
+        long addedSubmissions = totalSubmissions;
+        long addedMarkedRead = totalMarkedRead;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!totalSeeded) {
+                    // Only effective while the TOTAL row does not exist yet
+                    jdbcTemplate.update(SEED_TOTAL_SQL, TOTAL, TOTAL_BUCKET);
+                }
+                if (addedSubmissions > 0 || addedMarkedRead > 0) {
+                    jdbcTemplate.update(UPSERT_COUNTERS_SQL, TOTAL, TOTAL_BUCKET, addedSubmissions, addedMarkedRead);
+                }
+                days.forEach((day, accumulator) -> mergeBucket(RollupGranularity.DAY, day, accumulator));
+                hours.forEach((hour, accumulator) -> mergeBucket(RollupGranularity.HOUR, hour, accumulator));
+            });
+            totalSeeded = true;
+            logger.debug("Flushed {} submissions and {} reads into {} hourly rollups.", flushedSubmissions, flushedMarkedRead, hours.size());
+        } catch (DataAccessException | TransactionException e) {
+            logger.warn("Could not flush the submission rollups, retrying with the next flush: {}", e.getMessage());
+            hours.forEach((hour, accumulator) -> pending.merge(hour, accumulator, Accumulator::merge));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void mergeBucket(RollupGranularity granularity, Instant bucket, Accumulator accumulator) {
+        OffsetDateTime bucketStart = bucket.atOffset(ZoneOffset.UTC);
+        // The upsert also locks the row until commit, so the read-modify-write of the sketches below is safe
+        jdbcTemplate.update(UPSERT_COUNTERS_SQL, granularity.name(), bucketStart, accumulator.submissions, accumulator.markedRead);
+        if (accumulator.submissions == 0) {
+            return;
+        }
+        HyperLogLog[] stored = jdbcTemplate.queryForObject(SELECT_SKETCHES_SQL,
+                (rs, rowNum) -> new HyperLogLog[]{HyperLogLog.fromBytes(rs.getBytes(1)), HyperLogLog.fromBytes(rs.getBytes(2))},
+                granularity.name(), bucketStart);
+        stored[0].merge(accumulator.senders);
+        stored[1].merge(accumulator.ips);
+        jdbcTemplate.update(UPDATE_SKETCHES_SQL, stored[0].toBytes(), stored[1].toBytes(), granularity.name(), bucketStart);
+    }
+
+    /**
+     * Reads the statistics of a time range from the rollups only. The work depends on the number
+     * of buckets in the range, not on the number of submissions. Submissions accepted since the
+     * last flush are not included yet.
+     *
+     * @param granularity Bucket size.
+     * @param from Any instant within the first bucket.
+     * @param to Any instant within the last bucket.
+     * @return The buckets of the range, their sums and distinct counts, and the all-time counters.
+     */
+    public SubmissionStats findStats(RollupGranularity granularity, OffsetDateTime from, OffsetDateTime to) {
+        OffsetDateTime first = granularity.bucketOf(from.toInstant()).atOffset(ZoneOffset.UTC);
+        OffsetDateTime last = granularity.bucketOf(to.toInstant()).atOffset(ZoneOffset.UTC);
+        List<SubmissionStatsBucket> buckets = new ArrayList<>();
+        HyperLogLog senders = new HyperLogLog();
+        HyperLogLog ips = new HyperLogLog();
+        jdbcTemplate.query(SELECT_RANGE_SQL, rs -> {
+            HyperLogLog bucketSenders = HyperLogLog.fromBytes(rs.getBytes("sender_hll"));
+            HyperLogLog bucketIps = HyperLogLog.fromBytes(rs.getBytes("ip_hll"));
+            senders.merge(bucketSenders);
+            ips.merge(bucketIps);
+            buckets.add(new SubmissionStatsBucket(rs.getObject("bucket_start", OffsetDateTime.class),
+                    rs.getLong("submissions"), rs.getLong("marked_read"), bucketSenders.estimate(), bucketIps.estimate()));
+        }, granularity.name(), first, last);
+
+        List<long[]> totals = jdbcTemplate.query(SELECT_TOTAL_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong("submissions"), rs.getLong("marked_read")}, TOTAL, TOTAL_BUCKET);
+        long totalSubmissions = totals.isEmpty() ? 0 : totals.get(0)[0];
+        long unread = totals.isEmpty() ? 0 : Math.max(0, totals.get(0)[0] - totals.get(0)[1]);
+        long submissions = buckets.stream().mapToLong(SubmissionStatsBucket::getSubmissions).sum();
+        return new SubmissionStats(granularity.name(), first, last, submissions, senders.estimate(), ips.estimate(),
+                totalSubmissions, unread, buckets);
+    }
+
+    /**
+     * Deletes the hourly rollups that started before the threshold; daily rollups are kept.
+     *
+     * @param threshold The retention threshold.
+     * @return The number of deleted hourly rollups.
+     */
+    public int deleteHourlyBefore(OffsetDateTime threshold) {
+        return jdbcTemplate.update(DELETE_HOURLY_SQL, RollupGranularity.HOUR.name(), threshold);
+    }
+
+    /**
+     * Pending counts of one bucket. Only accessed inside ConcurrentHashMap.compute/merge
+     * or after it was removed from the map, so it needs no locking of its own.
+     */
+    private static final class Accumulator {
+
+        private long submissions;
+        private long markedRead;
+        // The part of the counts that is added to the TOTAL row
+        private long totalSubmissions;
+        private long totalMarkedRead;
+        private final HyperLogLog senders = new HyperLogLog();
+        private final HyperLogLog ips = new HyperLogLog();
+
+        private Accumulator merge(Accumulator other) {
+            submissions += other.submissions;
+            markedRead += other.markedRead;
+            totalSubmissions += other.totalSubmissions;
+            totalMarkedRead += other.totalMarkedRead;
+            senders.merge(other.senders);
+            ips.merge(other.ips);
+            return this;
+        }
+    }
+}
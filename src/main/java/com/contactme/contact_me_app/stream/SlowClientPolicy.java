@@ -0,0 +1,12 @@
+package com.contactme.contact_me_app.stream;
+
+/**
+ * What the live feed does with a subscriber that fell so far behind that the ring overwrote
+ * events it has not received yet.
+ */
+public enum SlowClientPolicy {
+    // Close the stream; the client reconnects with Last-Event-ID and catches up from the database
+    DROP,
+    // Continue with the oldest event still in the ring, after a "gap" event
+    SKIP
+}
@@ -0,0 +1,71 @@
+package com.contactme.contact_me_app.stream;
+
+import com.contactme.contact_me_app.dto.SubmissionEvent;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring of the most recent submission events, written by one publisher at a time
+ * and read by any number of subscribers without locks.
+ * <p>
+ * Every published event gets the next sequence number. A reader keeps its own position and
+ * reads each sequence up to {@link #cursor()}; the writer never waits for readers. A reader that
+ * falls more than the capacity behind finds its slots overwritten and {@link #get} returns null.
+ */
+final class SubmissionEventRing {
+
+    private final AtomicReferenceArray<Slot> slots;
+    private final int mask;
+
+    // Sequence of the last published event, -1 while empty
+    private volatile long cursor = -1;
+
+    SubmissionEventRing(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Appends an event. Callers are serialized here, which is the single-writer section;
+     * it only stores one reference and advances the cursor.
+     *
+     * @return The sequence number of the event.
+     */
+    synchronized long publish(SubmissionEvent event) {
+        long sequence = cursor + 1;
+        slots.set((int) (sequence & mask), new Slot(sequence, event));
+        // The volatile write publishes the slot to readers
+        cursor = sequence;
+        return sequence;
+    }
+
+    long cursor() {
+        return cursor;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return The event with the sequence number, or null if it has already been overwritten.
+     */
+    SubmissionEvent get(long sequence) {
+        Slot slot = slots.get((int) (sequence & mask));
+        return slot != null && slot.sequence == sequence ? slot.event : null;
+    }
+
+    private static final class Slot {
+
+        private final long sequence;
+        private final SubmissionEvent event;
+
+        private Slot(long sequence, SubmissionEvent event) {
+            this.sequence = sequence;
+            this.event = event;
+        }
+    }
+}
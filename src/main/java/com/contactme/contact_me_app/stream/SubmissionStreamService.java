@@ -0,0 +1,300 @@
+package com.contactme.contact_me_app.stream;
+
+import com.contactme.contact_me_app.dto.SubmissionEvent;
+import com.contactme.contact_me_app.repository.ContactFormRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live feed of new submissions as Server-Sent Events (GET /api/contact/stream).
+ * <p>
+ * The submit path only appends a small event to a {@link SubmissionEventRing}, so it never waits
+ * for subscribers. A dispatcher thread checks every stream.dispatch-interval-ms which subscribers
+ * are behind the ring cursor and hands them to a small sender pool; each subscriber tracks its own
+ * ring position, and is drained by at most one sender at a time, so a slow connection only holds
+ * up itself. A subscriber the ring has lapped is handled by the {@link SlowClientPolicy}.
+ * <p>
+ * Event ids are submission ids. A client reconnecting with Last-Event-ID first receives the
+ * submissions after that id from a keyset query, bounded by stream.replay.max-events, and then
+ * continues with the ring from the position captured when it subscribed.
+ * <p>
+ * The ring holds events in publish (commit) order, which is not id order: a submission whose
+ * transaction commits late is published after higher ids, so the Last-Event-ID of a client can be
+ * above an id it never received. The replay therefore starts stream.replay.overlap-ids below
+ * Last-Event-ID. Ids in that window may have been delivered already; clients ignore ids they have.
+ */
+@Service
+@Profile("!reactive")
+public class SubmissionStreamService {
+
+    // Initialize a logger for this class
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionStreamService.class);
+
+    private static final int REPLAY_PAGE_SIZE = 100;
+
+    private final ContactFormRepository contactFormRepository;
+    private final SubmissionEventRing ring;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService dispatcher;
+    private final ExecutorService senders;
+    private final Counter lapped;
+
+    @Value("${stream.max-subscribers:100}")
+    private int maxSubscribers;
+
+    @Value("${stream.heartbeat-interval-ms:15000}")
+    private long heartbeatMillis;
+
+    // Lifetime of one SSE connection; EventSource clients reconnect transparently afterwards
+    @Value("${stream.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMillis;
+
+    @Value("${stream.slow-client:DROP}")
+    private SlowClientPolicy slowClientPolicy;
+
+    @Value("${stream.replay.max-events:1000}")
+    private int replayMaxEvents;
+
+    @Value("${stream.replay.overlap-ids:100}")
+    private int replayOverlapIds;
+
+    /**
+     * Constructor for SubmissionStreamService.
+     * @param contactFormRepository Repository used for the Last-Event-ID replay.
+     * @param meterRegistry Registry for the subscriber gauge and the lapped-subscriber counter.
+     * @param ringCapacity Number of recent events kept in the ring; a power of two.
+     * @param senderThreads Number of threads writing events to subscriber connections.
+     * @param dispatchIntervalMillis Interval at which subscribers are checked for new events.
+     */
+    public SubmissionStreamService(ContactFormRepository contactFormRepository, MeterRegistry meterRegistry,
+                                   @Value("${stream.ring-capacity:1024}") int ringCapacity,
+                                   @Value("${stream.sender-threads:4}") int senderThreads,
+                                   @Value("${stream.dispatch-interval-ms:100}") long dispatchIntervalMillis) {
+        this.contactFormRepository = contactFormRepository;
+        this.ring = new SubmissionEventRing(ringCapacity);
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(daemonThreads("submission-stream-dispatcher"));
+        this.senders = Executors.newFixedThreadPool(senderThreads, daemonThreads("submission-stream-sender"));
+        this.lapped = Counter.builder("contact.stream.lapped").register(meterRegistry);
+        Gauge.builder("contact.stream.subscribers", subscribers, Set::size).register(meterRegistry);
+        dispatcher.scheduleWithFixedDelay(this::dispatch, dispatchIntervalMillis, dispatchIntervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("SubmissionStreamService initialized. Ring capacity: {}, sender threads: {}", ringCapacity, senderThreads);
+    }
+
+    /**
+     * Announces a saved submission to the live feed. Never blocks on subscribers.
+     *
+     * @param event The event of the submission.
+     */
+    public void publish(SubmissionEvent event) {
+        ring.publish(event);
+    }
+
+    /**
+     * Opens a feed connection.
+     *
+     * @param lastEventId The id of the last event the client received before reconnecting, or null.
+     * @return The emitter of the connection, or empty if stream.max-subscribers connections are open.
+     */
+    public Optional<SseEmitter> subscribe(Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = register(emitter, lastEventId);
+        if (lastEventId != null) {
+            // Run the replay on the sender pool instead of the request thread
+            subscriber.busy.set(true);
+            schedule(subscriber);
+        }
+        return Optional.of(emitter);
+    }
+
+    Subscriber register(SseEmitter emitter, Long lastEventId) {
+        // Events published from now on come from the ring; older ones from the replay query
+        Subscriber subscriber = new Subscriber(emitter, ring.cursor() + 1, lastEventId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return subscriber;
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void dispatch() {
+        long cursor = ring.cursor();
+        long now = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers) {
+            boolean due = subscriber.nextSequence <= cursor || now - subscriber.lastSentAt >= heartbeatMillis;
+            if (due && subscriber.busy.compareAndSet(false, true)) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        try {
+            senders.execute(subscriber::drain);
+        } catch (RejectedExecutionException e) {
+            subscriber.busy.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * One feed connection. Its position is only accessed by the sender holding {@code busy},
+     * so it needs no lock; the flag also hands the position over between sender threads.
+     */
+    final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean busy = new AtomicBoolean();
+        private volatile long nextSequence;
+        private volatile long lastSentAt = System.currentTimeMillis();
+        private Long replayAfterId;
+        // Ids already sent by the replay, skipped when the ring delivers them as well
+        private final Set<Long> replayedIds = new HashSet<>();
+        private long replayEndSequence = -1;
+
+        private Subscriber(SseEmitter emitter, long nextSequence, Long replayAfterId) {
+            this.emitter = emitter;
+            this.nextSequence = nextSequence;
+            this.replayAfterId = replayAfterId;
+        }
+
+        void drain() {
+            try {
+                if (replayAfterId != null) {
+                    replay(replayAfterId);
+                    replayAfterId = null;
+                    replayEndSequence = ring.cursor();
+                }
+                long cursor = ring.cursor();
+                while (nextSequence <= cursor) {
+                    SubmissionEvent event = ring.get(nextSequence);
+                    if (event == null) {
+                        if (!handleLapped()) {
+                            return;
+                        }
+                        cursor = ring.cursor();
+                        continue;
+                    }
+                    nextSequence++;
+                    if (!replayedIds.remove(event.getId())) {
+                        send(event);
+                    }
+                }
+                if (nextSequence > replayEndSequence) {
+                    replayedIds.clear();
+                }
+                if (System.currentTimeMillis() - lastSentAt >= heartbeatMillis) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    lastSentAt = System.currentTimeMillis();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away; the container reports the failure to the emitter callbacks
+                logger.debug("Submission stream subscriber disconnected: {}", e.getMessage());
+                subscribers.remove(this);
+            } catch (DataAccessException e) {
+                logger.warn("Could not replay missed submissions: {}", e.getMessage());
+                subscribers.remove(this);
+                emitter.complete();
+            } finally {
+                busy.set(false);
+            }
+        }
+
+        private void replay(long lastEventId) throws IOException {
+            // Start below Last-Event-ID: lower ids committed late may not have reached the client;
+            // the overlap window does not count against the replay limit
+            long afterId = Math.max(0, lastEventId - replayOverlapIds);
+            int sent = 0;
+            while (true) {
+                List<SubmissionEvent> page = contactFormRepository.findEventsAfter(afterId, PageRequest.of(0, REPLAY_PAGE_SIZE));
+                for (SubmissionEvent event : page) {
+                    if (event.getId() == lastEventId) {
+                        continue;
+                    }
+                    if (event.getId() > lastEventId && sent++ == replayMaxEvents) {
+                        // More was missed than one replay may send: the client has to reload its list
+                        emitter.send(SseEmitter.event().name("gap").data("replay-limit"));
+                        return;
+                    }
+                    send(event);
+                    replayedIds.add(event.getId());
+                }
+                if (page.size() < REPLAY_PAGE_SIZE) {
+                    return;
+                }
+                afterId = page.get(page.size() - 1).getId();
+            }
+        }
+
+        // Returns false if the subscriber was dropped
+        private boolean handleLapped() throws IOException {
+            lapped.increment();
+            if (slowClientPolicy == SlowClientPolicy.DROP) {
+                logger.debug("Dropping a submission stream subscriber that fell more than {} events behind.", ring.capacity());
+                subscribers.remove(this);
+                emitter.complete();
+                return false;
+            }
+            long oldest = Math.max(nextSequence + 1, ring.cursor() - ring.capacity() + 1);
+            emitter.send(SseEmitter.event().name("gap").data(String.valueOf(oldest - nextSequence)));
+            nextSequence = oldest;
+            return true;
+        }
+
+        private void send(SubmissionEvent event) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.getId()))
+                    .name("submission")
+                    .data(event, MediaType.APPLICATION_JSON));
+            lastSentAt = System.currentTimeMillis();
+        }
+    }
+}
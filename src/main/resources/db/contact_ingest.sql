@@ -0,0 +1,74 @@
+-- Atomic ingest of a contact form submission (contact.ingest.mode=ATOMIC).
+-- Checks the IP and sender email limits, records the submission for both and inserts it, in one call.
+-- Transaction-scoped advisory locks on the IP and the sender serialize concurrent ingests of the same
+-- client, so the limits are exact; ingests of different clients do not wait for each other.
+-- The rules are those of RateLimitService.evaluate: the overall window is checked before the cooldown.
+-- The time is read once each lock is held, not at transaction start, so the submission times of one
+-- client follow the lock order and a waiting ingest never sees a later submission than its own clock.
+-- Returns the new submission id and time, or the limiter ('ip' or 'email'), the rule ('window' or
+-- 'cooldown') and the retry-after in seconds. p_email_hash is null when the email limit is disabled.
+create or replace function contact_ingest(
+    p_ip text,
+    p_ip_max_requests integer,
+    p_ip_window_minutes integer,
+    p_ip_cooldown_minutes integer,
+    p_email_hash bigint,
+    p_email_max_requests integer,
+    p_email_window_minutes integer,
+    p_email_cooldown_minutes integer,
+    p_full_name text,
+    p_email text,
+    p_subject text,
+    p_message_text text)
+returns table (submission_id bigint, sent_at timestamptz, limited_by text, rule text, retry_after_seconds bigint)
+language plpgsql
+as $$
+declare
+    v_now timestamptz;
+    v_count integer;
+    v_oldest timestamptz;
+    v_latest timestamptz;
+    v_id bigint;
+begin
+    perform pg_advisory_xact_lock(hashtextextended('contact_ingest:ip:' || p_ip, 0));
+    v_now := clock_timestamp();
+    select count(*), min(s.submission_time), max(s.submission_time) into v_count, v_oldest, v_latest
+        from contact_form_submissions_ip s
+        where s.ip_address = p_ip and s.submission_time > v_now - make_interval(mins => p_ip_window_minutes);
+    if v_count >= p_ip_max_requests then
+        return query select null::bigint, null::timestamptz, 'ip', 'window',
+            greatest(0, floor(extract(epoch from v_oldest + make_interval(mins => p_ip_window_minutes) - v_now)))::bigint;
+        return;
+    end if;
+    if v_latest + make_interval(mins => p_ip_cooldown_minutes) > v_now then
+        return query select null::bigint, null::timestamptz, 'ip', 'cooldown',
+            floor(extract(epoch from v_latest + make_interval(mins => p_ip_cooldown_minutes) - v_now))::bigint;
+        return;
+    end if;
+
+    if p_email_hash is not null then
+        perform pg_advisory_xact_lock(hashtextextended('contact_ingest:email:' || p_email_hash, 0));
+        v_now := clock_timestamp();
+        select count(*), min(s.submission_time), max(s.submission_time) into v_count, v_oldest, v_latest
+            from contact_form_submissions_email s
+            where s.email_hash = p_email_hash and s.submission_time > v_now - make_interval(mins => p_email_window_minutes);
+        if v_count >= p_email_max_requests then
+            return query select null::bigint, null::timestamptz, 'email', 'window',
+                greatest(0, floor(extract(epoch from v_oldest + make_interval(mins => p_email_window_minutes) - v_now)))::bigint;
+            return;
+        end if;
+        if v_latest + make_interval(mins => p_email_cooldown_minutes) > v_now then
+            return query select null::bigint, null::timestamptz, 'email', 'cooldown',
+                floor(extract(epoch from v_latest + make_interval(mins => p_email_cooldown_minutes) - v_now))::bigint;
+            return;
+        end if;
+        insert into contact_form_submissions_email (email_hash, submission_time) values (p_email_hash, v_now);
+    end if;
+
+    insert into contact_form_submissions_ip (ip_address, submission_time) values (p_ip, v_now);
+    insert into contact_form_submissions (full_name, email, subject, message_text, sent_at, is_read, notification_retry_count)
+        values (p_full_name, p_email, p_subject, p_message_text, v_now, false, 0)
+        returning id into v_id;
+    return query select v_id, v_now, null::text, null::text, null::bigint;
+end
+$$;
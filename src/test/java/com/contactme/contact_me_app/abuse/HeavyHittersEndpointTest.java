@@ -0,0 +1,45 @@
+package com.contactme.contact_me_app.abuse;
+
+import com.contactme.contact_me_app.logging.LogRedactor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HeavyHittersEndpointTest {
+
+	private final LogRedactor logRedactor = new LogRedactor("test-key");
+
+	private HeavyHitterTracker tracker() {
+		HeavyHitterTracker tracker = new HeavyHitterTracker(true, 10, 60, 20, 100, 1024, 4);
+		tracker.recordRequest("203.0.113.7");
+		tracker.recordRejection("203.0.113.7", "ip: Too many requests");
+		return tracker;
+	}
+
+	@Test
+	void reportsIpsAsRedactedTokensByDefault() {
+		Map<String, Object> snapshot = new HeavyHittersEndpoint(tracker(), logRedactor, false).heavyHitters(null);
+
+		String token = logRedactor.token("203.0.113.7");
+		assertEquals(token, first(snapshot, "requestsByIp").getKey());
+		assertEquals(token, first(snapshot, "rejectionsByIp").getKey());
+		assertEquals("ip: Too many requests", first(snapshot, "rejectionsByReason").getKey());
+		assertEquals(1, first(snapshot, "requestsByIp").getCount());
+	}
+
+	@Test
+	void reportsRawIpsWhenEnabled() {
+		Map<String, Object> snapshot = new HeavyHittersEndpoint(tracker(), logRedactor, true).heavyHitters(null);
+
+		assertEquals("203.0.113.7", first(snapshot, "requestsByIp").getKey());
+		assertEquals("203.0.113.7", first(snapshot, "rejectionsByIp").getKey());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static HeavyHitter first(Map<String, Object> snapshot, String stream) {
+		return ((List<HeavyHitter>) snapshot.get(stream)).get(0);
+	}
+}
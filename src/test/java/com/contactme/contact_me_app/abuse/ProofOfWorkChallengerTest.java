@@ -0,0 +1,99 @@
+package com.contactme.contact_me_app.abuse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ProofOfWorkChallengerTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void challengesAnIpOnceItReachesTheThreshold() {
+		ProofOfWorkChallenger challenger = challenger(true);
+		for (int i = 0; i < 4; i++) {
+			challenger.recordRejection("10.0.0.1");
+		}
+		assertNull(challenger.check("10.0.0.1", null), "below the threshold");
+
+		challenger.recordRejection("10.0.0.1");
+		ProofOfWorkChallenger.Challenge challenge = challenger.check("10.0.0.1", null);
+
+		assertNotNull(challenge);
+		assertEquals(4, challenge.getDifficulty());
+		assertEquals(1, meterRegistry.counter("contact.challenge.issued").count());
+		assertNull(challenger.check("10.0.0.2", null), "other clients are not affected");
+	}
+
+	@Test
+	void raisesTheDifficultyAsRejectionsDouble() {
+		ProofOfWorkChallenger challenger = challenger(true);
+		for (int i = 0; i < 10; i++) {
+			challenger.recordRejection("10.0.0.1");
+		}
+		assertEquals(5, challenger.check("10.0.0.1", null).getDifficulty());
+
+		for (int i = 0; i < 9; i++) {
+			challenger.recordRejection("10.0.0.1");
+		}
+		// 20 rejections, counting the refused request above: four times the threshold
+		assertEquals(6, challenger.check("10.0.0.1", null).getDifficulty());
+
+		for (int i = 0; i < 1000; i++) {
+			challenger.recordRejection("10.0.0.1");
+		}
+		assertEquals(8, challenger.check("10.0.0.1", null).getDifficulty(), "capped at the maximum");
+	}
+
+	@Test
+	void challengesEveryIpOfASuspiciousSubnet() {
+		ProofOfWorkChallenger challenger = challenger(true);
+		for (int i = 0; i < 20; i++) {
+			challenger.recordRejection("192.168.1." + i);
+		}
+
+		assertNotNull(challenger.check("192.168.1.200", null));
+		assertNull(challenger.check("192.168.2.1", null));
+	}
+
+	@Test
+	void letsASolvedAnswerThroughOnlyOnce() throws Exception {
+		ProofOfWorkChallenger challenger = challenger(true);
+		for (int i = 0; i < 5; i++) {
+			challenger.recordRejection("10.0.0.1");
+		}
+		ProofOfWorkChallenger.Challenge challenge = challenger.check("10.0.0.1", null);
+		String solution = ProofOfWorkTokensTest.solve(challenge.getToken(), challenge.getDifficulty());
+
+		assertNull(challenger.check("10.0.0.1", solution));
+		assertEquals(1, meterRegistry.counter("contact.challenge.solved").count());
+
+		assertNotNull(challenger.check("10.0.0.1", solution), "a replayed answer gets a new challenge");
+		assertEquals(1, meterRegistry.counter("contact.challenge.failed", "reason", "replayed").count());
+		assertNull(challenger.check("10.0.0.2", solution), "an unsuspicious client is not asked for an answer");
+	}
+
+	@Test
+	void doesNothingWhenDisabled() {
+		ProofOfWorkChallenger challenger = challenger(false);
+		for (int i = 0; i < 100; i++) {
+			challenger.recordRejection("10.0.0.1");
+		}
+		assertNull(challenger.check("10.0.0.1", null));
+	}
+
+	@Test
+	void groupsClientsBySubnet() {
+		assertEquals("192.168.1.0/24", ProofOfWorkChallenger.subnetOf("192.168.1.77"));
+		assertEquals("20010db800000001/64", ProofOfWorkChallenger.subnetOf("2001:db8:0:1::42"));
+		assertEquals("10.1.2.0/24", ProofOfWorkChallenger.subnetOf("::ffff:10.1.2.3"));
+	}
+
+	// Thresholds 5 per IP and 20 per subnet, 4 to 8 bits of difficulty
+	private ProofOfWorkChallenger challenger(boolean enabled) {
+		return new ProofOfWorkChallenger(enabled, 5, 20, 10, 60, 4, 8, 120, 1000, "test-key", meterRegistry);
+	}
+}
@@ -0,0 +1,90 @@
+package com.contactme.contact_me_app.abuse;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProofOfWorkTokensTest {
+
+	private static final byte[] KEY = "test-key".getBytes(StandardCharsets.UTF_8);
+	private static final long NOW = 1_700_000_000L;
+
+	private final ProofOfWorkTokens tokens = new ProofOfWorkTokens(KEY, 120, 1000);
+
+	@Test
+	void acceptsASolvedChallengeOfTheSameClient() throws NoSuchAlgorithmException {
+		String challenge = tokens.issue("10.0.0.1", 8, NOW);
+		String solution = solve(challenge, 8);
+
+		assertEquals(ProofOfWorkTokens.Outcome.VALID, tokens.verify("10.0.0.1", solution, NOW + 10));
+		assertEquals(ProofOfWorkTokens.Outcome.BAD_SIGNATURE, tokens.verify("10.0.0.2", solution, NOW + 10));
+		assertEquals(ProofOfWorkTokens.Outcome.EXPIRED, tokens.verify("10.0.0.1", solution, NOW + 120));
+		assertEquals(ProofOfWorkTokens.Outcome.BAD_SIGNATURE,
+				new ProofOfWorkTokens("other-key".getBytes(StandardCharsets.UTF_8), 120, 1000).verify("10.0.0.1", solution, NOW + 10));
+	}
+
+	@Test
+	void rejectsALoweredDifficulty() throws NoSuchAlgorithmException {
+		String challenge = tokens.issue("10.0.0.1", 12, NOW);
+		String[] parts = challenge.split("\\.");
+		String forged = parts[0] + ".0." + parts[2] + "." + parts[3];
+
+		assertEquals(ProofOfWorkTokens.Outcome.BAD_SIGNATURE, tokens.verify("10.0.0.1", forged + ":0", NOW));
+		String solution = solve(challenge, 12);
+		assertEquals(ProofOfWorkTokens.Outcome.VALID, tokens.verify("10.0.0.1", solution, NOW));
+	}
+
+	@Test
+	void rejectsMalformedAnswersAndMissingWork() {
+		String challenge = tokens.issue("10.0.0.1", 30, NOW);
+
+		assertEquals(ProofOfWorkTokens.Outcome.MALFORMED, tokens.verify("10.0.0.1", challenge, NOW));
+		assertEquals(ProofOfWorkTokens.Outcome.MALFORMED, tokens.verify("10.0.0.1", "a.b.c.d:1", NOW));
+		assertEquals(ProofOfWorkTokens.Outcome.MALFORMED, tokens.verify("10.0.0.1", challenge + ":" + "1".repeat(200), NOW));
+		// Finding 30 zero bits by chance with counter 0 is practically impossible
+		assertEquals(ProofOfWorkTokens.Outcome.INSUFFICIENT_WORK, tokens.verify("10.0.0.1", challenge + ":0", NOW));
+	}
+
+	@Test
+	void countsLeadingZeroBits() {
+		assertEquals(0, ProofOfWorkTokens.leadingZeroBits(new byte[] {(byte) 0x80, 0}));
+		assertEquals(7, ProofOfWorkTokens.leadingZeroBits(new byte[] {1, 0}));
+		assertEquals(12, ProofOfWorkTokens.leadingZeroBits(new byte[] {0, 0x0f}));
+		assertEquals(16, ProofOfWorkTokens.leadingZeroBits(new byte[] {0, 0}));
+	}
+
+	@Test
+	void acceptsEachAnswerOnce() throws NoSuchAlgorithmException {
+		String solution = solve(tokens.issue("10.0.0.1", 8, NOW), 8);
+
+		assertEquals(ProofOfWorkTokens.Outcome.VALID, tokens.verify("10.0.0.1", solution, NOW + 1));
+		assertEquals(ProofOfWorkTokens.Outcome.REPLAYED, tokens.verify("10.0.0.1", solution, NOW + 2));
+		// Still refused in the next TTL period, until the challenge itself has expired
+		assertEquals(ProofOfWorkTokens.Outcome.REPLAYED, tokens.verify("10.0.0.1", solution, NOW + 119));
+	}
+
+	@Test
+	void refusesAnswersOnceTheSpentSetIsFull() throws NoSuchAlgorithmException {
+		ProofOfWorkTokens small = new ProofOfWorkTokens(KEY, 120, 1);
+		String first = solve(small.issue("10.0.0.1", 4, NOW), 4);
+		String second = solve(small.issue("10.0.0.1", 4, NOW), 4);
+
+		assertEquals(ProofOfWorkTokens.Outcome.VALID, small.verify("10.0.0.1", first, NOW));
+		assertEquals(ProofOfWorkTokens.Outcome.REPLAYED, small.verify("10.0.0.1", second, NOW));
+	}
+
+	// What a client does, see also ProofOfWorkChallengerTest: increment the counter until the hash has enough leading zero bits
+	static String solve(String challenge, int difficulty) throws NoSuchAlgorithmException {
+		MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+		for (long counter = 0; ; counter++) {
+			String solution = challenge + ":" + counter;
+			if (ProofOfWorkTokens.leadingZeroBits(sha256.digest(solution.getBytes(StandardCharsets.UTF_8))) >= difficulty) {
+				return solution;
+			}
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.contactme.contact_me_app.abuse;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlidingHeavyHittersTest {
+
+	@Test
+	void spaceSavingFindsHeavyHittersOfASkewedStream() {
+		SpaceSaving summary = new SpaceSaving(50);
+		CountMinSketch sketch = new CountMinSketch(512, 4);
+		Map<String, Long> exact = new HashMap<>();
+		Random random = new Random(7);
+		for (int i = 0; i < 100_000; i++) {
+			// Five attackers produce half of the traffic, the rest is spread over 20,000 clients
+			String key = random.nextBoolean() ? "10.0.0." + random.nextInt(5) : "192.168." + random.nextInt(20_000);
+			summary.add(key);
+			sketch.add(key);
+			exact.merge(key, 1L, Long::sum);
+		}
+
+		List<HeavyHitter> top = summary.top(5);
+		assertEquals(5, top.size());
+		for (HeavyHitter hitter : top) {
+			assertTrue(hitter.getKey().startsWith("10.0.0."), hitter.getKey());
+			long actual = exact.get(hitter.getKey());
+			assertTrue(hitter.getCount() >= actual && hitter.getCount() - hitter.getError() <= actual);
+		}
+		for (Map.Entry<String, Long> entry : exact.entrySet()) {
+			assertTrue(sketch.estimate(entry.getKey()) >= entry.getValue(), "Count-Min never underestimates");
+		}
+	}
+
+	@Test
+	void windowCoversOnlyTheNewestSlices() {
+		SlidingHeavyHitters hitters = new SlidingHeavyHitters(3, 1000, 2, 10, 256, 4);
+		for (int i = 0; i < 30; i++) {
+			hitters.record("old", 500);
+		}
+		for (int i = 0; i < 10; i++) {
+			hitters.record("spread", 1500 + i * 100);
+			hitters.record("spread", 2500 + i * 50);
+			hitters.record("recent", 2600);
+		}
+
+		List<HeavyHitter> fullWindow = hitters.top(3, 2900);
+		assertEquals("old", fullWindow.get(0).getKey());
+		assertEquals(30, fullWindow.get(0).getCount());
+
+		List<HeavyHitter> lastTwoSlices = hitters.top(2, 2900);
+		assertEquals("spread", lastTwoSlices.get(0).getKey());
+		assertEquals(20, lastTwoSlices.get(0).getCount());
+		assertEquals("recent", lastTwoSlices.get(1).getKey());
+
+		// The slice of "old" is reused once the window has moved past it
+		hitters.record("new", 3100);
+		assertTrue(hitters.top(3, 3100).stream().noneMatch(h -> h.getKey().equals("old")));
+	}
+}
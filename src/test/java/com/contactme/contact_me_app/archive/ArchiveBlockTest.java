@@ -0,0 +1,86 @@
+package com.contactme.contact_me_app.archive;
+
+import com.contactme.contact_me_app.dto.ArchivedSubmission;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArchiveBlockTest {
+
+	private static final OffsetDateTime T0 = OffsetDateTime.of(2024, 3, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+	@Test
+	void roundTripsRowsAndHeader() throws IOException {
+		List<ArchivedSubmission> rows = List.of(
+				new ArchivedSubmission(7, "Ada", "ada@example.com", "Hi", "Gr\u00fc\u00dfe aus K\u00f6ln", T0),
+				new ArchivedSubmission(9, "Bob", "bob@example.com", null, "", T0.plusMinutes(5)));
+
+		ByteBuffer encoded = ArchiveBlock.encode(rows, 6);
+		ArchiveBlock block = ArchiveBlock.readHeader(0, encoded.duplicate());
+
+		assertNotNull(block);
+		assertEquals(2, block.rowCount);
+		assertEquals(7, block.minId);
+		assertEquals(9, block.maxId);
+		assertEquals(T0.toInstant().toEpochMilli(), block.minSentMillis);
+		assertEquals(T0.plusMinutes(5).toInstant().toEpochMilli(), block.maxSentMillis);
+		assertEquals(encoded.remaining(), block.totalLength());
+
+		List<ArchivedSubmission> decoded = block.decode(payload(encoded, block));
+		assertEquals(2, decoded.size());
+		assertEquals(7, decoded.get(0).getId());
+		assertEquals("Gr\u00fc\u00dfe aus K\u00f6ln", decoded.get(0).getMessageText());
+		assertEquals(T0.toInstant(), decoded.get(0).getSentAt().toInstant());
+		assertNull(decoded.get(1).getSubject());
+		assertEquals("", decoded.get(1).getMessageText());
+	}
+
+	@Test
+	void keepsAMissingSentTimeNullAndOutOfTheDateBounds() throws IOException {
+		List<ArchivedSubmission> rows = List.of(
+				new ArchivedSubmission(1, "Ada", "ada@example.com", "Hi", "text", null),
+				new ArchivedSubmission(2, "Bob", "bob@example.com", "Hi", "text", T0));
+
+		ByteBuffer encoded = ArchiveBlock.encode(rows, 6);
+		ArchiveBlock block = ArchiveBlock.readHeader(0, encoded.duplicate());
+
+		assertEquals(T0.toInstant().toEpochMilli(), block.minSentMillis);
+		List<ArchivedSubmission> decoded = block.decode(payload(encoded, block));
+		assertNull(decoded.get(0).getSentAt());
+		assertEquals(T0.toInstant(), decoded.get(1).getSentAt().toInstant());
+		assertFalse(block.overlaps(0, T0.toInstant().toEpochMilli() - 1));
+	}
+
+	@Test
+	void rejectsAFlippedPayloadByte() throws IOException {
+		ByteBuffer encoded = ArchiveBlock.encode(List.of(new ArchivedSubmission(1, "Ada", "ada@example.com", "Hi", "text", T0)), 6);
+		ArchiveBlock block = ArchiveBlock.readHeader(0, encoded.duplicate());
+		byte[] payload = payload(encoded, block);
+		payload[payload.length / 2] ^= 0x01;
+
+		assertFalse(block.verify(payload));
+		assertThrows(IOException.class, () -> block.decode(payload));
+	}
+
+	@Test
+	void rejectsBytesThatAreNotAHeader() {
+		assertNull(ArchiveBlock.readHeader(0, ByteBuffer.allocate(ArchiveBlock.HEADER_BYTES)));
+	}
+
+	private static byte[] payload(ByteBuffer encoded, ArchiveBlock block) {
+		byte[] all = new byte[encoded.remaining()];
+		encoded.duplicate().get(all);
+		return Arrays.copyOfRange(all, ArchiveBlock.HEADER_BYTES, ArchiveBlock.HEADER_BYTES + block.compressedLength);
+	}
+}
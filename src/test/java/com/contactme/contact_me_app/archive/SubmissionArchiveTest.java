@@ -0,0 +1,174 @@
+package com.contactme.contact_me_app.archive;
+
+import com.contactme.contact_me_app.dto.ArchivedSubmission;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SubmissionArchiveTest {
+
+	private static final OffsetDateTime T0 = OffsetDateTime.of(2024, 3, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+	private Path directory;
+	private SubmissionArchive archive;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = Files.createTempDirectory("archive");
+		archive = open(64 * 1024 * 1024);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		archive.close();
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(path);
+			}
+		}
+	}
+
+	@Test
+	void findsRowsInRangeOrderedBySentTimeUpToTheLimit() throws IOException {
+		archive.append(rows(1, 10));
+		archive.append(rows(11, 20));
+		// Archived twice after a crash between archiving and deleting
+		archive.append(rows(11, 20));
+
+		List<ArchivedSubmission> found = archive.find(T0.plusMinutes(5), T0.plusMinutes(14), 100);
+		assertEquals(List.of(5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L), ids(found));
+
+		List<ArchivedSubmission> limited = archive.find(T0, T0.plusMinutes(30), 3);
+		assertEquals(List.of(1L, 2L, 3L), ids(limited));
+	}
+
+	@Test
+	void ordersBySentTimeWhenBlocksAreNotInSentTimeOrder() throws IOException {
+		archive.append(List.of(row(1, T0.plusMinutes(50)), row(2, T0.plusMinutes(51))));
+		archive.append(List.of(row(3, T0.plusMinutes(1)), row(4, T0.plusMinutes(60))));
+
+		assertEquals(List.of(3L, 1L), ids(archive.find(T0, T0.plusHours(2), 2)));
+	}
+
+	@Test
+	void neverReturnsRowsWithoutASentTime() throws IOException {
+		archive.append(List.of(row(1, null), row(2, T0)));
+
+		assertEquals(List.of(2L), ids(archive.find(OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC), T0, 10)));
+	}
+
+	@Test
+	void truncatesATornTailOnReopen() throws IOException {
+		archive.append(rows(1, 10));
+		Path segment = onlyFile(".arc");
+		long firstBlockEnd = Files.size(segment);
+		archive.append(rows(11, 20));
+		archive.close();
+
+		// Crash mid-write: the second block is cut short
+		try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+			channel.truncate(firstBlockEnd + 30);
+		}
+		archive = open(64 * 1024 * 1024);
+
+		assertEquals(firstBlockEnd, Files.size(segment));
+		assertEquals(10, archive.find(T0, T0.plusHours(1), 100).size());
+		archive.append(rows(21, 25));
+		assertEquals(15, archive.find(T0, T0.plusHours(1), 100).size());
+	}
+
+	@Test
+	void truncatesATailBlockWithAFlippedByteOnReopen() throws IOException {
+		archive.append(rows(1, 10));
+		Path segment = onlyFile(".arc");
+		long firstBlockEnd = Files.size(segment);
+		archive.append(rows(11, 20));
+		archive.close();
+
+		byte[] bytes = Files.readAllBytes(segment);
+		bytes[bytes.length - 5] ^= 0x01;
+		Files.write(segment, bytes);
+		archive = open(64 * 1024 * 1024);
+
+		assertEquals(firstBlockEnd, Files.size(segment));
+		assertEquals(10, archive.find(T0, T0.plusHours(1), 100).size());
+	}
+
+	@Test
+	void rebuildsAMissingOrIncompleteIndexOfASealedSegment() throws IOException {
+		archive.close();
+		// Small segments: every block after the first starts a new segment
+		archive = open(256);
+		archive.append(rows(1, 10));
+		archive.append(rows(11, 20));
+		archive.append(rows(21, 30));
+		archive.close();
+
+		List<Path> indexes = files(".idx");
+		assertEquals(3, indexes.size());
+		byte[] firstIndex = Files.readAllBytes(indexes.get(0));
+		Files.delete(indexes.get(0));
+		byte[] secondIndex = Files.readAllBytes(indexes.get(1));
+		Files.write(indexes.get(1), new byte[0]);
+
+		archive = open(256);
+
+		assertEquals(30, archive.find(T0, T0.plusHours(1), 100).size());
+		assertTrue(Files.exists(indexes.get(0)));
+		assertEquals(firstIndex.length, Files.size(indexes.get(0)));
+		assertEquals(secondIndex.length, Files.size(indexes.get(1)));
+	}
+
+	private SubmissionArchive open(long segmentMaxBytes) throws IOException {
+		SubmissionArchive opened = new SubmissionArchive();
+		ReflectionTestUtils.setField(opened, "directory", directory.toString());
+		ReflectionTestUtils.setField(opened, "segmentMaxBytes", segmentMaxBytes);
+		ReflectionTestUtils.setField(opened, "compressionLevel", 6);
+		opened.open();
+		return opened;
+	}
+
+	private Path onlyFile(String suffix) throws IOException {
+		List<Path> found = files(suffix);
+		assertEquals(1, found.size());
+		return found.get(0);
+	}
+
+	private List<Path> files(String suffix) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(path -> path.toString().endsWith(suffix)).sorted().toList();
+		}
+	}
+
+	private static List<ArchivedSubmission> rows(long fromId, long toId) {
+		List<ArchivedSubmission> rows = new ArrayList<>();
+		for (long id = fromId; id <= toId; id++) {
+			rows.add(row(id, T0.plusMinutes(id)));
+		}
+		return rows;
+	}
+
+	private static ArchivedSubmission row(long id, OffsetDateTime sentAt) {
+		return new ArchivedSubmission(id, "Sender " + id, "sender" + id + "@example.com", "Subject", "Message " + id, sentAt);
+	}
+
+	private static List<Long> ids(List<ArchivedSubmission> submissions) {
+		return submissions.stream().map(ArchivedSubmission::getId).toList();
+	}
+}
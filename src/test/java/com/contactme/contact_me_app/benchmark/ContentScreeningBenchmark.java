@@ -0,0 +1,92 @@
+package com.contactme.contact_me_app.benchmark;
+
+import com.contactme.contact_me_app.screening.AhoCorasickMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-message cost of content screening: one Aho-Corasick pass versus a
+ * String.contains loop over every pattern, for a clean message (the common, worst case: no early exit).
+ * Run with: {@code mvn test-compile exec:java -Dexec.mainClass=com.contactme.contact_me_app.benchmark.ContentScreeningBenchmark -Dexec.classpathScope=test}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentScreeningBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    private int patternCount;
+
+    @Param({"200", "5000"})
+    private int messageLength;
+
+    private List<String> patterns;
+    private AhoCorasickMatcher matcher;
+    private String message;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        patterns = new ArrayList<>(patternCount);
+        for (int i = 0; i < patternCount; i++) {
+            // Pattern words contain a digit, so they never occur in the letters-only message
+            patterns.add(randomWord(random, 6 + random.nextInt(10)) + i + (i % 3 == 0 ? ".example/" : ""));
+        }
+        matcher = AhoCorasickMatcher.compile(patterns);
+
+        StringBuilder sb = new StringBuilder(messageLength);
+        while (sb.length() < messageLength) {
+            sb.append(randomWord(random, 2 + random.nextInt(8))).append(' ');
+        }
+        message = sb.substring(0, messageLength);
+    }
+
+    @Benchmark
+    public String ahoCorasick() {
+        return matcher.findFirst(message);
+    }
+
+    @Benchmark
+    public String containsLoop() {
+        String lower = message.toLowerCase(Locale.ROOT);
+        for (String pattern : patterns) {
+            if (lower.contains(pattern)) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ContentScreeningBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,136 @@
+package com.contactme.contact_me_app.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.contactme.contact_me_app.logging.LogRedactor;
+import com.contactme.contact_me_app.logging.SubmissionLogEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the logging cost of one successful contact form request on the calling thread:
+ * the previous ten synchronous INFO lines versus one structured, redacted event,
+ * written synchronously and through the async appender.
+ * <p>
+ * Output goes to a null stream, so the numbers are formatting and hand-off cost, not disk or console I/O.
+ * Run with: {@code mvn test-compile exec:java -Dexec.mainClass=com.contactme.contact_me_app.benchmark.LoggingCostBenchmark -Dexec.classpathScope=test}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingCostBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] %logger{36} - %m %kvp%n";
+    private static final String MESSAGE = "Hello, I'd like to know more about your contact app. ".repeat(20);
+
+    private LoggerContext context;
+    private Logger syncLogger;
+    private Logger asyncLogger;
+    private LogRedactor redactor;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(context);
+        sink.setEncoder(encoder);
+        sink.setOutputStream(OutputStream.nullOutputStream());
+        sink.start();
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setNeverBlock(true);
+        async.addAppender(sink);
+        async.start();
+
+        syncLogger = context.getLogger("bench.sync");
+        syncLogger.setLevel(Level.INFO);
+        syncLogger.setAdditive(false);
+        syncLogger.addAppender(sink);
+
+        asyncLogger = context.getLogger("bench.async");
+        asyncLogger.setLevel(Level.INFO);
+        asyncLogger.setAdditive(false);
+        asyncLogger.addAppender(async);
+
+        redactor = new LogRedactor("benchmark-key");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void legacyTenLinesSync() {
+        syncLogger.info("Attempting to submit contact form from IP: {}", "203.0.113.7");
+        syncLogger.info("Contact form submission saved successfully. Submission ID: {}", 42L);
+        syncLogger.info("Recording submission for IP: {}", "203.0.113.7");
+        syncLogger.info("Received contact form submission from IP: {}", "203.0.113.7");
+        syncLogger.info("Full Name: {}", "John Doe");
+        syncLogger.info("Email: {}", "john.doe@example.com");
+        syncLogger.info("Subject: {}", "Inquiry about your service");
+        syncLogger.info("Message: {}", MESSAGE);
+        syncLogger.info("Submission ID: {}", 42L);
+        syncLogger.info("Successfully published message to topic '{}': {}", "contact-me", MESSAGE);
+    }
+
+    @Benchmark
+    public void structuredEventSync() {
+        emit(syncLogger);
+    }
+
+    @Benchmark
+    public void structuredEventAsync() {
+        emit(asyncLogger);
+    }
+
+    private void emit(Logger logger) {
+        SubmissionLogEvent.begin()
+                .lap("rate_limit")
+                .ipToken(redactor.token("203.0.113.7"))
+                .emailToken(redactor.token("john.doe@example.com"))
+                .messageLength(MESSAGE.length())
+                .lap("parse")
+                .lap("queue")
+                .submissionId(42L)
+                .lap("save")
+                .lap("record")
+                .lap("publish")
+                .emit(logger, "accepted", 200);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LoggingCostBenchmark.class.getSimpleName()).build()).run();
+    }
+}
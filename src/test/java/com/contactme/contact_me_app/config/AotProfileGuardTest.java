@@ -0,0 +1,39 @@
+package com.contactme.contact_me_app.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.SpringApplication;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AotProfileGuardTest {
+
+	private final AotProfileGuard guard = new AotProfileGuard();
+
+	@AfterEach
+	void tearDown() {
+		System.clearProperty(AotDetector.AOT_ENABLED);
+	}
+
+	@Test
+	void rejectsTheReactiveProfileWithAot() {
+		System.setProperty(AotDetector.AOT_ENABLED, "true");
+
+		assertThrows(IllegalStateException.class, () -> guard.postProcessEnvironment(environment("reactive"), new SpringApplication()));
+		assertDoesNotThrow(() -> guard.postProcessEnvironment(environment(), new SpringApplication()));
+	}
+
+	@Test
+	void allowsTheReactiveProfileWithoutAot() {
+		assertDoesNotThrow(() -> guard.postProcessEnvironment(environment("reactive"), new SpringApplication()));
+	}
+
+	private static StandardEnvironment environment(String... profiles) {
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.setActiveProfiles(profiles);
+		return environment;
+	}
+}
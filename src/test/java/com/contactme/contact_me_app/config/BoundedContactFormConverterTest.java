@@ -0,0 +1,119 @@
+package com.contactme.contact_me_app.config;
+
+import com.contactme.contact_me_app.dto.ContactFormRequest;
+import com.contactme.contact_me_app.exception.PayloadTooLargeException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedContactFormConverterTest {
+
+	private static final long MAX_BODY_BYTES = 20480;
+
+	private final BoundedContactFormConverter converter = new BoundedContactFormConverter(MAX_BODY_BYTES);
+
+	@Test
+	void readsTheFieldsAndSkipsUnknownOnes() throws IOException {
+		ContactFormRequest request = read("{\"fullName\":\"Ada\",\"email\":\"ada@example.com\",\"subject\":null,"
+				+ "\"extra\":{\"nested\":[1,2,3]},\"messageText\":\"Hello\"}");
+
+		assertEquals("Ada", request.getFullName());
+		assertEquals("ada@example.com", request.getEmail());
+		assertNull(request.getSubject());
+		assertEquals("Hello", request.getMessageText());
+	}
+
+	@Test
+	void rejectsADeclaredContentLengthAboveTheLimit() {
+		MockHttpInputMessage message = new MockHttpInputMessage(json("{}"));
+		message.getHeaders().setContentLength(MAX_BODY_BYTES + 1);
+
+		assertThrows(PayloadTooLargeException.class, () -> converter.read(ContactFormRequest.class, message));
+	}
+
+	@Test
+	void stopsReadingAnUndeclaredBodyAtTheByteLimit() {
+		// An endless stream of whitespace inside the object; only the byte limit can end it
+		CountingInputStream body = new CountingInputStream(json("{\"fullName\":\"Ada\","));
+
+		assertThrows(PayloadTooLargeException.class,
+				() -> converter.read(ContactFormRequest.class, new MockHttpInputMessage(body)));
+		assertTrue(body.read <= MAX_BODY_BYTES + 8192, "read " + body.read + " bytes");
+	}
+
+	@Test
+	void rejectsFieldsAboveTheirLength() {
+		assertThrows(PayloadTooLargeException.class,
+				() -> read(body("a".repeat(ContactFormRequest.MAX_FULL_NAME_LENGTH + 1), "Hello")));
+		assertThrows(PayloadTooLargeException.class,
+				() -> read(body("Ada", "a".repeat(ContactFormRequest.MAX_MESSAGE_TEXT_LENGTH + 1))));
+	}
+
+	@Test
+	void admitsEveryFieldAtItsLimitInMultiByteText() throws IOException {
+		// Three bytes per char in UTF-8, the most a single char takes
+		String messageText = "\u20ac".repeat(ContactFormRequest.MAX_MESSAGE_TEXT_LENGTH);
+		String body = "{\"fullName\":\"" + "\u20ac".repeat(ContactFormRequest.MAX_FULL_NAME_LENGTH) + "\","
+				+ "\"email\":\"" + "a".repeat(ContactFormRequest.MAX_EMAIL_LENGTH) + "\","
+				+ "\"subject\":\"" + "\u20ac".repeat(ContactFormRequest.MAX_SUBJECT_LENGTH) + "\","
+				+ "\"messageText\":\"" + messageText + "\"}";
+		assertTrue(json(body).length <= BoundedContactFormConverter.MIN_BODY_BYTES);
+		assertTrue(BoundedContactFormConverter.MIN_BODY_BYTES <= MAX_BODY_BYTES);
+
+		assertEquals(messageText, read(body).getMessageText());
+	}
+
+	@Test
+	void bodyLimitWinsOverFieldLimitsForEscapedText() {
+		// 4000 chars are within the field limit, but as JSON escapes they take 24000 bytes
+		String escaped = "\\u20ac".repeat(4000);
+
+		assertThrows(PayloadTooLargeException.class, () -> read(body("Ada", escaped)));
+	}
+
+	@Test
+	void rejectsMalformedJson() {
+		assertThrows(HttpMessageNotReadableException.class, () -> read("{\"fullName\":\"Ada\""));
+		assertThrows(HttpMessageNotReadableException.class, () -> read("{\"fullName\":Ada}"));
+		assertThrows(HttpMessageNotReadableException.class, () -> read("[\"Ada\"]"));
+		assertThrows(HttpMessageNotReadableException.class, () -> read("{\"fullName\":\"Ada\"} {}"));
+		assertThrows(HttpMessageNotReadableException.class, () -> read("{\"fullName\":42}"));
+	}
+
+	private ContactFormRequest read(String body) throws IOException {
+		return converter.read(ContactFormRequest.class, new MockHttpInputMessage(json(body)));
+	}
+
+	private static String body(String fullName, String messageText) {
+		return "{\"fullName\":\"" + fullName + "\",\"email\":\"ada@example.com\",\"messageText\":\"" + messageText + "\"}";
+	}
+
+	private static byte[] json(String body) {
+		return body.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static final class CountingInputStream extends InputStream {
+		private final byte[] prefix;
+		private long read;
+
+		private CountingInputStream(byte[] prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		public int read() {
+			int b = read < prefix.length ? prefix[(int) read] : ' ';
+			read++;
+			return b;
+		}
+	}
+}
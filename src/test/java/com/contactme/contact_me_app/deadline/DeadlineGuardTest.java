@@ -0,0 +1,86 @@
+package com.contactme.contact_me_app.deadline;
+
+import com.contactme.contact_me_app.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class DeadlineGuardTest {
+
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final DeadlineGuard guard = new DeadlineGuard(transactionManager, meterRegistry);
+
+	@AfterEach
+	void clear() {
+		Deadline.clear();
+	}
+
+	@Test
+	void runsWorkUnchangedWithoutDeadline() {
+		guard.check("queue");
+		assertEquals("done", guard.inTransaction("save", () -> "done"));
+		verifyNoInteractions(transactionManager);
+	}
+
+	@Test
+	void abandonsAStageThatStartsAfterTheDeadline() {
+		Deadline.afterMillis(0).attach();
+		AtomicBoolean ran = new AtomicBoolean();
+
+		assertThrows(DeadlineExceededException.class, () -> guard.check("queue"));
+		assertThrows(DeadlineExceededException.class, () -> guard.inTransaction("save", () -> ran.getAndSet(true)));
+
+		assertFalse(ran.get());
+		assertEquals(1, exceeded("queue"));
+		assertEquals(1, exceeded("save"));
+	}
+
+	@Test
+	void boundsTheTransactionByTheRemainingTime() {
+		Deadline.afterMillis(2_500).attach();
+
+		assertEquals("done", guard.inTransaction("save", () -> "done"));
+
+		ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+		verify(transactionManager).getTransaction(definition.capture());
+		assertEquals(3, definition.getValue().getTimeout());
+	}
+
+	@Test
+	void mapsQueryTimeoutsAndCountsNestedMissesOnce() {
+		Deadline.afterMillis(10_000).attach();
+
+		assertThrows(DeadlineExceededException.class, () -> guard.inTransaction("save", () -> {
+			throw new QueryTimeoutException("canceling statement due to statement timeout");
+		}));
+		assertEquals(1, exceeded("save"));
+
+		// A nested stage missed the deadline: the outer transaction rolls back and does not count it again
+		assertThrows(DeadlineExceededException.class, () -> guard.inTransaction("save", () -> {
+			throw guard.exceeded("record_ip", null);
+		}));
+		assertEquals(1, exceeded("save"));
+		assertEquals(1, exceeded("record_ip"));
+		verify(transactionManager, never()).commit(any());
+	}
+
+	private double exceeded(String stage) {
+		return meterRegistry.counter("contact.deadline.exceeded", "stage", stage).count();
+	}
+}
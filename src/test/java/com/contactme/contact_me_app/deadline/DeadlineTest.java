@@ -0,0 +1,109 @@
+package com.contactme.contact_me_app.deadline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadlineTest {
+
+	@AfterEach
+	void clear() {
+		Deadline.clear();
+	}
+
+	@Test
+	void attachRestoresThePreviousDeadline() {
+		Deadline outer = Deadline.afterMillis(10_000);
+		Deadline inner = Deadline.afterMillis(1_000);
+		try (Deadline.Scope outerScope = outer.attach()) {
+			try (Deadline.Scope innerScope = inner.attach()) {
+				assertSame(inner, Deadline.current());
+			}
+			assertSame(outer, Deadline.current());
+		}
+		assertNull(Deadline.current());
+	}
+
+	@Test
+	void reportsTheRemainingTime() {
+		Deadline deadline = Deadline.afterMillis(1_500);
+		assertFalse(deadline.isExpired());
+		assertTrue(deadline.remainingMillis() <= 1_500 && deadline.remainingMillis() > 1_000);
+		assertEquals(2, deadline.remainingSeconds(), "rounded up to whole seconds");
+
+		Deadline expired = Deadline.afterMillis(0);
+		assertTrue(expired.isExpired());
+		assertEquals(0, expired.remainingMillis());
+		assertEquals(1, expired.remainingSeconds(), "transaction timeouts are at least one second");
+	}
+
+	@Test
+	void boundsBlockingCallsByTheCurrentDeadline() {
+		assertEquals(5_000, Deadline.remainingMillisOr(5_000), "no deadline: the fallback");
+		assertFalse(Deadline.isCurrentExpired());
+
+		Deadline.afterMillis(100).attach();
+		assertTrue(Deadline.remainingMillisOr(5_000) <= 100);
+
+		Deadline.afterMillis(0).attach();
+		assertTrue(Deadline.isCurrentExpired());
+	}
+
+	@Test
+	void decoratorCarriesTheDeadlineToTheExecutorThread() throws InterruptedException {
+		Deadline deadline = Deadline.afterMillis(10_000);
+		AtomicReference<Deadline> seen = new AtomicReference<>();
+		AtomicReference<Deadline> afterTask = new AtomicReference<>();
+		Runnable task;
+		try (Deadline.Scope scope = deadline.attach()) {
+			task = new DeadlineTaskDecorator().decorate(() -> seen.set(Deadline.current()));
+		}
+
+		Thread worker = new Thread(() -> {
+			task.run();
+			afterTask.set(Deadline.current());
+		});
+		worker.start();
+		worker.join();
+
+		assertSame(deadline, seen.get());
+		assertNull(afterTask.get(), "the pooled thread does not keep the deadline");
+	}
+
+	@Test
+	void decoratorLeavesTasksWithoutDeadlineUnchanged() {
+		Runnable task = () -> { };
+		assertSame(task, new DeadlineTaskDecorator().decorate(task));
+	}
+
+	@Test
+	void claimAndAbandonAreDecidedByWhicheverComesFirst() {
+		Deadline claimed = Deadline.afterMillis(1_000);
+		assertTrue(claimed.claim());
+		assertTrue(claimed.claim(), "claiming again is harmless");
+		assertFalse(claimed.abandon(), "claimed work is not abandoned");
+
+		Deadline abandoned = Deadline.afterMillis(1_000);
+		assertTrue(abandoned.abandon());
+		assertFalse(abandoned.abandon(), "only the first abandon reports the missed deadline");
+		assertFalse(abandoned.claim(), "abandoned work must not start");
+	}
+
+	@Test
+	void workerThatFindsTheDeadlinePassedAbandonsBeforeTheWaitingSide() {
+		Deadline deadline = Deadline.afterMillis(0);
+		assertTrue(deadline.isExpired());
+
+		// The worker wins and reports the missed deadline; the waiting side must not report it again
+		assertTrue(deadline.abandon());
+		assertFalse(deadline.abandon());
+		assertFalse(deadline.claim());
+	}
+}
@@ -0,0 +1,126 @@
+package com.contactme.contact_me_app.digest;
+
+import com.contactme.contact_me_app.dto.NotificationDigest;
+import com.contactme.contact_me_app.dto.NotificationMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringJUnitConfig(NotificationDigestListenerTest.TestConfig.class)
+@EmbeddedKafka(partitions = 2, topics = NotificationDigestListenerTest.TOPIC)
+@TestPropertySource(properties = {
+		"digest.enabled=true",
+		"digest.topic=" + NotificationDigestListenerTest.TOPIC,
+		"digest.group-id=digest-test",
+		"digest.max-messages=50",
+		"digest.window-ms=200",
+		"digest.retry.max-interval-ms=200"
+})
+class NotificationDigestListenerTest {
+
+	static final String TOPIC = "contact_me_topic";
+	private static final int MESSAGES = 120;
+
+	@Autowired
+	private EmbeddedKafkaBroker broker;
+
+	@Autowired
+	private RecordingSink sink;
+
+	@Test
+	void coalescesPollsIntoDigestsAndCommitsAfterDelivery() throws Exception {
+		// The first delivery fails: its poll must be redelivered, not committed
+		sink.failNext.set(true);
+
+		Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+		producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+		producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+		KafkaTemplate<String, NotificationMessage> template = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProps));
+		for (int i = 0; i < MESSAGES; i++) {
+			template.send(TOPIC, "key-" + i, new NotificationMessage("Name " + i, "user" + i + "@example.com", "Subject", "Message " + i));
+		}
+		template.flush();
+
+		long deadline = System.currentTimeMillis() + 30_000;
+		while (committedOffsets() < MESSAGES && System.currentTimeMillis() < deadline) {
+			Thread.sleep(100);
+		}
+
+		assertEquals(MESSAGES, committedOffsets());
+		assertEquals(MESSAGES, sink.digests.stream().mapToInt(NotificationDigest::getMessageCount).sum());
+		assertTrue(sink.digests.stream().allMatch(d -> d.getMessageCount() <= 50), "digests are bounded by digest.max-messages");
+		assertTrue(sink.digests.size() < MESSAGES, "messages were coalesced");
+		template.destroy();
+	}
+
+	private long committedOffsets() throws Exception {
+		long total = 0;
+		for (int partition = 0; partition < 2; partition++) {
+			OffsetAndMetadata offset = KafkaTestUtils.getCurrentOffset(broker.getBrokersAsString(), "digest-test", TOPIC, partition);
+			total += offset == null ? 0 : offset.offset();
+		}
+		return total;
+	}
+
+	static class RecordingSink implements DigestSink {
+
+		final List<NotificationDigest> digests = new CopyOnWriteArrayList<>();
+		final AtomicBoolean failNext = new AtomicBoolean();
+
+		@Override
+		public void deliver(NotificationDigest digest) {
+			if (failNext.compareAndSet(true, false)) {
+				throw new IllegalStateException("Simulated sink outage");
+			}
+			digests.add(digest);
+		}
+	}
+
+	@Configuration
+	@Import({DigestKafkaConfig.class, NotificationDigestListener.class})
+	static class TestConfig {
+
+		@Bean
+		KafkaProperties kafkaProperties(@Value("${spring.embedded.kafka.brokers}") String brokers) {
+			KafkaProperties properties = new KafkaProperties();
+			properties.setBootstrapServers(List.of(brokers.split(",")));
+			properties.getConsumer().setAutoOffsetReset("earliest");
+			return properties;
+		}
+
+		@Bean
+		RecordingSink recordingSink() {
+			return new RecordingSink();
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.contactme.contact_me_app.health;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SaturationHealthIndicatorTest {
+
+	private StubExecutor executor;
+	private List<Object> events;
+	private SaturationHealthIndicator indicator;
+
+	@BeforeEach
+	void setUp() {
+		executor = new StubExecutor();
+		executor.setCorePoolSize(2);
+		events = new ArrayList<>();
+		indicator = new SaturationHealthIndicator(executor, new SimpleMeterRegistry(), events::add);
+		ReflectionTestUtils.setField(indicator, "enabled", true);
+		ReflectionTestUtils.setField(indicator, "publishQueueHigh", 800);
+		ReflectionTestUtils.setField(indicator, "publishQueueLow", 200);
+		ReflectionTestUtils.setField(indicator, "dbWaitHighMillis", 200.0);
+		ReflectionTestUtils.setField(indicator, "dbWaitLowMillis", 50.0);
+		ReflectionTestUtils.setField(indicator, "latencyHighMillis", 2000.0);
+		ReflectionTestUtils.setField(indicator, "latencyLowMillis", 500.0);
+		ReflectionTestUtils.setField(indicator, "enterAfterChecks", 3);
+		ReflectionTestUtils.setField(indicator, "exitAfterChecks", 5);
+	}
+
+	@Test
+	void refusesTrafficOnlyAfterConsecutiveHighChecks() {
+		executor.queueSize = 900;
+		checks(2);
+		executor.queueSize = 0;
+		checks(1);
+		executor.queueSize = 900;
+		checks(2);
+		assertTrue(events.isEmpty());
+		assertEquals(Status.UP, indicator.health().getStatus());
+
+		checks(1);
+		assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC), readinessStates());
+		assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+	}
+
+	@Test
+	void staysSaturatedBetweenTheThresholdsAndRecoversAfterConsecutiveLowChecks() {
+		executor.queueSize = 900;
+		checks(3);
+
+		// Between low and high: neither entering nor leaving
+		executor.queueSize = 500;
+		checks(10);
+		assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC), readinessStates());
+
+		executor.queueSize = 0;
+		checks(4);
+		assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC), readinessStates());
+		checks(1);
+		assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC), readinessStates());
+		assertEquals(Status.UP, indicator.health().getStatus());
+	}
+
+	@Test
+	void derivesTheInFlightThresholdsFromTheCorePoolSize() {
+		// Every core thread busy is high
+		executor.activeCount = 2;
+		checks(3);
+		assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC), readinessStates());
+
+		// One idle core thread is low
+		executor.activeCount = 1;
+		checks(5);
+		assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC), readinessStates());
+	}
+
+	private void checks(int count) {
+		for (int i = 0; i < count; i++) {
+			indicator.check();
+		}
+	}
+
+	private List<ReadinessState> readinessStates() {
+		List<ReadinessState> states = new ArrayList<>();
+		for (Object event : events) {
+			states.add((ReadinessState) ((AvailabilityChangeEvent<?>) event).getState());
+		}
+		return states;
+	}
+
+	private static final class StubExecutor extends ThreadPoolTaskExecutor {
+		int queueSize;
+		int activeCount;
+
+		@Override
+		public int getQueueSize() {
+			return queueSize;
+		}
+
+		@Override
+		public int getActiveCount() {
+			return activeCount;
+		}
+	}
+}
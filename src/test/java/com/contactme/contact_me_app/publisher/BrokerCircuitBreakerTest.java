@@ -0,0 +1,69 @@
+package com.contactme.contact_me_app.publisher;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BrokerCircuitBreakerTest {
+
+	@Test
+	void opensAfterConsecutiveFailuresAndRejectsWhileOpen() {
+		BrokerCircuitBreaker breaker = new BrokerCircuitBreaker("kafka", 3, 60_000);
+
+		breaker.onFailure();
+		breaker.onFailure();
+		assertEquals(BrokerCircuitBreaker.State.CLOSED, breaker.getState());
+		assertTrue(breaker.tryAcquirePermission());
+
+		breaker.onFailure();
+		assertEquals(BrokerCircuitBreaker.State.OPEN, breaker.getState());
+		assertFalse(breaker.tryAcquirePermission());
+	}
+
+	@Test
+	void successResetsTheConsecutiveFailures() {
+		BrokerCircuitBreaker breaker = new BrokerCircuitBreaker("kafka", 3, 60_000);
+
+		breaker.onFailure();
+		breaker.onFailure();
+		breaker.onSuccess();
+		breaker.onFailure();
+		breaker.onFailure();
+
+		assertEquals(BrokerCircuitBreaker.State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	void letsOneTrialCallThroughAfterTheOpenPeriodAndClosesOnSuccess() throws InterruptedException {
+		BrokerCircuitBreaker breaker = new BrokerCircuitBreaker("pubsub", 1, 100);
+		breaker.onFailure();
+		assertEquals(BrokerCircuitBreaker.State.OPEN, breaker.getState());
+
+		Thread.sleep(150);
+		assertTrue(breaker.tryAcquirePermission());
+		assertEquals(BrokerCircuitBreaker.State.HALF_OPEN, breaker.getState());
+		// Only the single trial call is in flight
+		assertFalse(breaker.tryAcquirePermission());
+
+		breaker.onSuccess();
+		assertEquals(BrokerCircuitBreaker.State.CLOSED, breaker.getState());
+		assertTrue(breaker.tryAcquirePermission());
+	}
+
+	@Test
+	void reopensWhenTheTrialCallFails() throws InterruptedException {
+		BrokerCircuitBreaker breaker = new BrokerCircuitBreaker("pubsub", 2, 100);
+		breaker.onFailure();
+		breaker.onFailure();
+
+		Thread.sleep(150);
+		assertTrue(breaker.tryAcquirePermission());
+		breaker.onFailure();
+
+		assertEquals(BrokerCircuitBreaker.State.OPEN, breaker.getState());
+		// The open period starts again with the failed trial call
+		assertFalse(breaker.tryAcquirePermission());
+	}
+}
@@ -0,0 +1,48 @@
+package com.contactme.contact_me_app.publisher;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryBudgetTest {
+
+	@Test
+	void retriesStopWhenTheBudgetIsExhausted() {
+		RetryBudget budget = new RetryBudget(5, 0.2, 2);
+
+		// Starts with the stored retries only
+		assertTrue(budget.tryRetry(1));
+		assertTrue(budget.tryRetry(1));
+		assertFalse(budget.tryRetry(1));
+
+		// Every first attempt earns a fifth of a retry
+		for (int i = 0; i < 4; i++) {
+			budget.onFirstAttempt();
+			assertFalse(budget.tryRetry(1));
+		}
+		budget.onFirstAttempt();
+		assertTrue(budget.tryRetry(1));
+		assertFalse(budget.tryRetry(1));
+	}
+
+	@Test
+	void savedRetriesAreCapped() {
+		RetryBudget budget = new RetryBudget(5, 0.2, 2);
+		for (int i = 0; i < 1_000; i++) {
+			budget.onFirstAttempt();
+		}
+
+		assertTrue(budget.tryRetry(1));
+		assertTrue(budget.tryRetry(1));
+		assertFalse(budget.tryRetry(1));
+	}
+
+	@Test
+	void neverRetriesBeyondTheMaximumAttempts() {
+		RetryBudget budget = new RetryBudget(3, 0.2, 10);
+
+		assertTrue(budget.tryRetry(2));
+		assertFalse(budget.tryRetry(3));
+	}
+}
@@ -0,0 +1,148 @@
+package com.contactme.contact_me_app.scheduling;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Several JobLeaseService nodes sharing one PostgreSQL database, as replicas do.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class JobLeaseServiceTest {
+
+	@Container
+	private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	private static final String JOB = "data-cleanup";
+	// Yearly, so the next run is always far away
+	private static final CronExpression SCHEDULE = CronExpression.parse("0 0 0 1 1 *");
+
+	private static JdbcTemplate jdbcTemplate;
+	private static DataSourceTransactionManager transactionManager;
+
+	@BeforeAll
+	static void createSchema() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		transactionManager = new DataSourceTransactionManager(dataSource);
+		jdbcTemplate.execute("""
+				create table scheduled_job_lease (
+				    job_name varchar(100) primary key,
+				    owner varchar(200) not null,
+				    lease_until timestamptz not null,
+				    acquired_at timestamptz not null)
+				""");
+	}
+
+	@BeforeEach
+	void clearLeases() {
+		jdbcTemplate.update("delete from scheduled_job_lease");
+	}
+
+	@Test
+	void exactlyOneOfConcurrentNodesAcquiresTheJob() throws Exception {
+		List<JobLeaseService> nodes = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			nodes.add(node("node-" + i, 0));
+		}
+		ExecutorService threads = Executors.newFixedThreadPool(nodes.size());
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Optional<JobLease>>> results = new ArrayList<>();
+		for (JobLeaseService node : nodes) {
+			results.add(threads.submit(() -> {
+				start.await();
+				return node.tryAcquire(JOB, SCHEDULE);
+			}));
+		}
+		start.countDown();
+		int acquired = 0;
+		for (Future<Optional<JobLease>> result : results) {
+			Optional<JobLease> lease = result.get();
+			if (lease.isPresent()) {
+				acquired++;
+				lease.get().close();
+			}
+		}
+		threads.shutdown();
+		nodes.forEach(JobLeaseService::shutdown);
+		assertEquals(1, acquired);
+	}
+
+	@Test
+	void aLateTriggerDoesNotRepeatACompletedRun() {
+		JobLeaseService nodeA = node("node-a", 0);
+		JobLeaseService nodeB = node("node-b", 0);
+
+		Optional<JobLease> first = nodeA.tryAcquire(JOB, SCHEDULE);
+		assertTrue(first.isPresent());
+		first.get().close();
+
+		// node-b's trigger of the same run fires after node-a already finished, e.g. because its clock is behind
+		assertFalse(nodeB.tryAcquire(JOB, SCHEDULE).isPresent());
+		assertFalse(nodeA.tryAcquire(JOB, SCHEDULE).isPresent());
+		nodeA.shutdown();
+		nodeB.shutdown();
+	}
+
+	@Test
+	void thePreviousOwnerDoesNotRunAgainAfterItsHandoffDelay() throws Exception {
+		JobLeaseService nodeA = node("node-a", 500);
+		JobLeaseService nodeB = node("node-b", 500);
+		// node-a ran the previous execution, whose lease has ended
+		jdbcTemplate.update("insert into scheduled_job_lease values (?, 'node-a', now() - interval '1 second', now() - interval '1 hour')", JOB);
+
+		ExecutorService threads = Executors.newSingleThreadExecutor();
+		Future<Optional<JobLease>> previousOwner = threads.submit(() -> nodeA.tryAcquire(JOB, SCHEDULE));
+		Optional<JobLease> other = nodeB.tryAcquire(JOB, SCHEDULE);
+		assertTrue(other.isPresent(), "the other node runs while the previous owner waits");
+		other.get().close();
+
+		assertFalse(previousOwner.get().isPresent(), "the previous owner must not run the same execution again");
+		threads.shutdown();
+		nodeA.shutdown();
+		nodeB.shutdown();
+	}
+
+	@Test
+	void aLeaseIsLostWhenItCannotBeRenewed() {
+		JobLeaseService nodeA = node("node-a", 0);
+		Optional<JobLease> lease = nodeA.tryAcquire(JOB, SCHEDULE);
+		assertTrue(lease.isPresent());
+
+		// Another owner took over, e.g. after a long pause of node-a
+		jdbcTemplate.update("update scheduled_job_lease set owner = 'node-b' where job_name = ?", JOB);
+		lease.get().renew();
+
+		assertFalse(lease.get().isHeld());
+		lease.get().close();
+		nodeA.shutdown();
+	}
+
+	private static JobLeaseService node(String nodeId, long handoffDelayMillis) {
+		JobLeaseService node = new JobLeaseService(jdbcTemplate, transactionManager, nodeId);
+		ReflectionTestUtils.setField(node, "leaseTtlMillis", 60_000L);
+		ReflectionTestUtils.setField(node, "handoffDelayMillis", handoffDelayMillis);
+		ReflectionTestUtils.setField(node, "clockSkewMillis", 10_000L);
+		return node;
+	}
+}
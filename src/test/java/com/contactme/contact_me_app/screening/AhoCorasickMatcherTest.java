@@ -0,0 +1,54 @@
+package com.contactme.contact_me_app.screening;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AhoCorasickMatcherTest {
+
+	@Test
+	void findsPatternsCaseInsensitivelyThroughFailureLinks() {
+		AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("he", "she", "his", "hers", "bit.ly/", "Casino", " "));
+
+		assertEquals("she", matcher.findFirst("ushers"));
+		assertEquals("his", matcher.findFirst("ahishe"));
+		assertEquals("bit.ly/", matcher.findFirst("visit BIT.LY/abc"));
+		assertEquals("Casino", matcher.findFirst("best casino"));
+		assertNull(matcher.findFirst("hxhxhi"));
+		assertNull(matcher.findFirst(null));
+		assertEquals(6, matcher.getPatternCount());
+	}
+
+	@Test
+	void agreesWithNaiveSubstringSearch() {
+		Random random = new Random(42);
+		List<String> patterns = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			patterns.add(randomText(random, 3 + random.nextInt(6), 6));
+		}
+		AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(patterns);
+
+		for (int i = 0; i < 1000; i++) {
+			String text = randomText(random, 40, 8);
+			String match = matcher.findFirst(text);
+			assertEquals(patterns.stream().anyMatch(text::contains), match != null, text);
+			if (match != null) {
+				assertTrue(text.contains(match), text);
+			}
+		}
+	}
+
+	private static String randomText(Random random, int length, int alphabet) {
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			sb.append((char) ('a' + random.nextInt(alphabet)));
+		}
+		return sb.toString();
+	}
+}
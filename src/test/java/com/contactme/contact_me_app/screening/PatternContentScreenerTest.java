@@ -0,0 +1,85 @@
+package com.contactme.contact_me_app.screening;
+
+import com.contactme.contact_me_app.dto.ContactFormRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PatternContentScreenerTest {
+
+	private Path patterns;
+	private PatternContentScreener screener;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		patterns = Files.createTempFile("blocked-patterns", ".txt");
+		write("# comment\ncasino\n", 1_000_000L);
+		screener = new PatternContentScreener(new DefaultResourceLoader());
+		ReflectionTestUtils.setField(screener, "enabled", true);
+		ReflectionTestUtils.setField(screener, "patternsLocation", patterns.toUri().toString());
+		ReflectionTestUtils.setField(screener, "action", ScreeningAction.QUARANTINE);
+		screener.init();
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		Files.deleteIfExists(patterns);
+	}
+
+	@Test
+	void reloadsWhenTheFileChanges() throws IOException {
+		assertTrue(screener.screen(request("best casino")).isBlocked());
+		assertFalse(screener.screen(request("cheap pills")).isBlocked());
+
+		write("pills\n", 2_000_000L);
+		screener.reloadIfChanged();
+
+		ScreeningResult result = screener.screen(request("cheap pills"));
+		assertTrue(result.isBlocked());
+		assertEquals("pills", result.getMatchedPattern());
+		assertEquals(ScreeningAction.QUARANTINE, result.getAction());
+		assertFalse(screener.screen(request("best casino")).isBlocked());
+	}
+
+	@Test
+	void keepsTheLoadedPatternsWhileTheFileIsUnchanged() throws IOException {
+		// Same modification time: the new content is not picked up
+		write("pills\n", 1_000_000L);
+		screener.reloadIfChanged();
+
+		assertTrue(screener.screen(request("best casino")).isBlocked());
+		assertFalse(screener.screen(request("cheap pills")).isBlocked());
+	}
+
+	@Test
+	void keepsTheLoadedPatternsWhenTheFileDisappears() throws IOException {
+		Files.delete(patterns);
+		screener.reloadIfChanged();
+
+		assertTrue(screener.screen(request("best casino")).isBlocked());
+	}
+
+	private void write(String content, long lastModifiedMillis) throws IOException {
+		Files.writeString(patterns, content, StandardCharsets.UTF_8);
+		Files.setLastModifiedTime(patterns, FileTime.fromMillis(lastModifiedMillis));
+	}
+
+	private static ContactFormRequest request(String messageText) {
+		ContactFormRequest request = new ContactFormRequest();
+		request.setSubject("Hello");
+		request.setMessageText(messageText);
+		return request;
+	}
+}
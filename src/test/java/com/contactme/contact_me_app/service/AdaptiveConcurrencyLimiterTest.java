@@ -0,0 +1,86 @@
+package com.contactme.contact_me_app.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+	private static final long MILLIS = 1_000_000L;
+
+	@Test
+	void growsAtStableLatencyAndShrinksWhenLatencyRises() {
+		AdaptiveConcurrencyLimiter limiter = limiter(20);
+		for (int i = 0; i < 200; i++) {
+			limiter.onSample(10 * MILLIS, limiter.getLimit());
+		}
+		int grown = limiter.getLimit();
+		assertTrue(grown > 20, "limit grows while it is used at baseline latency: " + grown);
+
+		// A database stall: requests now take ten times as long (timeouts are sampled at the deadline)
+		for (int i = 0; i < 50; i++) {
+			limiter.onSample(100 * MILLIS, limiter.getLimit());
+		}
+		int shrunk = limiter.getLimit();
+		assertTrue(shrunk < grown / 4, "limit shrinks under rising latency: " + grown + " -> " + shrunk);
+		assertTrue(shrunk >= 4, "never below the minimum");
+	}
+
+	@Test
+	void doesNotGrowWhileTheLimitIsUnused() {
+		AdaptiveConcurrencyLimiter limiter = limiter(20);
+		for (int i = 0; i < 200; i++) {
+			limiter.onSample(10 * MILLIS, 1);
+		}
+		assertEquals(20, limiter.getLimit());
+	}
+
+	@Test
+	void capsRequestsInFlightPerClient() {
+		AdaptiveConcurrencyLimiter limiter = limiter(20);
+		AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire("10.0.0.1");
+		AdaptiveConcurrencyLimiter.Permit second = limiter.tryAcquire("10.0.0.1");
+		assertNotNull(first);
+		assertNotNull(second);
+		assertNull(limiter.tryAcquire("10.0.0.1"), "third concurrent request of the same client");
+		assertNotNull(limiter.tryAcquire("10.0.0.2"), "other clients are admitted");
+
+		first.release(false);
+		assertNotNull(limiter.tryAcquire("10.0.0.1"), "admitted again once a request completed");
+		assertEquals(3, limiter.getInFlight());
+	}
+
+	@Test
+	void rejectsRequestsAboveTheGlobalLimit() {
+		AdaptiveConcurrencyLimiter limiter = limiter(4);
+		List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			permits.add(limiter.tryAcquire("10.0.0." + i));
+		}
+		assertNull(limiter.tryAcquire("10.0.0.99"));
+
+		permits.forEach(permit -> permit.release(false));
+		assertEquals(0, limiter.getInFlight());
+		assertNotNull(limiter.tryAcquire("10.0.0.99"));
+	}
+
+	private static AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(limiter, "initialLimit", initialLimit);
+		ReflectionTestUtils.setField(limiter, "minLimit", 4);
+		ReflectionTestUtils.setField(limiter, "maxLimit", 200);
+		ReflectionTestUtils.setField(limiter, "smoothing", 0.2);
+		ReflectionTestUtils.setField(limiter, "longWindowSamples", 600);
+		ReflectionTestUtils.setField(limiter, "perClientMaxInFlight", 2);
+		limiter.init();
+		return limiter;
+	}
+}
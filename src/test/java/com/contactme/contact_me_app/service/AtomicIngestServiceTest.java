@@ -0,0 +1,160 @@
+package com.contactme.contact_me_app.service;
+
+import com.contactme.contact_me_app.deadline.DeadlineGuard;
+import com.contactme.contact_me_app.dto.ContactFormRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Concurrent submissions through the contact_ingest function against PostgreSQL.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class AtomicIngestServiceTest {
+
+	@Container
+	private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	private static final int PARALLEL_REQUESTS = 20;
+	private static final int MAX_REQUESTS = 3;
+
+	private static JdbcTemplate jdbcTemplate;
+	private static AtomicIngestService service;
+
+	@BeforeAll
+	static void installFunction() throws Exception {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		jdbcTemplate.execute("""
+				create table contact_form_submissions (
+				    id bigserial primary key,
+				    full_name varchar(255),
+				    email varchar(255),
+				    subject varchar(255),
+				    message_text text,
+				    sent_at timestamptz,
+				    is_read boolean,
+				    notification_retry_count integer)
+				""");
+		jdbcTemplate.execute("""
+				create table contact_form_submissions_ip (
+				    id bigserial primary key,
+				    ip_address varchar(45) not null,
+				    submission_time timestamptz not null)
+				""");
+		jdbcTemplate.execute("""
+				create table contact_form_submissions_email (
+				    id bigserial primary key,
+				    email_hash bigint not null,
+				    submission_time timestamptz not null)
+				""");
+
+		service = new AtomicIngestService(jdbcTemplate, transactionManager,
+				new DeadlineGuard(transactionManager, new SimpleMeterRegistry()), new ClassPathResource("db/contact_ingest.sql"));
+		ReflectionTestUtils.setField(service, "mode", IngestMode.ATOMIC);
+		ReflectionTestUtils.setField(service, "ipMaxRequests", MAX_REQUESTS);
+		ReflectionTestUtils.setField(service, "ipWindowMinutes", 1440);
+		ReflectionTestUtils.setField(service, "emailLimitEnabled", true);
+		ReflectionTestUtils.setField(service, "emailMaxRequests", MAX_REQUESTS);
+		ReflectionTestUtils.setField(service, "emailWindowMinutes", 1440);
+		service.installFunction();
+	}
+
+	@BeforeEach
+	void clearTables() {
+		jdbcTemplate.execute("truncate contact_form_submissions, contact_form_submissions_ip, contact_form_submissions_email");
+		ReflectionTestUtils.setField(service, "ipCooldownMinutes", 0);
+		ReflectionTestUtils.setField(service, "emailCooldownMinutes", 0);
+	}
+
+	@Test
+	void parallelRequestsFromOneIpAdmitExactlyTheLimit() throws Exception {
+		List<AtomicIngestService.Result> results = ingestInParallel(i -> "sender" + i + "@example.com", i -> "203.0.113.7");
+
+		assertEquals(MAX_REQUESTS, admitted(results));
+		assertEquals(PARALLEL_REQUESTS - MAX_REQUESTS, rejectedBy(results, "ip"));
+		assertEquals(MAX_REQUESTS, count("contact_form_submissions"));
+		assertEquals(MAX_REQUESTS, count("contact_form_submissions_ip"));
+	}
+
+	@Test
+	void parallelRequestsFromOneSenderAdmitExactlyTheLimit() throws Exception {
+		List<AtomicIngestService.Result> results = ingestInParallel(i -> "same@example.com", i -> "203.0.113." + i);
+
+		assertEquals(MAX_REQUESTS, admitted(results));
+		assertEquals(PARALLEL_REQUESTS - MAX_REQUESTS, rejectedBy(results, "email"));
+		assertEquals(MAX_REQUESTS, count("contact_form_submissions"));
+		// A submission rejected by the email limit is not recorded for the IP limit
+		assertEquals(MAX_REQUESTS, count("contact_form_submissions_ip"));
+	}
+
+	@Test
+	void cooldownAdmitsOneOfParallelRequests() throws Exception {
+		ReflectionTestUtils.setField(service, "ipCooldownMinutes", 5);
+
+		List<AtomicIngestService.Result> results = ingestInParallel(i -> "sender" + i + "@example.com", i -> "203.0.113.7");
+
+		assertEquals(1, admitted(results));
+		assertEquals(1, count("contact_form_submissions"));
+	}
+
+	private static List<AtomicIngestService.Result> ingestInParallel(IntFunction<String> email, IntFunction<String> ip) throws Exception {
+		ExecutorService threads = Executors.newFixedThreadPool(PARALLEL_REQUESTS);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<AtomicIngestService.Result>> futures = new ArrayList<>();
+			for (int i = 0; i < PARALLEL_REQUESTS; i++) {
+				ContactFormRequest request = new ContactFormRequest();
+				request.setFullName("Sender " + i);
+				request.setEmail(email.apply(i));
+				request.setSubject("Hello");
+				request.setMessageText("Message " + i);
+				String ipAddress = ip.apply(i);
+				futures.add(threads.submit(() -> {
+					start.await();
+					return service.ingest(request, ipAddress, EmailRateLimitService.keyOf(request.getEmail()));
+				}));
+			}
+			start.countDown();
+			List<AtomicIngestService.Result> results = new ArrayList<>();
+			for (Future<AtomicIngestService.Result> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		} finally {
+			threads.shutdownNow();
+		}
+	}
+
+	private static long admitted(List<AtomicIngestService.Result> results) {
+		return results.stream().filter(result -> !result.isRateLimited()).count();
+	}
+
+	private static long rejectedBy(List<AtomicIngestService.Result> results, String limitedBy) {
+		return results.stream().filter(result -> limitedBy.equals(result.getLimitedBy())).count();
+	}
+
+	private static long count(String table) {
+		return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+	}
+}
@@ -0,0 +1,53 @@
+package com.contactme.contact_me_app.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class EmailRateLimitServiceTest {
+
+	@Test
+	void normalizeLowerCasesAndTrims() {
+		assertEquals("ada@example.com", EmailRateLimitService.normalize("  Ada@Example.COM "));
+	}
+
+	@Test
+	void normalizeDropsThePlusTag() {
+		assertEquals("ada@example.com", EmailRateLimitService.normalize("ada+contact@example.com"));
+		assertEquals("ada@example.com", EmailRateLimitService.normalize("ada+a+b@example.com"));
+		// A leading plus is not a tag
+		assertEquals("+ada@example.com", EmailRateLimitService.normalize("+ada@example.com"));
+	}
+
+	@Test
+	void normalizeDropsDotsForGmailOnly() {
+		assertEquals("adalovelace@gmail.com", EmailRateLimitService.normalize("Ada.Lovelace+x@gmail.com"));
+		assertEquals("adalovelace@gmail.com", EmailRateLimitService.normalize("ada.lovelace@googlemail.com"));
+		assertEquals("ada.lovelace@example.com", EmailRateLimitService.normalize("ada.lovelace@example.com"));
+	}
+
+	@Test
+	void normalizeUsesTheLastAtSign() {
+		assertEquals("\"a@b\"@example.com", EmailRateLimitService.normalize("\"a@b\"@Example.com"));
+		assertEquals("no-at-sign", EmailRateLimitService.normalize("No-At-Sign"));
+		assertEquals("@example.com", EmailRateLimitService.normalize("@Example.com"));
+	}
+
+	@Test
+	void keyOfIsTheSameForVariantsOfOneMailbox() {
+		long key = EmailRateLimitService.keyOf("ada.lovelace@gmail.com");
+
+		assertEquals(key, EmailRateLimitService.keyOf("AdaLovelace+newsletter@gmail.com"));
+		assertEquals(key, EmailRateLimitService.keyOf(" a.d.a.lovelace@googlemail.com"));
+		assertNotEquals(key, EmailRateLimitService.keyOf("ada.lovelace@example.com"));
+		assertNotEquals(EmailRateLimitService.keyOf("ada@example.com"), EmailRateLimitService.keyOf("bob@example.com"));
+	}
+
+	@Test
+	void keyOfIsStable() {
+		// Keys are stored in the database, so the derivation must not change between releases:
+		// the first 8 bytes of the SHA-256 of the normalized address
+		assertEquals(0xb5fc85e55755f9e0L, EmailRateLimitService.keyOf(" Ada+x@Example.com"));
+	}
+}
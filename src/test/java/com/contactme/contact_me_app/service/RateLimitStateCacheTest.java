@@ -0,0 +1,125 @@
+package com.contactme.contact_me_app.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RateLimitStateCacheTest {
+
+	private static final OffsetDateTime NOW = OffsetDateTime.now(ZoneOffset.UTC).withNano(0);
+
+	private Path directory;
+	private Path snapshot;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = Files.createTempDirectory("rate-limit");
+		snapshot = directory.resolve("rate-limit.snapshot");
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(path);
+			}
+		}
+	}
+
+	@Test
+	void snapshotRoundTripsTheHistoryWithinTheWindow() {
+		RateLimitStateCache written = cache();
+		written.putSubmissionTimes("203.0.113.7", List.of(NOW.minusMinutes(5), NOW.minusMinutes(1)));
+		written.recordSubmission("2001:db8::1", NOW.minusMinutes(2));
+		// Already outside the 24 hour window; dropped when the snapshot is written
+		written.recordSubmission("198.51.100.9", NOW.minusDays(2));
+		written.writeSnapshot();
+
+		RateLimitStateCache loaded = load();
+
+		assertEquals(2, loaded.size());
+		assertEquals(List.of(NOW.minusMinutes(5), NOW.minusMinutes(1)),
+				loaded.getSubmissionTimes("203.0.113.7", NOW.minusHours(1)));
+		assertEquals(List.of(NOW.minusMinutes(2)), loaded.getSubmissionTimes("2001:db8::1", NOW.minusHours(1)));
+		assertNull(loaded.getSubmissionTimes("198.51.100.9", NOW.minusDays(3)));
+	}
+
+	@Test
+	void truncatedSnapshotIsIgnored() throws IOException {
+		writeTwoIps();
+		byte[] bytes = Files.readAllBytes(snapshot);
+		for (int length : new int[]{0, 10, bytes.length / 2, bytes.length - 1}) {
+			Files.write(snapshot, Arrays.copyOf(bytes, length));
+			assertEquals(0, load().size(), "truncated to " + length + " bytes");
+		}
+	}
+
+	@Test
+	void snapshotWithAFlippedByteIsIgnored() throws IOException {
+		writeTwoIps();
+		byte[] bytes = Files.readAllBytes(snapshot);
+		for (int i = 0; i < bytes.length; i++) {
+			byte[] corrupt = bytes.clone();
+			corrupt[i] ^= 0x01;
+			Files.write(snapshot, corrupt);
+			assertEquals(0, load().size(), "flipped byte " + i);
+		}
+	}
+
+	@Test
+	void snapshotThatDoesNotParseIsNotHalfLoaded() throws IOException {
+		// A valid checksum over a body that claims a second entry it does not contain
+		ByteBuffer body = ByteBuffer.allocate(64);
+		body.putInt(0x524C5353).putInt(1).putLong(NOW.toEpochSecond()).putInt(2);
+		byte[] ip = "203.0.113.7".getBytes(StandardCharsets.UTF_8);
+		body.putShort((short) ip.length).put(ip).put((byte) 1).putLong(NOW.minusMinutes(1).toEpochSecond());
+		CRC32 crc = new CRC32();
+		crc.update(body.array(), 0, body.position());
+		body.putInt((int) crc.getValue());
+		Files.write(snapshot, Arrays.copyOf(body.array(), body.position()));
+
+		RateLimitStateCache loaded = load();
+
+		assertEquals(0, loaded.size());
+		assertNull(loaded.getSubmissionTimes("203.0.113.7", NOW.minusHours(1)));
+	}
+
+	private void writeTwoIps() {
+		RateLimitStateCache written = cache();
+		written.recordSubmission("203.0.113.7", NOW.minusMinutes(1));
+		written.recordSubmission("2001:db8::1", NOW.minusMinutes(2));
+		written.writeSnapshot();
+	}
+
+	private RateLimitStateCache load() {
+		RateLimitStateCache cache = cache();
+		cache.loadSnapshot();
+		return cache;
+	}
+
+	private RateLimitStateCache cache() {
+		RateLimitStateCache cache = new RateLimitStateCache();
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxEntries", 100);
+		ReflectionTestUtils.setField(cache, "overallWindowMinutes", 1440);
+		ReflectionTestUtils.setField(cache, "snapshotPath", snapshot.toString());
+		return cache;
+	}
+}
@@ -0,0 +1,66 @@
+package com.contactme.contact_me_app.service;
+
+import com.contactme.contact_me_app.dto.MarkReadResponse;
+import com.contactme.contact_me_app.repository.ContactFormRepository;
+import com.contactme.contact_me_app.stats.SubmissionRollupService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SubmissionReadServiceTest {
+
+	private final ContactFormRepository repository = mock(ContactFormRepository.class);
+	private SubmissionReadService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new SubmissionReadService(repository, mock(PlatformTransactionManager.class),
+				new SimpleMeterRegistry(), mock(SubmissionRollupService.class));
+		ReflectionTestUtils.setField(service, "idWindow", 5000L);
+		when(repository.markReadByIdRange(anyLong(), anyLong())).thenReturn(1);
+	}
+
+	@Test
+	void clampsARangeToTheExistingIds() {
+		when(repository.findIdBounds()).thenReturn(bounds(100L, 12_000L));
+
+		MarkReadResponse response = service.markReadByIdRange(1, Long.MAX_VALUE);
+
+		assertEquals(3, response.getStatements());
+		verify(repository).markReadByIdRange(100, 5099);
+		verify(repository).markReadByIdRange(5100, 10_099);
+		verify(repository).markReadByIdRange(10_100, 12_000);
+		verify(repository, times(3)).markReadByIdRange(anyLong(), anyLong());
+	}
+
+	@Test
+	void runsNoStatementForARangeOutsideTheExistingIds() {
+		when(repository.findIdBounds()).thenReturn(bounds(100L, 200L));
+		assertEquals(0, service.markReadByIdRange(500, 900).getStatements());
+
+		when(repository.findIdBounds()).thenReturn(bounds(null, null));
+		assertEquals(0, service.markReadByIdRange(1, 10).getStatements());
+
+		verify(repository, never()).markReadByIdRange(anyLong(), anyLong());
+	}
+
+	private static ContactFormRepository.IdBounds bounds(Long minId, Long maxId) {
+		return new ContactFormRepository.IdBounds() {
+			@Override
+			public Long getMinId() { return minId; }
+
+			@Override
+			public Long getMaxId() { return maxId; }
+		};
+	}
+}
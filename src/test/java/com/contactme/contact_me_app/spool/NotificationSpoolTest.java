@@ -0,0 +1,147 @@
+package com.contactme.contact_me_app.spool;
+
+import com.contactme.contact_me_app.dto.NotificationMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationSpoolTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private Path directory;
+	private NotificationSpool spool;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = Files.createTempDirectory("spool");
+		spool = open(3);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		spool.close();
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(path);
+			}
+		}
+	}
+
+	@Test
+	void returnsMessagesInOrderUntilCommitted() {
+		assertTrue(spool.isEmpty());
+		assertTrue(spool.append(message(1)));
+		assertTrue(spool.append(message(2)));
+
+		assertEquals("Sender 1", spool.peek().getFullName());
+		assertEquals("Sender 1", spool.peek().getFullName());
+		spool.commit();
+		assertEquals("Sender 2", spool.peek().getFullName());
+		spool.commit();
+		assertNull(spool.peek());
+		assertTrue(spool.isEmpty());
+	}
+
+	@Test
+	void keepsUnreadMessagesAndTheCheckpointedCursorAcrossAReopen() throws IOException {
+		for (int i = 1; i <= 5; i++) {
+			spool.append(message(i));
+		}
+		spool.peek();
+		spool.commit();
+		spool.checkpoint();
+		spool.close();
+
+		spool = open(3);
+		assertEquals("Sender 2", spool.peek().getFullName());
+	}
+
+	@Test
+	void replaysCommitsSinceTheLastCheckpointAfterACrash() throws IOException {
+		for (int i = 1; i <= 5; i++) {
+			spool.append(message(i));
+		}
+		// The third commit reaches the checkpoint interval, the fourth is not checkpointed
+		for (int i = 0; i < 4; i++) {
+			spool.peek();
+			spool.commit();
+		}
+
+		// No close: the process died
+		NotificationSpool restarted = open(3);
+		assertEquals("Sender 4", restarted.peek().getFullName());
+		restarted.close();
+	}
+
+	@Test
+	void movesToTheNextSegmentAndDropsTheDrainedOne() throws IOException {
+		spool.close();
+		spool = open(1, 512, 4);
+		for (int i = 1; i <= 10; i++) {
+			assertTrue(spool.append(message(i)));
+		}
+		long segmentsBefore = segmentFiles();
+		assertTrue(segmentsBefore > 1);
+
+		for (int i = 1; i <= 10; i++) {
+			assertEquals("Sender " + i, spool.peek().getFullName());
+			spool.commit();
+		}
+		assertNull(spool.peek());
+		assertEquals(1, segmentFiles());
+	}
+
+	@Test
+	void countsMessagesDroppedWhenTheSpoolIsFull() throws IOException {
+		spool.close();
+		spool = open(1, 256, 1);
+		int stored = 0;
+		while (spool.append(message(stored))) {
+			stored++;
+		}
+		assertFalse(spool.append(message(stored)));
+
+		assertEquals(2.0, meterRegistry.get("contact.notification.spool.dropped").tag("reason", "full").counter().count());
+		// What was stored is still delivered
+		assertEquals("Sender 0", spool.peek().getFullName());
+	}
+
+	private NotificationSpool open(int checkpointEvery) throws IOException {
+		return open(checkpointEvery, 4096, 4);
+	}
+
+	private NotificationSpool open(int checkpointEvery, int segmentSizeBytes, int maxSegments) throws IOException {
+		NotificationSpool opened = new NotificationSpool(new ObjectMapper(), meterRegistry);
+		ReflectionTestUtils.setField(opened, "directory", directory.toString());
+		ReflectionTestUtils.setField(opened, "segmentSizeBytes", segmentSizeBytes);
+		ReflectionTestUtils.setField(opened, "maxSegments", maxSegments);
+		ReflectionTestUtils.setField(opened, "fsyncEachAppend", false);
+		ReflectionTestUtils.setField(opened, "checkpointEvery", checkpointEvery);
+		opened.open();
+		return opened;
+	}
+
+	private long segmentFiles() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(path -> path.toString().endsWith(".seg")).count();
+		}
+	}
+
+	private static NotificationMessage message(int i) {
+		return new NotificationMessage("Sender " + i, "sender" + i + "@example.com", "Subject", "Message " + i);
+	}
+}
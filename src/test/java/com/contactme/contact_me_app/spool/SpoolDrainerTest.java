@@ -0,0 +1,117 @@
+package com.contactme.contact_me_app.spool;
+
+import com.contactme.contact_me_app.dto.NotificationMessage;
+import com.contactme.contact_me_app.exception.UnexpectedException;
+import com.contactme.contact_me_app.publisher.CompositePublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SpoolDrainerTest {
+
+	private final CompositePublisher publisher = mock(CompositePublisher.class);
+	private Path directory;
+	private NotificationSpool spool;
+	private SpoolDrainer drainer;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = Files.createTempDirectory("spool-drainer");
+		spool = open();
+		drainer = new SpoolDrainer(spool, publisher);
+		ReflectionTestUtils.setField(drainer, "maxPerSecond", 1_000_000);
+		ReflectionTestUtils.setField(drainer, "batchSize", 3);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		spool.close();
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(path);
+			}
+		}
+	}
+
+	@Test
+	void replaysOneBatchInOrderAndCheckpointsTheCursor() throws IOException {
+		for (int i = 1; i <= 5; i++) {
+			spool.append(message(i));
+		}
+
+		drainer.drain();
+
+		ArgumentCaptor<NotificationMessage> replayed = ArgumentCaptor.forClass(NotificationMessage.class);
+		verify(publisher, times(3)).dispatch(replayed.capture());
+		assertEquals(List.of("Sender 1", "Sender 2", "Sender 3"),
+				replayed.getAllValues().stream().map(NotificationMessage::getFullName).toList());
+		// The batch was checkpointed, although fewer than checkpoint-every messages were committed
+		assertEquals("Sender 4", reopenAndPeek());
+	}
+
+	@Test
+	void stopsAtTheFirstFailureAndKeepsTheMessage() throws IOException {
+		spool.append(message(1));
+		spool.append(message(2));
+		doNothing().doThrow(new UnexpectedException("brokers down")).when(publisher).dispatch(any());
+
+		drainer.drain();
+
+		verify(publisher, times(2)).dispatch(any());
+		assertEquals("Sender 2", spool.peek().getFullName());
+		assertEquals("Sender 2", reopenAndPeek());
+	}
+
+	@Test
+	void doesNothingWhileTheSpoolIsEmpty() {
+		doThrow(new IllegalStateException("not expected")).when(publisher).dispatch(any());
+
+		drainer.drain();
+
+		assertTrue(spool.isEmpty());
+	}
+
+	private String reopenAndPeek() throws IOException {
+		NotificationSpool reopened = open();
+		try {
+			return reopened.peek().getFullName();
+		} finally {
+			reopened.close();
+		}
+	}
+
+	private NotificationSpool open() throws IOException {
+		NotificationSpool opened = new NotificationSpool(new ObjectMapper(), new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(opened, "directory", directory.toString());
+		ReflectionTestUtils.setField(opened, "segmentSizeBytes", 4096);
+		ReflectionTestUtils.setField(opened, "maxSegments", 4);
+		ReflectionTestUtils.setField(opened, "fsyncEachAppend", false);
+		ReflectionTestUtils.setField(opened, "checkpointEvery", 50);
+		opened.open();
+		return opened;
+	}
+
+	private static NotificationMessage message(int i) {
+		return new NotificationMessage("Sender " + i, "sender" + i + "@example.com", "Subject", "Message " + i);
+	}
+}
@@ -0,0 +1,116 @@
+package com.contactme.contact_me_app.spool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpoolSegmentTest {
+
+	private static final int SIZE = 256;
+
+	private Path directory;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = Files.createTempDirectory("spool-segment");
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(path);
+			}
+		}
+	}
+
+	@Test
+	void appendsRecordsAndRecoversTheWritePositionOnReopen() throws IOException {
+		SpoolSegment segment = SpoolSegment.create(directory, 1, SIZE);
+		assertTrue(segment.append(bytes("first"), true));
+		assertTrue(segment.append(bytes("second"), true));
+		int written = segment.getWritePosition();
+		segment.close();
+
+		SpoolSegment reopened = SpoolSegment.open(directory, 1, SIZE);
+		assertEquals(written, reopened.getWritePosition());
+		assertArrayEquals(bytes("first"), reopened.readAt(0));
+		assertArrayEquals(bytes("second"), reopened.readAt(SpoolSegment.HEADER_BYTES + 5));
+		assertNull(reopened.readAt(written));
+		reopened.close();
+	}
+
+	@Test
+	void refusesARecordThatDoesNotFit() throws IOException {
+		SpoolSegment segment = SpoolSegment.create(directory, 1, SIZE);
+		assertFalse(segment.append(new byte[SIZE], false));
+		assertTrue(segment.append(new byte[SIZE - SpoolSegment.HEADER_BYTES], false));
+		assertFalse(segment.append(bytes("x"), false));
+		segment.close();
+	}
+
+	@Test
+	void stopsAtATornRecordOnReopen() throws IOException {
+		SpoolSegment segment = SpoolSegment.create(directory, 1, SIZE);
+		segment.append(bytes("complete"), true);
+		int torn = segment.getWritePosition();
+		segment.close();
+
+		// Crash mid-write: the length reached the disk, the payload and checksum did not
+		writeInt(torn, 10);
+		SpoolSegment reopened = SpoolSegment.open(directory, 1, SIZE);
+		assertEquals(torn, reopened.getWritePosition());
+		assertNull(reopened.readAt(torn));
+
+		// The next append overwrites the torn record
+		assertTrue(reopened.append(bytes("after"), true));
+		assertArrayEquals(bytes("after"), reopened.readAt(torn));
+		reopened.close();
+	}
+
+	@Test
+	void treatsAChecksumMismatchAsTheEndOfTheData() throws IOException {
+		SpoolSegment segment = SpoolSegment.create(directory, 1, SIZE);
+		segment.append(bytes("first"), true);
+		int second = segment.getWritePosition();
+		segment.append(bytes("second"), true);
+		segment.close();
+
+		Path file = directory.resolve(SpoolSegment.fileName(1));
+		byte[] content = Files.readAllBytes(file);
+		content[second + SpoolSegment.HEADER_BYTES] ^= 0x01;
+		Files.write(file, content);
+
+		SpoolSegment reopened = SpoolSegment.open(directory, 1, SIZE);
+		assertArrayEquals(bytes("first"), reopened.readAt(0));
+		assertNull(reopened.readAt(second));
+		assertEquals(second, reopened.getWritePosition());
+		reopened.close();
+	}
+
+	private void writeInt(int position, int value) throws IOException {
+		try (FileChannel channel = FileChannel.open(directory.resolve(SpoolSegment.fileName(1)), StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.allocate(4).putInt(value).flip(), position);
+		}
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,42 @@
+package com.contactme.contact_me_app.stats;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HyperLogLogTest {
+
+	@Test
+	void estimatesDistinctCountsWithinAFewPercent() {
+		for (int distinct : new int[]{10, 1_000, 100_000, 1_000_000}) {
+			HyperLogLog sketch = new HyperLogLog();
+			for (int i = 0; i < distinct; i++) {
+				sketch.add("10." + (i >>> 16) + "." + ((i >>> 8) & 0xff) + "." + (i & 0xff));
+				// Repeated values do not change the estimate
+				sketch.add("10." + (i >>> 16) + "." + ((i >>> 8) & 0xff) + "." + (i & 0xff));
+			}
+			double relativeError = Math.abs(sketch.estimate() - distinct) / (double) distinct;
+			assertTrue(relativeError < 0.05, distinct + " distinct values estimated as " + sketch.estimate());
+		}
+	}
+
+	@Test
+	void mergeEqualsTheSketchOfTheUnion() {
+		HyperLogLog monday = new HyperLogLog();
+		HyperLogLog tuesday = new HyperLogLog();
+		HyperLogLog both = new HyperLogLog();
+		for (long key = 0; key < 60_000; key++) {
+			(key < 40_000 ? monday : tuesday).add(key);
+			if (key >= 20_000 && key < 40_000) {
+				tuesday.add(key);
+			}
+			both.add(key);
+		}
+
+		HyperLogLog restored = HyperLogLog.fromBytes(monday.toBytes());
+		restored.merge(tuesday);
+		assertEquals(both.estimate(), restored.estimate());
+		assertTrue(HyperLogLog.fromBytes(null).isEmpty());
+	}
+}
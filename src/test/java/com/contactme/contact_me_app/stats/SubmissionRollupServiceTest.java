@@ -0,0 +1,174 @@
+package com.contactme.contact_me_app.stats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SubmissionRollupServiceTest {
+
+	private static final Instant DAY = Instant.parse("2026-03-14T00:00:00Z");
+
+	private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+	private SubmissionRollupService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new SubmissionRollupService(jdbcTemplate, new NoOpTransactionManager());
+		ReflectionTestUtils.setField(service, "enabled", true);
+	}
+
+	@Test
+	void foldsHoursIntoTheirDays() {
+		service.seedTotal();
+		service.recordSubmission(1, "203.0.113.1", DAY.plusSeconds(10 * 3600 + 5));
+		service.recordSubmission(2, "203.0.113.2", DAY.plusSeconds(10 * 3600 + 1800));
+		service.recordSubmission(1, "203.0.113.1", DAY.plusSeconds(23 * 3600));
+		service.recordMarkedRead(2, DAY.plusSeconds(23 * 3600 + 60));
+		service.recordSubmission(3, "203.0.113.3", DAY.plusSeconds(25 * 3600));
+		jdbcTemplate.reset();
+
+		service.flush();
+
+		assertEquals(List.of(
+				counters("TOTAL", Instant.EPOCH, 4, 2),
+				counters("DAY", DAY, 3, 2),
+				counters("DAY", DAY.plusSeconds(24 * 3600), 1, 0),
+				counters("HOUR", DAY.plusSeconds(10 * 3600), 2, 0),
+				counters("HOUR", DAY.plusSeconds(23 * 3600), 1, 2),
+				counters("HOUR", DAY.plusSeconds(25 * 3600), 1, 0)), jdbcTemplate.counterUpserts);
+		// Every bucket with submissions merges its sketches
+		assertEquals(5, jdbcTemplate.sketchUpdates);
+
+		jdbcTemplate.reset();
+		service.flush();
+		assertEquals(0, jdbcTemplate.statements);
+	}
+
+	@Test
+	void requeuesAFailedFlush() {
+		service.seedTotal();
+		service.recordSubmission(1, "203.0.113.1", DAY.plusSeconds(3600));
+		service.recordSubmission(2, "203.0.113.2", DAY.plusSeconds(3600));
+		jdbcTemplate.failing = true;
+		service.flush();
+
+		jdbcTemplate.failing = false;
+		jdbcTemplate.reset();
+		service.recordSubmission(3, "203.0.113.3", DAY.plusSeconds(3700));
+		service.flush();
+
+		assertEquals(List.of(
+				counters("TOTAL", Instant.EPOCH, 3, 0),
+				counters("DAY", DAY, 3, 0),
+				counters("HOUR", DAY.plusSeconds(3600), 3, 0)), jdbcTemplate.counterUpserts);
+	}
+
+	@Test
+	void addsOnlySubmissionsRecordedAfterTheSeedToTheTotal() {
+		// The database is not reachable at startup: the submissions below are part of the later seed
+		jdbcTemplate.failing = true;
+		service.seedTotal();
+		jdbcTemplate.failing = false;
+		service.recordSubmission(1, "203.0.113.1", DAY.plusSeconds(3600));
+		service.recordMarkedRead(1, DAY.plusSeconds(3600));
+
+		service.flush();
+
+		assertEquals(1, jdbcTemplate.seeds);
+		assertEquals(List.of(
+				counters("DAY", DAY, 1, 1),
+				counters("HOUR", DAY.plusSeconds(3600), 1, 1)), jdbcTemplate.counterUpserts);
+
+		jdbcTemplate.reset();
+		service.recordSubmission(2, "203.0.113.2", DAY.plusSeconds(3700));
+		service.flush();
+
+		assertEquals(1, jdbcTemplate.seeds);
+		assertEquals(counters("TOTAL", Instant.EPOCH, 1, 0), jdbcTemplate.counterUpserts.get(0));
+	}
+
+	@Test
+	void seedsTheTotalAtStartup() {
+		service.seedTotal();
+		service.recordSubmission(1, "203.0.113.1", DAY);
+
+		service.flush();
+
+		assertEquals(1, jdbcTemplate.seeds);
+		assertEquals(counters("TOTAL", Instant.EPOCH, 1, 0), jdbcTemplate.counterUpserts.get(0));
+	}
+
+	private static List<Object> counters(String granularity, Instant bucket, long submissions, long markedRead) {
+		return List.of(granularity, bucket.atOffset(ZoneOffset.UTC), submissions, markedRead);
+	}
+
+	/**
+	 * Records the statements instead of running them; sketches are read back empty.
+	 */
+	private static final class RecordingJdbcTemplate extends JdbcTemplate {
+
+		private final List<List<Object>> counterUpserts = new ArrayList<>();
+		private int statements;
+		private int seeds;
+		private int sketchUpdates;
+		private boolean failing;
+
+		@Override
+		public int update(String sql, Object... args) {
+			if (failing) {
+				throw new DataAccessResourceFailureException("database unavailable");
+			}
+			statements++;
+			if (sql.contains("count(*)")) {
+				seeds++;
+			} else if (sql.startsWith("insert")) {
+				counterUpserts.add(List.of(args));
+			} else if (sql.startsWith("update")) {
+				sketchUpdates++;
+			}
+			return 1;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T queryForObject(String sql, RowMapper<T> rowMapper, Object... args) {
+			return (T) new HyperLogLog[]{new HyperLogLog(), new HyperLogLog()};
+		}
+
+		private void reset() {
+			counterUpserts.clear();
+			statements = 0;
+			sketchUpdates = 0;
+		}
+	}
+
+	private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+		@Override
+		public TransactionStatus getTransaction(TransactionDefinition definition) {
+			return new SimpleTransactionStatus();
+		}
+
+		@Override
+		public void commit(TransactionStatus status) {
+		}
+
+		@Override
+		public void rollback(TransactionStatus status) {
+		}
+	}
+}
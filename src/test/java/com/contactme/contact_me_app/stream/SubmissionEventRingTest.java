@@ -0,0 +1,29 @@
+package com.contactme.contact_me_app.stream;
+
+import com.contactme.contact_me_app.dto.SubmissionEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SubmissionEventRingTest {
+
+	@Test
+	void readersSeeOverwrittenSlotsAsMissing() {
+		SubmissionEventRing ring = new SubmissionEventRing(4);
+		assertEquals(-1, ring.cursor());
+		for (long id = 1; id <= 6; id++) {
+			assertEquals(id - 1, ring.publish(new SubmissionEvent(id, "Sender " + id, null, OffsetDateTime.now())));
+		}
+
+		assertEquals(5, ring.cursor());
+		// Sequences 0 and 1 were overwritten by 4 and 5
+		assertNull(ring.get(0));
+		assertNull(ring.get(1));
+		for (long sequence = 2; sequence <= 5; sequence++) {
+			assertEquals(sequence + 1, ring.get(sequence).getId());
+		}
+	}
+}
@@ -0,0 +1,167 @@
+package com.contactme.contact_me_app.stream;
+
+import com.contactme.contact_me_app.dto.SubmissionEvent;
+import com.contactme.contact_me_app.repository.ContactFormRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SubmissionStreamServiceTest {
+
+	private final ContactFormRepository repository = mock(ContactFormRepository.class);
+	private SubmissionStreamService service;
+	private RecordingEmitter emitter;
+
+	@BeforeEach
+	void setUp() {
+		// The dispatcher never fires during a test; drain() is called directly
+		service = new SubmissionStreamService(repository, new SimpleMeterRegistry(), 4, 1, 3_600_000);
+		ReflectionTestUtils.setField(service, "heartbeatMillis", 3_600_000L);
+		ReflectionTestUtils.setField(service, "slowClientPolicy", SlowClientPolicy.DROP);
+		ReflectionTestUtils.setField(service, "replayMaxEvents", 1000);
+		ReflectionTestUtils.setField(service, "replayOverlapIds", 5);
+		emitter = new RecordingEmitter();
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+	}
+
+	@Test
+	void drainSendsEachRingEventOnce() {
+		SubmissionStreamService.Subscriber subscriber = service.register(emitter, null);
+		publish(1, 2);
+		subscriber.drain();
+		publish(3);
+		subscriber.drain();
+		subscriber.drain();
+
+		assertEquals(List.of("submission 1", "submission 2", "submission 3"), emitter.sent);
+	}
+
+	@Test
+	void replayOverlapsIdsBelowLastEventIdAndSkipsWhatTheRingRepeats() {
+		// 8 committed after 10 and was never delivered; 12 was committed before the replay query and published after
+		givenEvents(5, 6, 7, 8, 9, 10, 11, 12);
+		SubmissionStreamService.Subscriber subscriber = service.register(emitter, 10L);
+		publish(12, 13);
+		subscriber.drain();
+
+		assertEquals(List.of("submission 6", "submission 7", "submission 8", "submission 9",
+				"submission 11", "submission 12", "submission 13"), emitter.sent);
+	}
+
+	@Test
+	void replayEndsWithAGapAfterTheLimit() {
+		ReflectionTestUtils.setField(service, "replayMaxEvents", 2);
+		givenEvents(5, 9, 11, 12, 13);
+		service.register(emitter, 10L).drain();
+
+		// The overlap window does not count against the limit
+		assertEquals(List.of("submission 9", "submission 11", "submission 12", "gap replay-limit"), emitter.sent);
+	}
+
+	@Test
+	void dropsALappedSubscriber() {
+		SubmissionStreamService.Subscriber subscriber = service.register(emitter, null);
+		publish(1, 2, 3, 4, 5, 6);
+		subscriber.drain();
+
+		assertTrue(emitter.sent.isEmpty());
+		assertTrue(emitter.completed);
+		assertEquals(0, service.subscriberCount());
+	}
+
+	@Test
+	void skipsALappedSubscriberToTheOldestEventInTheRing() {
+		ReflectionTestUtils.setField(service, "slowClientPolicy", SlowClientPolicy.SKIP);
+		SubmissionStreamService.Subscriber subscriber = service.register(emitter, null);
+		publish(1, 2, 3, 4, 5, 6);
+		subscriber.drain();
+
+		assertEquals(List.of("gap 2", "submission 3", "submission 4", "submission 5", "submission 6"), emitter.sent);
+		assertFalse(emitter.completed);
+		assertEquals(1, service.subscriberCount());
+	}
+
+	private void publish(long... ids) {
+		for (long id : ids) {
+			service.publish(event(id));
+		}
+	}
+
+	private void givenEvents(long afterId, long... ids) {
+		List<SubmissionEvent> events = new ArrayList<>();
+		for (long id : ids) {
+			events.add(event(id));
+		}
+		when(repository.findEventsAfter(eq(afterId), any(Pageable.class))).thenReturn(events);
+	}
+
+	private static SubmissionEvent event(long id) {
+		return new SubmissionEvent(id, "Sender " + id, "Subject", OffsetDateTime.now());
+	}
+
+	/**
+	 * Records every event as "name id" (or "name data" for events without an id).
+	 */
+	private static final class RecordingEmitter extends SseEmitter {
+		private final List<String> sent = new ArrayList<>();
+		private boolean completed;
+
+		@Override
+		public void send(SseEventBuilder builder) {
+			StringBuilder text = new StringBuilder();
+			for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+				// Object data (the submission JSON) is not needed; events are identified by their id
+				if (part.getData() instanceof String chunk) {
+					text.append(chunk);
+				}
+			}
+			String id = null;
+			String name = null;
+			String data = null;
+			for (String line : text.toString().split("\n")) {
+				if (line.startsWith("id:")) {
+					id = line.substring(3);
+				} else if (line.startsWith("event:")) {
+					name = line.substring(6);
+				} else if (line.startsWith("data:") && line.length() > 5) {
+					data = line.substring(5);
+				}
+			}
+			if (name != null) {
+				sent.add(name + " " + (id != null ? id : data));
+			}
+		}
+
+		@Override
+		public void send(Object object, MediaType mediaType) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+	}
+}